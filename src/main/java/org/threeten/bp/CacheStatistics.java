@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+/**
+ * A snapshot of the statistics of an internal cache.
+ * <p>
+ * Some operations are accelerated by internal caches, such as the cache of formatters
+ * created from patterns and the cache of transitions generated from the last rules of a time-zone.
+ * This class provides a read-only view of the counts of such a cache at a point in time,
+ * allowing the hit rate to be monitored. The counts are cumulative since the cache was created.
+ * <p>
+ * The counts are read without locking, thus a snapshot taken while the cache is in use
+ * may not reflect a single instant, but each count is exact at the time it was read.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class CacheStatistics {
+
+    /**
+     * The number of lookups that found a cached value.
+     */
+    private final long hitCount;
+    /**
+     * The number of lookups that did not find a cached value.
+     */
+    private final long missCount;
+    /**
+     * The number of values evicted.
+     */
+    private final long evictionCount;
+
+    /**
+     * Obtains an instance of {@code CacheStatistics} from the counts.
+     *
+     * @param hitCount  the number of lookups that found a cached value, not negative
+     * @param missCount  the number of lookups that did not find a cached value, not negative
+     * @param evictionCount  the number of values evicted, not negative
+     * @return the statistics, not null
+     * @throws IllegalArgumentException if any count is negative
+     */
+    public static CacheStatistics of(long hitCount, long missCount, long evictionCount) {
+        if (hitCount < 0 || missCount < 0 || evictionCount < 0) {
+            throw new IllegalArgumentException("Cache counts must not be negative");
+        }
+        return new CacheStatistics(hitCount, missCount, evictionCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param hitCount  the number of hits, validated
+     * @param missCount  the number of misses, validated
+     * @param evictionCount  the number of evictions, validated
+     */
+    private CacheStatistics(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of lookups that found a cached value.
+     *
+     * @return the number of hits, not negative
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups that did not find a cached value.
+     *
+     * @return the number of misses, not negative
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of values evicted from the cache.
+     * <p>
+     * This is zero for a cache that never evicts.
+     *
+     * @return the number of evictions, not negative
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the total number of lookups, being the sum of the hits and misses.
+     *
+     * @return the number of lookups, not negative
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the ratio of hits to lookups.
+     * <p>
+     * This returns 1.0 if there have been no lookups.
+     *
+     * @return the hit rate, from 0.0 to 1.0
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return (requests == 0 ? 1.0 : (double) hitCount / requests);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if these statistics are equal to another.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other statistics
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof CacheStatistics) {
+            CacheStatistics other = (CacheStatistics) obj;
+            return hitCount == other.hitCount && missCount == other.missCount &&
+                    evictionCount == other.evictionCount;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for these statistics.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        long hash = hitCount ^ (missCount * 31) ^ (evictionCount * 961);
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Outputs these statistics as a {@code String}.
+     *
+     * @return a string representation of these statistics, not null
+     */
+    @Override
+    public String toString() {
+        return "CacheStatistics[hits=" + hitCount + ",misses=" + missCount +
+                ",evictions=" + evictionCount + "]";
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A clock that returns an instant cached from an underlying clock, refreshed by a background ticker.
+ * <p>
+ * Stamping logs and metrics typically needs the current time once per request, where a precision
+ * of a millisecond or ten is plenty. This clock runs a daemon thread that reads the underlying clock
+ * once per interval and publishes the result. Reading the instant is then a single volatile load,
+ * with no allocation and no call to the underlying clock.
+ * <p>
+ * The date-time in the zone of the clock is also available, via {@link #localDateTime()} and
+ * {@link #zonedDateTime()}. These are calculated at most once per tick and shared between callers.
+ * The {@code now(Clock)} methods of {@link LocalDateTime} and {@link ZonedDateTime} use them directly.
+ * <p>
+ * Instances are obtained using {@link #start(Clock, Duration)} and must be stopped using
+ * {@link #stop()} when no longer needed. Once stopped, or if the ticker thread fails,
+ * the clock falls back to reading the underlying clock on every call.
+ * The instant returned may lag the underlying clock by up to one interval, or by longer
+ * if the ticker thread is not scheduled in time.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe, but not immutable, as it racily caches the date-time of the last tick.
+ * It is not {@code Serializable}, as it is associated with a running thread.
+ */
+public final class CachedClock extends Clock {
+
+    /**
+     * The shared ticker.
+     */
+    private final Ticker ticker;
+    /**
+     * The zone.
+     */
+    private final ZoneId zone;
+    /**
+     * The date-time of the last tick in the zone, accessed racily as it is immutable.
+     */
+    private ZonedView view;
+
+    /**
+     * Starts a clock that caches the instant of the specified clock, refreshing it at the specified interval.
+     * <p>
+     * The underlying clock is read once before this method returns. This then starts a daemon thread
+     * which sleeps for the interval, then reads the underlying clock, repeatedly.
+     * The zone of the underlying clock is used.
+     *
+     * @param baseClock  the clock to cache, not null
+     * @param interval  the interval between ticks, positive, not null
+     * @return the running clock, not null
+     * @throws IllegalArgumentException if the interval is zero or negative
+     */
+    public static CachedClock start(Clock baseClock, Duration interval) {
+        Jdk8Methods.requireNonNull(baseClock, "baseClock");
+        Jdk8Methods.requireNonNull(interval, "interval");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        Ticker ticker = new Ticker(baseClock, interval.toNanos());
+        ticker.tick();
+        Thread thread = new Thread(ticker, "CachedClock-ticker");
+        thread.setDaemon(true);
+        ticker.thread = thread;
+        thread.start();
+        return new CachedClock(ticker, baseClock.getZone());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ticker  the ticker, not null
+     * @param zone  the zone, not null
+     */
+    private CachedClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Stops the ticker thread.
+     * <p>
+     * The clock, and any obtained from it using {@link #withZone(ZoneId)}, remain usable,
+     * reading the underlying clock on every call.
+     */
+    public void stop() {
+        ticker.stop();
+    }
+
+    /**
+     * Checks if the ticker thread is running and publishing instants.
+     *
+     * @return true if running, false if stopped or failed
+     */
+    public boolean isRunning() {
+        return ticker.tick != null;
+    }
+
+    /**
+     * Gets the interval between ticks.
+     *
+     * @return the interval, not null
+     */
+    public Duration getInterval() {
+        return Duration.ofNanos(ticker.intervalNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns a copy of this clock with a different time-zone.
+     * <p>
+     * The copy shares the ticker of this clock, thus stopping either stops both.
+     *
+     * @param zone  the time-zone to change to, not null
+     * @return a clock based on this clock with the specified time-zone, not null
+     */
+    @Override
+    public CachedClock withZone(ZoneId zone) {
+        if (zone.equals(this.zone)) {  // intentional NPE
+            return this;
+        }
+        return new CachedClock(ticker, zone);
+    }
+
+    @Override
+    public long millis() {
+        Tick tick = ticker.tick;
+        if (tick != null) {
+            return tick.millis;
+        }
+        return ticker.baseClock.millis();
+    }
+
+    @Override
+    public Instant instant() {
+        Tick tick = ticker.tick;
+        if (tick != null) {
+            return tick.instant;
+        }
+        return ticker.baseClock.instant();
+    }
+
+    /**
+     * Gets the local date-time of the last tick in the zone of this clock.
+     * <p>
+     * The result is calculated once per tick and shared.
+     *
+     * @return the current date-time, not null
+     */
+    public LocalDateTime localDateTime() {
+        return zonedDateTime().toLocalDateTime();
+    }
+
+    /**
+     * Gets the zoned date-time of the last tick in the zone of this clock.
+     * <p>
+     * The result is calculated once per tick and shared.
+     *
+     * @return the current date-time, not null
+     */
+    public ZonedDateTime zonedDateTime() {
+        Tick tick = ticker.tick;
+        if (tick == null) {
+            return ZonedDateTime.ofInstant(ticker.baseClock.instant(), zone);
+        }
+        ZonedView cached = view;
+        if (cached != null && cached.tick == tick) {
+            return cached.dateTime;
+        }
+        ZonedDateTime dateTime = ZonedDateTime.ofInstant(tick.instant, zone);
+        view = new ZonedView(tick, dateTime);
+        return dateTime;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "CachedClock[" + ticker.baseClock + "," + getInterval() + "," + zone + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The runnable that reads the underlying clock.
+     */
+    static final class Ticker implements Runnable {
+        private final Clock baseClock;
+        private final long intervalNanos;
+        /**
+         * The last tick, null when stopped.
+         */
+        volatile Tick tick;
+        /**
+         * Whether the ticker has been stopped.
+         */
+        private volatile boolean stopped;
+        /**
+         * The thread, set before it is started.
+         */
+        volatile Thread thread;
+
+        Ticker(Clock baseClock, long intervalNanos) {
+            this.baseClock = baseClock;
+            this.intervalNanos = intervalNanos;
+        }
+
+        void tick() {
+            Instant instant = baseClock.instant();
+            tick = new Tick(instant, instant.toEpochMilli());
+            if (stopped) {
+                tick = null;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                // the first tick was made by start()
+                while (sleep()) {
+                    tick();
+                }
+            } finally {
+                // whether stopped or failed, fall back to the underlying clock
+                tick = null;
+            }
+        }
+
+        /**
+         * Sleeps for one interval, resuming after spurious wake-ups.
+         *
+         * @return true if the interval elapsed, false if stopped
+         */
+        private boolean sleep() {
+            long deadline = System.nanoTime() + intervalNanos;
+            long remaining = intervalNanos;
+            while (stopped == false && remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            return stopped == false;
+        }
+
+        void stop() {
+            stopped = true;
+            tick = null;
+            Thread current = thread;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+        }
+    }
+
+    /**
+     * A published instant.
+     */
+    static final class Tick {
+        final Instant instant;
+        final long millis;
+
+        Tick(Instant instant, long millis) {
+            this.instant = instant;
+            this.millis = millis;
+        }
+    }
+
+    /**
+     * The date-time of a tick in a zone.
+     */
+    static final class ZonedView {
+        final Tick tick;
+        final ZonedDateTime dateTime;
+
+        ZonedView(Tick tick, ZonedDateTime dateTime) {
+            this.tick = tick;
+            this.dateTime = dateTime;
+        }
+    }
+
+}
@@ -33,11 +33,17 @@ package org.threeten.bp;
 
 import static org.threeten.bp.LocalTime.NANOS_PER_MINUTE;
 import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
 
 import java.io.Serializable;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
 
 /**
  * A clock providing access to the current instant, date and time using a time-zone.
@@ -92,6 +98,15 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  */
 public abstract class Clock {
 
+    /**
+     * The system clock in UTC.
+     */
+    private static final SystemClock UTC_CLOCK = new SystemClock(ZoneOffset.UTC);
+    /**
+     * The system clock in the last default time-zone, replaced when the default changes.
+     */
+    private static volatile SystemClock defaultZoneClock = UTC_CLOCK;
+
     /**
      * Obtains a clock that returns the current instant using the best available
      * system clock, converting to date and time using the UTC time-zone.
@@ -111,7 +126,7 @@ public abstract class Clock {
      * @return a clock that uses the best available system clock in the UTC zone, not null
      */
     public static Clock systemUTC() {
-        return new SystemClock(ZoneOffset.UTC);
+        return UTC_CLOCK;
     }
 
     /**
@@ -134,7 +149,13 @@ public abstract class Clock {
      * @see ZoneId#systemDefault()
      */
     public static Clock systemDefaultZone() {
-        return new SystemClock(ZoneId.systemDefault());
+        ZoneId zone = ZoneId.systemDefault();
+        SystemClock clock = defaultZoneClock;
+        if (clock.getZone().equals(zone) == false) {
+            clock = new SystemClock(zone);
+            defaultZoneClock = clock;
+        }
+        return clock;
     }
 
     /**
@@ -157,6 +178,36 @@ public abstract class Clock {
         return new SystemClock(zone);
     }
 
+    /**
+     * Obtains a clock that returns the current instant with nanosecond precision
+     * using the system clock.
+     * <p>
+     * The instant is calculated by adding the time elapsed according to
+     * {@link System#nanoTime()} to an anchor taken from {@link System#currentTimeMillis()}.
+     * This provides a resolution finer than a millisecond, allowing events
+     * that occur within the same millisecond to be ordered.
+     * The instants returned never move backwards, across all threads and
+     * all clocks obtained from this method.
+     * <p>
+     * The anchor is checked against the system clock once a second.
+     * If this clock has fallen behind, it steps forward to match.
+     * If it has run ahead, it runs more slowly until the system clock catches up,
+     * by at most one sixteenth of the elapsed time.
+     * While the system clock is stable, the drift is therefore bounded by the
+     * millisecond precision of the system clock plus the drift of the nanosecond
+     * timer over one second. If the system clock is set backwards, this clock
+     * converges on it gradually rather than stepping back.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}.
+     *
+     * @param zone  the time-zone to use to convert the instant to date-time, not null
+     * @return a clock that uses the nanosecond system timer in the specified zone, not null
+     */
+    public static Clock systemPrecise(ZoneId zone) {
+        Jdk8Methods.requireNonNull(zone, "zone");
+        return new PreciseClock(zone);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains a clock that returns the current instant ticking in whole seconds
@@ -306,6 +357,12 @@ public abstract class Clock {
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * The offset and date of the last call to a {@code now(Clock)} method.
+     * This is accessed racily, which is safe as the object is immutable.
+     */
+    private LocalDay localDay;
+
     /**
      * Constructor accessible by subclasses.
      */
@@ -367,6 +424,26 @@ public abstract class Clock {
      */
     public abstract Instant instant();
 
+    /**
+     * Gets the offset and local date of an instant from this clock.
+     * <p>
+     * The result is cached until the next offset transition or the end of the local day,
+     * whichever is first, so that successive calls to the {@code now(Clock)} methods
+     * only calculate the time-of-day.
+     *
+     * @param epochSecond  the epoch-second of an instant from this clock
+     * @return the offset and date valid for the epoch-second, not null
+     */
+    final LocalDay localDay(long epochSecond) {
+        ZoneId zone = getZone();
+        LocalDay day = localDay;
+        if (day == null || day.isValidFor(zone, epochSecond) == false) {
+            day = LocalDay.of(zone, epochSecond);
+            localDay = day;
+        }
+        return day;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this clock is equal to another clock.
@@ -391,6 +468,126 @@ public abstract class Clock {
         return super.hashCode();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The offset and local date of a range of instants in a zone.
+     * <p>
+     * The range runs from the later of the start of the local day and the previous
+     * offset transition, to the earlier of the end of the local day and the next transition.
+     * Within the range, the offset is fixed and the local date-time is found from the
+     * epoch-second by a subtraction.
+     */
+    static final class LocalDay {
+        /**
+         * The zone.
+         */
+        final ZoneId zone;
+        /**
+         * The offset throughout the range.
+         */
+        final ZoneOffset offset;
+        /**
+         * The local date throughout the range, null if outside the supported range of dates.
+         */
+        private final LocalDate date;
+        /**
+         * The local epoch-day throughout the range.
+         */
+        private final long epochDay;
+        /**
+         * The epoch-second of the start of the local date at the offset.
+         */
+        private final long dayStart;
+        /**
+         * The first epoch-second of the range, inclusive.
+         */
+        private final long start;
+        /**
+         * The last epoch-second of the range, exclusive.
+         */
+        private final long end;
+
+        private LocalDay(ZoneId zone, ZoneOffset offset, long epochDay, long dayStart, long start, long end) {
+            this.zone = zone;
+            this.offset = offset;
+            this.date = (EPOCH_DAY.range().isValidValue(epochDay) ? LocalDate.ofEpochDay(epochDay) : null);
+            this.epochDay = epochDay;
+            this.dayStart = dayStart;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Calculates the range containing an epoch-second.
+         *
+         * @param zone  the zone, not null
+         * @param epochSecond  the epoch-second
+         * @return the range, not null
+         */
+        static LocalDay of(ZoneId zone, long epochSecond) {
+            ZoneRules rules = zone.getRules();
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            ZoneOffset offset = rules.getOffset(instant);
+            long epochDay = Jdk8Methods.floorDiv(epochSecond + offset.getTotalSeconds(), SECONDS_PER_DAY);
+            long dayStart = epochDay * SECONDS_PER_DAY - offset.getTotalSeconds();
+            long start = dayStart;
+            long end = dayStart + SECONDS_PER_DAY;
+            if (rules.isFixedOffset() == false) {
+                // the nanosecond ensures a transition at exactly the epoch-second is found
+                ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 999999999));
+                if (previous != null) {
+                    start = Math.max(start, previous.toEpochSecond());
+                }
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+                if (next != null) {
+                    end = Math.min(end, next.toEpochSecond());
+                }
+            }
+            return new LocalDay(zone, offset, epochDay, dayStart, start, end);
+        }
+
+        /**
+         * Checks if this range contains the epoch-second in the zone.
+         *
+         * @param zone  the zone, not null
+         * @param epochSecond  the epoch-second
+         * @return true if the offset and date are valid for the epoch-second
+         */
+        boolean isValidFor(ZoneId zone, long epochSecond) {
+            return epochSecond >= start && epochSecond < end && (this.zone == zone || this.zone.equals(zone));
+        }
+
+        /**
+         * Gets the local date of this range.
+         *
+         * @return the local date, not null
+         * @throws DateTimeException if the date is outside the supported range of dates
+         */
+        LocalDate toLocalDate() {
+            return (date != null ? date : LocalDate.ofEpochDay(epochDay));
+        }
+
+        /**
+         * Gets the local time of an instant in this range.
+         *
+         * @param instant  the instant, within the range, not null
+         * @return the local time, not null
+         */
+        LocalTime toLocalTime(Instant instant) {
+            return LocalTime.ofSecondOfDay(instant.getEpochSecond() - dayStart, instant.getNano());
+        }
+
+        /**
+         * Gets the local date-time of an instant in this range.
+         *
+         * @param instant  the instant, within the range, not null
+         * @return the local date-time, not null
+         */
+        LocalDateTime toLocalDateTime(Instant instant) {
+            return LocalDateTime.of(toLocalDate(), toLocalTime(instant));
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock that always returns the latest time from
@@ -439,6 +636,204 @@ public abstract class Clock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that adds the elapsed {@link System#nanoTime()}
+     * to an anchor from {@link System#currentTimeMillis()}.
+     */
+    static final class PreciseClock extends Clock implements Serializable {
+        private static final long serialVersionUID = -2548407532618813318L;
+        /**
+         * The source shared by all instances, ensuring they agree.
+         */
+        private static final PreciseSource SOURCE = new PreciseSource();
+        private final ZoneId zone;
+
+        PreciseClock(ZoneId zone) {
+            this.zone = zone;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new PreciseClock(zone);
+        }
+        @Override
+        public long millis() {
+            return SOURCE.millis();
+        }
+        @Override
+        public Instant instant() {
+            return SOURCE.instant();
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof PreciseClock) {
+                return zone.equals(((PreciseClock) obj).zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return zone.hashCode() + 2;
+        }
+        @Override
+        public String toString() {
+            return "PreciseClock[" + zone + "]";
+        }
+    }
+
+    /**
+     * The source of nanosecond instants for {@code PreciseClock}.
+     * <p>
+     * Instants are held as nanoseconds from an origin second, which avoids overflow.
+     * The anchor is replaced at most once a second, and the latest value returned
+     * is tracked so that no caller ever observes the time moving backwards.
+     * The timer methods may be overridden for testing.
+     */
+    static class PreciseSource {
+        /**
+         * The interval between checks against the system clock.
+         */
+        static final long RESYNC_NANOS = NANOS_PER_SECOND;
+        /**
+         * The shift applied to the elapsed time to find the maximum slowdown.
+         */
+        static final int SLEW_SHIFT = 4;
+        /**
+         * Nanoseconds per millisecond.
+         */
+        private static final long NANOS_PER_MILLI = 1000000L;
+        /**
+         * The epoch second that nanosecond values are relative to.
+         */
+        private final long originSecond;
+        /**
+         * The current anchor.
+         */
+        private final AtomicReference<Anchor> anchor;
+        /**
+         * The latest nanosecond value returned.
+         */
+        private final AtomicLong latest = new AtomicLong(Long.MIN_VALUE);
+
+        PreciseSource() {
+            this(System.nanoTime(), System.currentTimeMillis());
+        }
+
+        PreciseSource(long nanoTime, long wallMillis) {
+            this.originSecond = Jdk8Methods.floorDiv(wallMillis, 1000);
+            this.anchor = new AtomicReference<Anchor>(new Anchor(nanoTime, toNanos(wallMillis), 0));
+        }
+
+        long nanoTime() {
+            return System.nanoTime();
+        }
+
+        long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        Instant instant() {
+            return Instant.ofEpochSecond(originSecond, nanos());
+        }
+
+        long millis() {
+            return originSecond * 1000 + Jdk8Methods.floorDiv(nanos(), NANOS_PER_MILLI);
+        }
+
+        /**
+         * Gets the current time as nanoseconds from the origin second.
+         *
+         * @return the nanoseconds from the origin, never less than a previous result
+         */
+        long nanos() {
+            // read the anchor first, so the elapsed time cannot be negative
+            Anchor current = anchor.get();
+            long nanoTime = nanoTime();
+            long elapsed = nanoTime - current.nanoTime;
+            long value;
+            if (elapsed >= RESYNC_NANOS) {
+                Anchor updated = resync(current, nanoTime);
+                value = (updated != null ? updated.nanos : current.read(elapsed));
+            } else {
+                value = current.read(elapsed);
+            }
+            long last = latest.get();
+            while (value > last) {
+                if (latest.compareAndSet(last, value)) {
+                    return value;
+                }
+                last = latest.get();
+            }
+            return last;
+        }
+
+        /**
+         * Replaces the anchor after checking against the system clock.
+         *
+         * @param current  the anchor in use, not null
+         * @param nanoTime  the nanosecond timer value to anchor at
+         * @return the new anchor, null if another thread replaced it first
+         */
+        private Anchor resync(Anchor current, long nanoTime) {
+            long wall = toNanos(currentTimeMillis());
+            long reading = current.read(nanoTime - current.nanoTime);
+            Anchor updated;
+            if (reading < wall) {
+                // behind, step forward
+                updated = new Anchor(nanoTime, wall, 0);
+            } else if (reading - wall < NANOS_PER_MILLI) {
+                // within the precision of the system clock
+                updated = new Anchor(nanoTime, reading, 0);
+            } else {
+                // ahead, slow down until the system clock catches up
+                updated = new Anchor(nanoTime, reading, reading - wall - NANOS_PER_MILLI + 1);
+            }
+            return (anchor.compareAndSet(current, updated) ? updated : null);
+        }
+
+        private long toNanos(long wallMillis) {
+            return (wallMillis - originSecond * 1000) * NANOS_PER_MILLI;
+        }
+
+        /**
+         * An immutable anchor relating the nanosecond timer to the wall clock.
+         */
+        static final class Anchor {
+            /**
+             * The nanosecond timer value.
+             */
+            final long nanoTime;
+            /**
+             * The nanoseconds from the origin at the timer value.
+             */
+            final long nanos;
+            /**
+             * The nanoseconds to lose by running slowly.
+             */
+            final long debt;
+
+            Anchor(long nanoTime, long nanos, long debt) {
+                this.nanoTime = nanoTime;
+                this.nanos = nanos;
+                this.debt = debt;
+            }
+
+            long read(long elapsed) {
+                if (debt == 0) {
+                    return nanos + elapsed;
+                }
+                return nanos + elapsed - Math.min(debt, elapsed >> SLEW_SHIFT);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock that always returns the same instant.
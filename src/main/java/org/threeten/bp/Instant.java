@@ -362,6 +362,20 @@ public final class Instant
         return DateTimeFormatter.ISO_INSTANT.parse(text, Instant.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code Instant} from a text string such as
+     * {@code 2007-12-03T10:15:30.000Z}, returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link DateTimeFormatter#ISO_INSTANT}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed instant, null if the text cannot be parsed
+     */
+    public static Instant tryParse(final CharSequence text) {
+        return DateTimeFormatter.ISO_INSTANT.tryParse(text, Instant.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code Instant} using seconds and nanoseconds.
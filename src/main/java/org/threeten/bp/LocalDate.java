@@ -105,12 +105,12 @@ public final class LocalDate
      * The minimum supported {@code LocalDate}, '-999999999-01-01'.
      * This could be used by an application as a "far past" date.
      */
-    public static final LocalDate MIN = LocalDate.of(Year.MIN_VALUE, 1, 1);
+    public static final LocalDate MIN = new LocalDate(Year.MIN_VALUE, 1, 1);
     /**
      * The maximum supported {@code LocalDate}, '+999999999-12-31'.
      * This could be used by an application as a "far future" date.
      */
-    public static final LocalDate MAX = LocalDate.of(Year.MAX_VALUE, 12, 31);
+    public static final LocalDate MAX = new LocalDate(Year.MAX_VALUE, 12, 31);
     /**
      * Simulate JDK 8 method reference LocalDate::from.
      */
@@ -194,10 +194,7 @@ public final class LocalDate
     public static LocalDate now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        long epochSec = now.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long epochDay = Jdk8Methods.floorDiv(epochSec, SECONDS_PER_DAY);
-        return LocalDate.ofEpochDay(epochDay);
+        return clock.localDay(now.getEpochSecond()).toLocalDate();
     }
 
     //-----------------------------------------------------------------------
@@ -236,6 +233,10 @@ public final class LocalDate
         YEAR.checkValidValue(year);
         MONTH_OF_YEAR.checkValidValue(month);
         DAY_OF_MONTH.checkValidValue(dayOfMonth);
+        LocalDate cached = CanonicalDates.INSTANCE.get(year, month, dayOfMonth);
+        if (cached != null) {
+            return cached;
+        }
         return create(year, Month.of(month), dayOfMonth);
     }
 
@@ -279,6 +280,22 @@ public final class LocalDate
      * @throws DateTimeException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
+        LocalDate cached = CanonicalDates.INSTANCE.get(epochDay);
+        if (cached != null) {
+            return cached;
+        }
+        return ofEpochDay0(epochDay);
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDate} from the epoch day count,
+     * without using the table of canonical dates.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the local date, not null
+     * @throws DateTimeException if the epoch days exceeds the supported date range
+     */
+    private static LocalDate ofEpochDay0(long epochDay) {
         EPOCH_DAY.checkValidValue(epochDay);
         long zeroDay = epochDay + DAYS_0000_TO_1970;
         // find the march-based year
@@ -367,6 +384,37 @@ public final class LocalDate
         return formatter.parse(text, LocalDate.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code LocalDate} from a text string such as {@code 2007-12-03},
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link org.threeten.bp.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed local date, null if the text cannot be parsed
+     */
+    public static LocalDate tryParse(CharSequence text) {
+        return tryParse(text, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDate} from a text string using a specific formatter,
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using the formatter, returning a date.
+     * Unlike {@link #parse(CharSequence, DateTimeFormatter)}, no exception is thrown
+     * if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param formatter  the formatter to use, not null
+     * @return the parsed local date, null if the text cannot be parsed
+     */
+    public static LocalDate tryParse(CharSequence text, DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return formatter.tryParse(text, LocalDate.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a local date from the year, month and day fields.
@@ -1859,6 +1907,167 @@ public final class LocalDate
         return super.format(formatter);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A table of canonical dates for a window of days around today.
+     * <p>
+     * Most dates created by an application fall within a few years of today.
+     * Within the window, {@code ofEpochDay} and {@code of}, and the many methods
+     * based on them such as {@code plusDays}, return a shared instance found by
+     * a single array index, without calculation or allocation.
+     * <p>
+     * The window is set by the system property {@code org.threeten.bp.LocalDate.cacheYears},
+     * which is the number of years either side of today, from 0 to 100.
+     * The default is zero, which disables the table.
+     */
+    static final class CanonicalDates {
+        /**
+         * The system property defining the number of years either side of today.
+         */
+        static final String PROPERTY = "org.threeten.bp.LocalDate.cacheYears";
+        /**
+         * The maximum number of years either side of today.
+         */
+        static final int MAX_YEARS = 100;
+        /**
+         * The shared table.
+         */
+        static final CanonicalDates INSTANCE = create();
+
+        /**
+         * The epoch-day of the first date.
+         */
+        private final long firstEpochDay;
+        /**
+         * The year of the first date.
+         */
+        private final int firstYear;
+        /**
+         * The dates, indexed by epoch-day less the first epoch-day.
+         */
+        private final LocalDate[] dates;
+        /**
+         * The index of the first day of each month, by month from the first year,
+         * which is negative for a month that starts before the window and
+         * {@code Integer.MIN_VALUE} for a month that ends before the window.
+         */
+        private final int[] monthStarts;
+
+        /**
+         * Creates the table from the system property.
+         *
+         * @return the table, not null
+         */
+        private static CanonicalDates create() {
+            int years = 0;
+            try {
+                years = Integer.getInteger(PROPERTY, 0);
+            } catch (SecurityException ex) {
+                // ignore, leaving the table disabled
+            }
+            years = Math.max(0, Math.min(years, MAX_YEARS));
+            if (years == 0) {
+                return new CanonicalDates(0, 0);
+            }
+            long today = Jdk8Methods.floorDiv(System.currentTimeMillis(), SECONDS_PER_DAY * 1000L);
+            long days = years * 366L;
+            return new CanonicalDates(today - days, (int) (days * 2 + 1));
+        }
+
+        /**
+         * Creates a table for a window of days.
+         *
+         * @param firstEpochDay  the epoch-day of the first date, within the supported range
+         * @param length  the number of days, zero or greater, ending within the supported range
+         */
+        CanonicalDates(long firstEpochDay, int length) {
+            this.firstEpochDay = firstEpochDay;
+            this.dates = new LocalDate[length];
+            if (length == 0) {
+                this.firstYear = 0;
+                this.monthStarts = new int[0];
+                return;
+            }
+            LocalDate first = ofEpochDay0(firstEpochDay);
+            LocalDate last = ofEpochDay0(firstEpochDay + length - 1);
+            this.firstYear = first.year;
+            this.monthStarts = new int[(last.year - first.year) * 12 + last.month];
+            for (int i = 0; i < first.month - 1; i++) {
+                monthStarts[i] = Integer.MIN_VALUE;
+            }
+            monthStarts[first.month - 1] = 1 - first.day;
+            int year = first.year;
+            int month = first.month;
+            int day = first.day;
+            int monthLength = first.lengthOfMonth();
+            for (int i = 0; i < length; i++) {
+                dates[i] = new LocalDate(year, month, day);
+                if (day < monthLength) {
+                    day++;
+                } else {
+                    day = 1;
+                    if (month < 12) {
+                        month++;
+                    } else {
+                        month = 1;
+                        year++;
+                    }
+                    monthLength = Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+                    int monthIndex = (year - firstYear) * 12 + month - 1;
+                    if (monthIndex < monthStarts.length) {
+                        monthStarts[monthIndex] = i + 1;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets the canonical date for an epoch-day.
+         *
+         * @param epochDay  the epoch-day
+         * @return the date, null if outside the window
+         */
+        LocalDate get(long epochDay) {
+            long index = epochDay - firstEpochDay;
+            if (index >= 0 && index < dates.length) {
+                return dates[(int) index];
+            }
+            return null;
+        }
+
+        /**
+         * Gets the canonical date for a year, month and day.
+         *
+         * @param year  the year, validated
+         * @param month  the month-of-year, validated from 1 to 12
+         * @param dayOfMonth  the day-of-month, validated from 1 to 31
+         * @return the date, null if outside the window or invalid for the month
+         */
+        LocalDate get(int year, int month, int dayOfMonth) {
+            long monthIndex = (year - (long) firstYear) * 12 + month - 1;
+            if (monthIndex >= 0 && monthIndex < monthStarts.length) {
+                int index = monthStarts[(int) monthIndex] + dayOfMonth - 1;
+                if (index >= 0 && index < dates.length) {
+                    LocalDate date = dates[index];
+                    // a day past the end of the month finds a small day in the next month
+                    if (date.day == dayOfMonth && date.month == month && date.year == year) {
+                        return date;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Gets the number of dates in the table.
+         *
+         * @return the number of dates, zero if disabled
+         */
+        int size() {
+            return dates.length;
+        }
+    }
+
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.LOCAL_DATE_TYPE, this);
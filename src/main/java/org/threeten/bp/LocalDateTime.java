@@ -180,9 +180,11 @@ public final class LocalDateTime
      */
     public static LocalDateTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
+        if (clock instanceof CachedClock) {
+            return ((CachedClock) clock).localDateTime();
+        }
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        return ofEpochSecond(now.getEpochSecond(), now.getNano(), offset);
+        return clock.localDay(now.getEpochSecond()).toLocalDateTime(now);
     }
 
     //-----------------------------------------------------------------------
@@ -444,6 +446,37 @@ public final class LocalDateTime
         return formatter.parse(text, LocalDateTime.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code LocalDateTime} from a text string such as {@code 2007-12-03T10:15:30},
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link org.threeten.bp.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed local date-time, null if the text cannot be parsed
+     */
+    public static LocalDateTime tryParse(CharSequence text) {
+        return tryParse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDateTime} from a text string using a specific formatter,
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using the formatter, returning a date-time.
+     * Unlike {@link #parse(CharSequence, DateTimeFormatter)}, no exception is thrown
+     * if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param formatter  the formatter to use, not null
+     * @return the parsed local date-time, null if the text cannot be parsed
+     */
+    public static LocalDateTime tryParse(CharSequence text, DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return formatter.tryParse(text, LocalDateTime.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
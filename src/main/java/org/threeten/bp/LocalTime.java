@@ -245,15 +245,8 @@ public final class LocalTime
      */
     public static LocalTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
-        // inline OffsetTime factory to avoid creating object and InstantProvider checks
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        long secsOfDay = now.getEpochSecond() % SECONDS_PER_DAY;
-        secsOfDay = (secsOfDay + offset.getTotalSeconds()) % SECONDS_PER_DAY;
-        if (secsOfDay < 0) {
-            secsOfDay += SECONDS_PER_DAY;
-        }
-        return LocalTime.ofSecondOfDay(secsOfDay, now.getNano());
+        return clock.localDay(now.getEpochSecond()).toLocalTime(now);
     }
 
     //------------------------get-----------------------------------------------
@@ -437,6 +430,37 @@ public final class LocalTime
         return formatter.parse(text, LocalTime.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code LocalTime} from a text string such as {@code 10:15:30},
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link org.threeten.bp.format.DateTimeFormatter#ISO_LOCAL_TIME}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed local time, null if the text cannot be parsed
+     */
+    public static LocalTime tryParse(CharSequence text) {
+        return tryParse(text, DateTimeFormatter.ISO_LOCAL_TIME);
+    }
+
+    /**
+     * Obtains an instance of {@code LocalTime} from a text string using a specific formatter,
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using the formatter, returning a time.
+     * Unlike {@link #parse(CharSequence, DateTimeFormatter)}, no exception is thrown
+     * if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param formatter  the formatter to use, not null
+     * @return the parsed local time, null if the text cannot be parsed
+     */
+    public static LocalTime tryParse(CharSequence text, DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return formatter.tryParse(text, LocalTime.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a local time from the hour, minute, second and nanosecond fields.
@@ -207,7 +207,8 @@ public final class OffsetDateTime
     public static OffsetDateTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone().getRules().getOffset(now));
+        Clock.LocalDay day = clock.localDay(now.getEpochSecond());
+        return new OffsetDateTime(day.toLocalDateTime(now), day.offset);
     }
 
     //-----------------------------------------------------------------------
@@ -359,6 +360,37 @@ public final class OffsetDateTime
         return formatter.parse(text, OffsetDateTime.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code OffsetDateTime} from a text string such as {@code 2007-12-03T10:15:30+01:00},
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link org.threeten.bp.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed offset date-time, null if the text cannot be parsed
+     */
+    public static OffsetDateTime tryParse(CharSequence text) {
+        return tryParse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    /**
+     * Obtains an instance of {@code OffsetDateTime} from a text string using a specific formatter,
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using the formatter, returning a date-time.
+     * Unlike {@link #parse(CharSequence, DateTimeFormatter)}, no exception is thrown
+     * if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param formatter  the formatter to use, not null
+     * @return the parsed offset date-time, null if the text cannot be parsed
+     */
+    public static OffsetDateTime tryParse(CharSequence text, DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return formatter.tryParse(text, OffsetDateTime.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
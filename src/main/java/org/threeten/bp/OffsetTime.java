@@ -171,7 +171,8 @@ public final class OffsetTime
     public static OffsetTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone().getRules().getOffset(now));
+        Clock.LocalDay day = clock.localDay(now.getEpochSecond());
+        return new OffsetTime(day.toLocalTime(now), day.offset);
     }
 
     //-----------------------------------------------------------------------
@@ -299,6 +300,37 @@ public final class OffsetTime
         return formatter.parse(text, OffsetTime.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code OffsetTime} from a text string such as {@code 10:15:30+01:00},
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link org.threeten.bp.format.DateTimeFormatter#ISO_OFFSET_TIME}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed offset time, null if the text cannot be parsed
+     */
+    public static OffsetTime tryParse(CharSequence text) {
+        return tryParse(text, DateTimeFormatter.ISO_OFFSET_TIME);
+    }
+
+    /**
+     * Obtains an instance of {@code OffsetTime} from a text string using a specific formatter,
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using the formatter, returning a time.
+     * Unlike {@link #parse(CharSequence, DateTimeFormatter)}, no exception is thrown
+     * if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param formatter  the formatter to use, not null
+     * @return the parsed offset time, null if the text cannot be parsed
+     */
+    public static OffsetTime tryParse(CharSequence text, DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return formatter.tryParse(text, OffsetTime.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
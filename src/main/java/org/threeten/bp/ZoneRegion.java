@@ -37,6 +37,10 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -72,6 +76,20 @@ final class ZoneRegion extends ZoneId implements Serializable {
      * The regex pattern for region IDs.
      */
     private static final Pattern PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9~/._+-]+");
+    /**
+     * The maximum number of region IDs to cache.
+     */
+    private static final int CACHE_SIZE = 1024;
+    /**
+     * The cache of regions with rules that the provider allowed to be cached, keyed by ID.
+     * <p>
+     * Each entry records the snapshot of zone IDs from {@link ZoneRulesProvider} that was
+     * current when its rules were loaded. The snapshot is replaced whenever a provider is
+     * registered or a refresh changes the rules, so entries from an older snapshot are stale.
+     * When the cache is full, stale entries are removed, or if there are none, an arbitrary entry.
+     */
+    private static final ConcurrentMap<String, CachedRegion> CACHE =
+                new ConcurrentHashMap<String, CachedRegion>(512, 0.75f, 2);
 
     /**
      * The time-zone ID, not null.
@@ -137,6 +155,8 @@ final class ZoneRegion extends ZoneId implements Serializable {
         if (zoneId.length() < 2 || PATTERN.matcher(zoneId).matches() == false) {
             throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
         }
+        // read the version before loading, so rules loaded during a refresh are never current
+        Set<String> version = ZoneRulesProvider.getAvailableZoneIdsSnapshot();
         ZoneRules rules = null;
         try {
             // always attempt load for better behavior after deserialization
@@ -149,7 +169,69 @@ final class ZoneRegion extends ZoneId implements Serializable {
                 throw ex;
             }
         }
-        return new ZoneRegion(zoneId, rules);
+        ZoneRegion region = new ZoneRegion(zoneId, rules);
+        if (rules != null) {
+            if (CACHE.size() >= CACHE_SIZE) {
+                evict(version);
+            }
+            CACHE.put(zoneId, new CachedRegion(region, version));
+        }
+        return region;
+    }
+
+    /**
+     * Removes stale entries from the cache, or an arbitrary entry if none are stale.
+     *
+     * @param version  the current snapshot of zone IDs, not null
+     */
+    private static void evict(Set<String> version) {
+        boolean removed = false;
+        for (Iterator<CachedRegion> it = CACHE.values().iterator(); it.hasNext(); ) {
+            if (it.next().version != version) {
+                it.remove();
+                removed = true;
+            }
+        }
+        if (removed == false) {
+            Iterator<String> it = CACHE.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Obtains a previously created instance of {@code ZoneRegion} from the cache.
+     * <p>
+     * Only regions whose rules the provider allowed to be cached are held,
+     * thus a provider that refreshes its rules dynamically, and therefore
+     * declines caching, will not have its regions cached.
+     * An entry loaded before the last registration or refresh is ignored,
+     * and replaced when the region is next loaded.
+     *
+     * @param zoneId  the time-zone ID, not null
+     * @return the cached zone ID, null if not cached or stale
+     */
+    static ZoneRegion ofCached(String zoneId) {
+        CachedRegion cached = CACHE.get(zoneId);
+        if (cached != null && cached.version == ZoneRulesProvider.getAvailableZoneIdsSnapshot()) {
+            return cached.region;
+        }
+        return null;
+    }
+
+    /**
+     * A cached region, with the snapshot of zone IDs current when its rules were loaded.
+     */
+    private static final class CachedRegion {
+        private final ZoneRegion region;
+        private final Set<String> version;
+
+        CachedRegion(ZoneRegion region, Set<String> version) {
+            this.region = region;
+            this.version = version;
+        }
     }
 
     //-------------------------------------------------------------------------
@@ -199,8 +199,12 @@ public final class ZonedDateTime
      */
     public static ZonedDateTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
+        if (clock instanceof CachedClock) {
+            return ((CachedClock) clock).zonedDateTime();
+        }
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone());
+        Clock.LocalDay day = clock.localDay(now.getEpochSecond());
+        return new ZonedDateTime(day.toLocalDateTime(now), day.offset, day.zone);
     }
 
     //-----------------------------------------------------------------------
@@ -345,7 +349,8 @@ public final class ZonedDateTime
             offset = validOffsets.get(0);
         } else if (validOffsets.size() == 0) {
             ZoneOffsetTransition trans = rules.getTransition(localDateTime);
-            localDateTime = localDateTime.plusSeconds(trans.getDuration().getSeconds());
+            localDateTime = localDateTime.plusSeconds(
+                    trans.getOffsetAfter().getTotalSeconds() - trans.getOffsetBefore().getTotalSeconds());
             offset = trans.getOffsetAfter();
         } else {
             if (preferredOffset != null && validOffsets.contains(preferredOffset)) {
@@ -562,6 +567,37 @@ public final class ZonedDateTime
         return formatter.parse(text, ZonedDateTime.FROM);
     }
 
+    /**
+     * Obtains an instance of {@code ZonedDateTime} from a text string such as {@code 2007-12-03T10:15:30+01:00[Europe/Paris]},
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using {@link org.threeten.bp.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     * Unlike {@link #parse(CharSequence)}, no exception is thrown if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed zoned date-time, null if the text cannot be parsed
+     */
+    public static ZonedDateTime tryParse(CharSequence text) {
+        return tryParse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+    }
+
+    /**
+     * Obtains an instance of {@code ZonedDateTime} from a text string using a specific formatter,
+     * returning null if unable to parse.
+     * <p>
+     * The text is parsed using the formatter, returning a date-time.
+     * Unlike {@link #parse(CharSequence, DateTimeFormatter)}, no exception is thrown
+     * if the text cannot be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param formatter  the formatter to use, not null
+     * @return the parsed zoned date-time, null if the text cannot be parsed
+     */
+    public static ZonedDateTime tryParse(CharSequence text, DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return formatter.tryParse(text, ZonedDateTime.FROM);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
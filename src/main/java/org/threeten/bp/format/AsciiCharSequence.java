@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A character sequence view of a range of ASCII bytes.
+ * <p>
+ * Each ASCII byte is treated as a single character. Any other byte is read as the
+ * replacement character U+FFFD, which matches no text, thus parsing fails at that index.
+ * The bytes are not copied, thus the view reflects any change to the underlying bytes.
+ * The bytes are read from an array where possible, and from the buffer by absolute index
+ * otherwise, leaving the position of the buffer unaltered.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable if the underlying bytes are mutable.
+ * It should only be used from a single thread.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    /**
+     * The character read for a byte outside the ASCII range.
+     */
+    static final char NON_ASCII = '\uFFFD';
+
+    /**
+     * The byte array, null if reading from the buffer.
+     */
+    private final byte[] bytes;
+    /**
+     * The byte buffer, null if reading from the array.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The index of the first byte.
+     */
+    private final int offset;
+    /**
+     * The number of bytes.
+     */
+    private final int length;
+
+    /**
+     * Obtains a view of a range of a byte array.
+     *
+     * @param bytes  the bytes, not null
+     * @param offset  the index of the first byte
+     * @param length  the number of bytes
+     * @return the view, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    static AsciiCharSequence of(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+        }
+        return new AsciiCharSequence(bytes, null, offset, length);
+    }
+
+    /**
+     * Obtains a view of the remaining bytes of a buffer.
+     *
+     * @param buffer  the buffer, not null
+     * @return the view, not null
+     */
+    static AsciiCharSequence of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new AsciiCharSequence(buffer.array(), null, buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return new AsciiCharSequence(null, buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param bytes  the byte array, null if reading from the buffer
+     * @param buffer  the byte buffer, null if reading from the array
+     * @param offset  the index of the first byte
+     * @param length  the number of bytes
+     */
+    private AsciiCharSequence(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+        this.bytes = bytes;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        byte b = (bytes != null ? bytes[offset + index] : buffer.get(offset + index));
+        return (b >= 0 ? (char) b : NON_ASCII);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start + " to " + end);
+        }
+        return new AsciiCharSequence(bytes, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+}
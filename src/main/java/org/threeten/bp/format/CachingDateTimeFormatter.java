@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CharLiteralPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ChronoPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.DefaultingParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.FractionPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.LocalizedOffsetPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.OffsetIdPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.PadPrinterParserDecorator;
+import org.threeten.bp.format.DateTimeFormatterBuilder.SettingsParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.StringLiteralPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.TextPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ZoneIdPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ZoneTextPrinterParser;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Formatter for streams of date-times that advance monotonically, such as log timestamps.
+ * <p>
+ * Successive timestamps in a log or metrics stream usually share everything up to the
+ * second, such as the {@code 2012-06-30T11:30:} in {@code 2012-06-30T11:30:05.123}.
+ * This class splits the underlying formatter into a prefix that only depends on the minute
+ * and a suffix that holds the second and anything after it. The prefix of the last minute
+ * formatted is remembered, so that only the suffix is formatted while the minute is unchanged.
+ * When the minute changes, the prefix is formatted in full and the cache replaced.
+ * <p>
+ * Instances are obtained using {@link #of(DateTimeFormatter)}, which requires the formatter
+ * to be prefix-stable. That is, it must start with at least one element, such as a date field,
+ * hour, minute, literal, offset or zone, that is unchanged within a minute of the local time-line.
+ * The cache is used for {@code Instant}, {@code LocalDateTime}, {@code OffsetDateTime} and
+ * {@code ZonedDateTime}, where an {@code Instant} requires a zone on the formatter and an
+ * {@code OffsetDateTime} or {@code ZonedDateTime} requires no zone on the formatter.
+ * All other date-times are formatted by the underlying formatter.
+ * The output is always the same as that of the underlying formatter.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe. The cache is an immutable entry held in a volatile field,
+ * thus threads formatting different minutes at the same time only lose the benefit of the cache.
+ */
+public final class CachingDateTimeFormatter {
+
+    /**
+     * The underlying formatter.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The formatter for the prefix.
+     */
+    private final DateTimeFormatter prefixFormatter;
+    /**
+     * The formatter for the suffix, null if there is no suffix.
+     */
+    private final DateTimeFormatter suffixFormatter;
+    /**
+     * The compiled suffix, null if the suffix formatter must be used.
+     */
+    private final SuffixStep[] suffixSteps;
+    /**
+     * The last prefix formatted, null initially.
+     */
+    private volatile Entry entry;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a caching formatter wrapping the specified formatter.
+     *
+     * @param formatter  the formatter to wrap, not null
+     * @return the caching formatter, not null
+     * @throws IllegalArgumentException if the formatter is not prefix-stable
+     */
+    public static CachingDateTimeFormatter of(DateTimeFormatter formatter) {
+        Jdk8Methods.requireNonNull(formatter, "formatter");
+        return new CachingDateTimeFormatter(formatter);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to wrap, not null
+     */
+    private CachingDateTimeFormatter(DateTimeFormatter formatter) {
+        List<DateTimePrinterParser> list = new ArrayList<DateTimePrinterParser>();
+        flatten(formatter.toPrinterParser(false), list);
+        DateTimePrinterParser[] printerParsers = list.toArray(new DateTimePrinterParser[list.size()]);
+        int split = 0;
+        boolean printing = false;
+        while (split < printerParsers.length && isMinuteStable(printerParsers[split])) {
+            printing |= (printerParsers[split] instanceof SettingsParser || printerParsers[split] instanceof DefaultingParser) == false;
+            split++;
+        }
+        if (printing == false) {
+            throw new IllegalArgumentException("Formatter is not prefix-stable: " + formatter);
+        }
+        this.formatter = formatter;
+        this.prefixFormatter = derive(formatter, Arrays.copyOfRange(printerParsers, 0, split));
+        if (split < printerParsers.length) {
+            DateTimePrinterParser[] suffix = Arrays.copyOfRange(printerParsers, split, printerParsers.length);
+            this.suffixFormatter = derive(formatter, suffix);
+            this.suffixSteps = compileSuffix(suffix, formatter.getDecimalStyle());
+        } else {
+            this.suffixFormatter = null;
+            this.suffixSteps = new SuffixStep[0];
+        }
+    }
+
+    /**
+     * Flattens the non-optional composites so that the prefix can end inside a composite.
+     *
+     * @param composite  the composite to flatten, not null
+     * @param list  the list to add to, not null
+     */
+    private static void flatten(CompositePrinterParser composite, List<DateTimePrinterParser> list) {
+        for (DateTimePrinterParser pp : composite.printerParsers) {
+            if (pp instanceof CompositePrinterParser && ((CompositePrinterParser) pp).optional == false) {
+                flatten((CompositePrinterParser) pp, list);
+            } else {
+                list.add(pp);
+            }
+        }
+    }
+
+    private static DateTimeFormatter derive(DateTimeFormatter formatter, DateTimePrinterParser[] printerParsers) {
+        return new DateTimeFormatter(
+                new CompositePrinterParser(printerParsers, false), formatter.getLocale(),
+                formatter.getDecimalStyle(), formatter.getResolverStyle(), formatter.getResolverFields(),
+                formatter.getChronology(), formatter.getZone());
+    }
+
+    /**
+     * Checks if the output of the printer is unchanged within a minute of the local time-line.
+     * <p>
+     * The output may depend on the date, hour and minute, the offset, the zone, the chronology
+     * and the formatter settings, all of which are part of the cache key or fixed.
+     *
+     * @param pp  the printer to check, not null
+     * @return true if the printer only depends on the minute or coarser
+     */
+    private static boolean isMinuteStable(DateTimePrinterParser pp) {
+        if (pp instanceof CompositePrinterParser) {
+            for (DateTimePrinterParser child : ((CompositePrinterParser) pp).printerParsers) {
+                if (isMinuteStable(child) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (pp instanceof PadPrinterParserDecorator) {
+            return isMinuteStable(((PadPrinterParserDecorator) pp).printerParser);
+        }
+        if (pp instanceof NumberPrinterParser) {
+            return isMinuteStable(((NumberPrinterParser) pp).field);
+        }
+        if (pp instanceof TextPrinterParser) {
+            return isMinuteStable(((TextPrinterParser) pp).field);
+        }
+        return pp instanceof CharLiteralPrinterParser || pp instanceof StringLiteralPrinterParser ||
+                pp instanceof SettingsParser || pp instanceof DefaultingParser ||
+                pp instanceof OffsetIdPrinterParser || pp instanceof LocalizedOffsetPrinterParser ||
+                pp instanceof ZoneIdPrinterParser || pp instanceof ZoneTextPrinterParser ||
+                pp instanceof ChronoPrinterParser;
+    }
+
+    private static boolean isMinuteStable(TemporalField field) {
+        if (field.isDateBased()) {
+            return true;
+        }
+        return field instanceof ChronoField && field.isTimeBased() &&
+                field.getBaseUnit().getDuration().getSeconds() >= 60;
+    }
+
+    /**
+     * Compiles the suffix to steps that format directly from the second and nano.
+     *
+     * @param suffix  the suffix printers, not null
+     * @param decimalStyle  the decimal style, not null
+     * @return the steps, null if the suffix formatter must be used
+     */
+    private static SuffixStep[] compileSuffix(DateTimePrinterParser[] suffix, DecimalStyle decimalStyle) {
+        if (decimalStyle.equals(DecimalStyle.STANDARD) == false) {
+            return null;
+        }
+        List<SuffixStep> steps = new ArrayList<SuffixStep>();
+        return compileSuffix(suffix, steps) ? steps.toArray(new SuffixStep[steps.size()]) : null;
+    }
+
+    /**
+     * Compiles the suffix printers to the list of steps.
+     *
+     * @param suffix  the suffix printers, not null
+     * @param steps  the list of steps to add to, not null
+     * @return true if compiled, false if the suffix formatter must be used
+     */
+    private static boolean compileSuffix(DateTimePrinterParser[] suffix, List<SuffixStep> steps) {
+        for (DateTimePrinterParser pp : suffix) {
+            if (pp instanceof CompositePrinterParser) {
+                // optional sections always print, as the supported types have all time fields
+                if (compileSuffix(((CompositePrinterParser) pp).printerParsers, steps) == false) {
+                    return false;
+                }
+            } else if (pp instanceof SettingsParser) {
+                // prints nothing
+            } else if (pp instanceof CharLiteralPrinterParser) {
+                steps.add(new LiteralStep(String.valueOf(((CharLiteralPrinterParser) pp).literal)));
+            } else if (pp instanceof StringLiteralPrinterParser) {
+                steps.add(new LiteralStep(((StringLiteralPrinterParser) pp).literal));
+            } else if (pp.getClass() == NumberPrinterParser.class) {
+                NumberPrinterParser npp = (NumberPrinterParser) pp;
+                if (npp.field != ChronoField.SECOND_OF_MINUTE || npp.minWidth > 2 || npp.maxWidth < 2) {
+                    return false;
+                }
+                SignStyle signStyle = npp.signStyle;
+                if (signStyle == SignStyle.ALWAYS || (signStyle == SignStyle.EXCEEDS_PAD && npp.minWidth != 2)) {
+                    return false;
+                }
+                steps.add(new SecondStep(npp.minWidth));
+            } else if (pp instanceof FractionPrinterParser) {
+                FractionPrinterParser fpp = (FractionPrinterParser) pp;
+                if (fpp.field != ChronoField.NANO_OF_SECOND) {
+                    return false;
+                }
+                steps.add(new FractionStep(fpp.minWidth, fpp.maxWidth, fpp.decimalPoint));
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the underlying formatter.
+     *
+     * @return the formatter, not null
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Formats a date-time object using this formatter.
+     * <p>
+     * The result is the same as {@link DateTimeFormatter#format(TemporalAccessor)}.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @return the printed string, not null
+     * @throws DateTimeException if an error occurs during formatting
+     */
+    public String format(TemporalAccessor temporal) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        StringBuilder buf = new StringBuilder(32);
+        print(temporal, buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats a date-time object to an {@code Appendable} using this formatter.
+     * <p>
+     * The result is the same as {@link DateTimeFormatter#formatTo(TemporalAccessor, Appendable)}.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param appendable  the appendable to print to, not null
+     * @throws DateTimeException if an error occurs during formatting
+     */
+    public void formatTo(TemporalAccessor temporal, Appendable appendable) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(appendable, "appendable");
+        try {
+            if (appendable instanceof StringBuilder) {
+                print(temporal, (StringBuilder) appendable);
+            } else {
+                // buffer output to avoid writing to appendable in case of error
+                StringBuilder buf = new StringBuilder(32);
+                print(temporal, buf);
+                appendable.append(buf);
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    private void print(TemporalAccessor temporal, StringBuilder buf) {
+        Class<?> type = temporal.getClass();
+        ZoneId zone;
+        ZoneOffset offset;
+        long localSecond;
+        int nano;
+        if (type == LocalDateTime.class) {
+            LocalDateTime ldt = (LocalDateTime) temporal;
+            zone = null;
+            offset = null;
+            localSecond = ldt.toEpochSecond(ZoneOffset.UTC);
+            nano = ldt.getNano();
+        } else if (type == Instant.class && formatter.getZone() != null) {
+            Instant instant = (Instant) temporal;
+            zone = formatter.getZone();
+            offset = zone.getRules().getOffset(instant);
+            localSecond = instant.getEpochSecond() + offset.getTotalSeconds();
+            nano = instant.getNano();
+        } else if (type == OffsetDateTime.class && formatter.getZone() == null) {
+            OffsetDateTime odt = (OffsetDateTime) temporal;
+            zone = null;
+            offset = odt.getOffset();
+            localSecond = odt.toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+            nano = odt.getNano();
+        } else if (type == ZonedDateTime.class && formatter.getZone() == null) {
+            ZonedDateTime zdt = (ZonedDateTime) temporal;
+            zone = zdt.getZone();
+            offset = zdt.getOffset();
+            localSecond = zdt.toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+            nano = zdt.getNano();
+        } else {
+            formatter.formatTo(temporal, buf);
+            return;
+        }
+        long minute = Jdk8Methods.floorDiv(localSecond, 60);
+        Entry cached = entry;
+        if (cached == null || cached.matches(type, zone, offset, minute) == false) {
+            cached = new Entry(type, zone, offset, minute, prefixFormatter.format(temporal));
+            entry = cached;
+        }
+        buf.append(cached.prefix);
+        if (suffixSteps != null) {
+            int second = Jdk8Methods.floorMod(localSecond, 60);
+            for (SuffixStep step : suffixSteps) {
+                step.print(second, nano, buf);
+            }
+        } else {
+            suffixFormatter.formatTo(temporal, buf);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this formatter as a {@code String}.
+     *
+     * @return the formatter as a string, not null
+     */
+    @Override
+    public String toString() {
+        return "Caching(" + formatter + ")";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The prefix formatted for a minute.
+     */
+    private static final class Entry {
+        private final Class<?> type;
+        private final ZoneId zone;
+        private final ZoneOffset offset;
+        private final long minute;
+        private final String prefix;
+
+        Entry(Class<?> type, ZoneId zone, ZoneOffset offset, long minute, String prefix) {
+            this.type = type;
+            this.zone = zone;
+            this.offset = offset;
+            this.minute = minute;
+            this.prefix = prefix;
+        }
+
+        boolean matches(Class<?> type, ZoneId zone, ZoneOffset offset, long minute) {
+            return this.minute == minute && this.type == type &&
+                    (this.zone == zone || (this.zone != null && this.zone.equals(zone))) &&
+                    (this.offset == offset || (this.offset != null && this.offset.equals(offset)));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A step of the compiled suffix.
+     */
+    private static abstract class SuffixStep {
+        abstract void print(int second, int nano, StringBuilder buf);
+    }
+
+    /**
+     * Prints a literal.
+     */
+    private static final class LiteralStep extends SuffixStep {
+        private final String literal;
+
+        LiteralStep(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        void print(int second, int nano, StringBuilder buf) {
+            buf.append(literal);
+        }
+    }
+
+    /**
+     * Prints the second-of-minute.
+     */
+    private static final class SecondStep extends SuffixStep {
+        private final int minWidth;
+
+        SecondStep(int minWidth) {
+            this.minWidth = minWidth;
+        }
+
+        @Override
+        void print(int second, int nano, StringBuilder buf) {
+            if (second >= 10) {
+                buf.append((char) ('0' + second / 10));
+            } else if (minWidth == 2) {
+                buf.append('0');
+            }
+            buf.append((char) ('0' + second % 10));
+        }
+    }
+
+    /**
+     * Prints the nano-of-second as a fraction, matching {@code FractionPrinterParser}.
+     */
+    private static final class FractionStep extends SuffixStep {
+        private final int minWidth;
+        private final int maxWidth;
+        private final boolean decimalPoint;
+
+        FractionStep(int minWidth, int maxWidth, boolean decimalPoint) {
+            this.minWidth = minWidth;
+            this.maxWidth = maxWidth;
+            this.decimalPoint = decimalPoint;
+        }
+
+        @Override
+        void print(int second, int nano, StringBuilder buf) {
+            int width;
+            if (nano == 0) {
+                if (minWidth == 0) {
+                    return;
+                }
+                width = minWidth;
+            } else {
+                int significant = 9;
+                for (int value = nano; value % 10 == 0; value /= 10) {
+                    significant--;
+                }
+                width = Math.min(Math.max(significant, minWidth), maxWidth);
+            }
+            if (decimalPoint) {
+                buf.append('.');
+            }
+            int divisor = 100000000;
+            for (int i = 0; i < width; i++) {
+                buf.append((char) ('0' + (nano / divisor) % 10));
+                divisor /= 10;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,817 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Month;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CharLiteralPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.FractionPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.InstantPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.OffsetIdPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.SettingsParser;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * A parser compiled from a formatter made up of fixed-width ISO elements.
+ * <p>
+ * Formatters such as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} consist of fixed-width
+ * numbers, literals, an optional fraction and an optional offset. This class compiles such
+ * a formatter to a flat list of steps that parse directly into primitive values, without the
+ * parse context, the field map or the resolver. The result is created directly as a
+ * {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime}, {@code OffsetDateTime}
+ * or {@code Instant}.
+ * <p>
+ * The compiled parser is only a fast path. It returns null, rather than an error, whenever
+ * the input is not completely regular, such as an expanded year, an end of day time of 24:00,
+ * a leap second, invalid values or text that does not match. The caller then uses the generic
+ * parser, which produces the same result or the same error as it would have without this class.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class CompiledParser {
+
+    /**
+     * Result indicating that the step failed exactly as the generic parser would.
+     */
+    private static final int FAIL = -1;
+    /**
+     * Result indicating that the generic parser must be used.
+     */
+    private static final int ABORT = -2;
+
+    /** The slot of the year. */
+    private static final int YEAR = 0;
+    /** The slot of the month-of-year. */
+    private static final int MONTH = 1;
+    /** The slot of the day-of-month. */
+    private static final int DAY = 2;
+    /** The slot of the hour-of-day. */
+    private static final int HOUR = 3;
+    /** The slot of the minute-of-hour. */
+    private static final int MINUTE = 4;
+    /** The slot of the second-of-minute. */
+    private static final int SECOND = 5;
+    /** The slot of the nano-of-second. */
+    private static final int NANO = 6;
+    /** The slot of the offset in seconds. */
+    private static final int OFFSET = 7;
+    /** The number of days from year zero to 1970. */
+    private static final long DAYS_0000_TO_1970 = (146097L * 5L) - (30L * 365L + 7L);
+    /** The mask of the date slots. */
+    private static final int DATE_MASK = (1 << YEAR) | (1 << MONTH) | (1 << DAY);
+    /** The mask of the time slots. */
+    private static final int TIME_MASK = (1 << HOUR) | (1 << MINUTE) | (1 << SECOND) | (1 << NANO);
+
+    /**
+     * The steps to execute.
+     */
+    private final Step[] steps;
+    /**
+     * Whether the steps parse an instant.
+     */
+    private final boolean instant;
+
+    /**
+     * Constructor.
+     *
+     * @param steps  the steps, not null
+     * @param instant  whether the steps parse an instant
+     */
+    private CompiledParser(Step[] steps, boolean instant) {
+        this.steps = steps;
+        this.instant = instant;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compiles the parser for a formatter, if possible.
+     * <p>
+     * Only formatters using the standard decimal style, the ISO chronology, no zone override
+     * and no resolver field restriction are compiled. The printer-parsers must be case
+     * settings, literal characters, fixed-width numbers, nano-of-second fractions, the ISO
+     * offset ID or the ISO instant, optionally nested in composites.
+     *
+     * @param printerParser  the printer-parser of the formatter, not null
+     * @param decimalStyle  the decimal style of the formatter, not null
+     * @param resolverFields  the resolver fields of the formatter, null for all fields
+     * @param chrono  the chronology of the formatter, null for no override
+     * @param zone  the zone of the formatter, null for no override
+     * @return the compiled parser, null if the formatter cannot be compiled
+     */
+    static CompiledParser compile(
+            CompositePrinterParser printerParser, DecimalStyle decimalStyle,
+            Set<TemporalField> resolverFields, Chronology chrono, ZoneId zone) {
+        if (decimalStyle.equals(DecimalStyle.STANDARD) == false || resolverFields != null ||
+                zone != null || (chrono != null && chrono.equals(IsoChronology.INSTANCE) == false)) {
+            return null;
+        }
+        Compiler compiler = new Compiler();
+        List<Step> steps = new ArrayList<Step>();
+        if (compiler.compile(printerParser, steps, false) == false || compiler.fields == 0) {
+            return null;
+        }
+        if (compiler.instant && compiler.fields != 1) {
+            return null;
+        }
+        if ((compiler.slots & (1 << OFFSET)) != 0 &&
+                ((compiler.slots & DATE_MASK) == 0 || (compiler.slots & TIME_MASK) == 0)) {
+            return null;  // an offset is only parsed with both a date and a time
+        }
+        return new CompiledParser(steps.toArray(new Step[steps.size()]), compiler.instant);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text fully, returning the result of the query.
+     * <p>
+     * Only the queries of {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime},
+     * {@code OffsetDateTime} and {@code Instant} are answered.
+     *
+     * @param <T>  the type of the result
+     * @param text  the text to parse, not null
+     * @param query  the query to invoke, not null
+     * @return the result, null if the generic parser must be used
+     */
+    <T> T parse(CharSequence text, TemporalQuery<T> query) {
+        State state = new State();
+        if (parse(state, text) == false) {
+            return null;
+        }
+        TemporalAccessor temporal = resolve(state, query);
+        return (temporal != null ? query.queryFrom(temporal) : null);
+    }
+
+    /**
+     * Parses the text fully into the state, validating the values.
+     * <p>
+     * The state is reset before parsing. On success, the state holds a valid date, time,
+     * date-time, offset date-time or instant, equal to that which the generic parser
+     * would obtain using any resolver style.
+     *
+     * @param state  the state to parse into, not null
+     * @param text  the text to parse, not null
+     * @return true if parsed, false if the generic parser must be used
+     */
+    boolean parse(State state, CharSequence text) {
+        state.present = 0;
+        state.instant = instant;
+        int pos = 0;
+        for (Step step : steps) {
+            pos = step.parse(state, text, pos);
+            if (pos < 0) {
+                return false;
+            }
+        }
+        return pos == text.length() && state.validate();
+    }
+
+    /**
+     * Resolves the parsed state to the temporal matching the query.
+     *
+     * @param state  the successfully parsed state, not null
+     * @param query  the query to invoke, not null
+     * @return the temporal, null if the query is not handled
+     */
+    static TemporalAccessor resolve(State state, TemporalQuery<?> query) {
+        if (state.isInstant()) {
+            return (query == Instant.FROM ? state.toInstant() : null);
+        }
+        if (query == LocalDate.FROM) {
+            return (state.hasDate() ? state.toLocalDate() : null);
+        }
+        if (query == LocalTime.FROM) {
+            return (state.hasTime() ? state.toLocalTime() : null);
+        }
+        if (state.hasDate() == false || state.hasTime() == false) {
+            return null;
+        }
+        if (query == LocalDateTime.FROM) {
+            return LocalDateTime.of(state.toLocalDate(), state.toLocalTime());
+        }
+        if (state.hasOffset() == false) {
+            return null;
+        }
+        if (query == OffsetDateTime.FROM) {
+            return state.toTemporal();
+        }
+        if (query == Instant.FROM) {
+            return state.toInstant();
+        }
+        return null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compiles the printer-parsers, tracking the settings.
+     */
+    private static final class Compiler {
+        /** Whether parsing is case sensitive. */
+        private boolean caseSensitive = true;
+        /** Whether parsing is strict. */
+        private boolean strict = true;
+        /** Whether an instant is parsed. */
+        private boolean instant;
+        /** The number of value steps. */
+        private int fields;
+        /** The bit set of the slots parsed by the value steps. */
+        private int slots;
+
+        /**
+         * Compiles a composite to steps.
+         *
+         * @param composite  the composite, not null
+         * @param steps  the list to add to, not null
+         * @param inOptional  whether the composite is within an optional section
+         * @return true if compiled, false if not supported
+         */
+        boolean compile(CompositePrinterParser composite, List<Step> steps, boolean inOptional) {
+            for (DateTimePrinterParser pp : composite.printerParsers) {
+                if (compile(pp, steps, inOptional) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean compile(DateTimePrinterParser pp, List<Step> steps, boolean inOptional) {
+            if (pp instanceof SettingsParser) {
+                if (inOptional) {
+                    return false;  // settings would not be rolled back
+                }
+                // using ordinals to avoid javac synthetic inner class
+                switch (((SettingsParser) pp).ordinal()) {
+                    case 0: caseSensitive = true; break;
+                    case 1: caseSensitive = false; break;
+                    case 2: strict = true; break;
+                    case 3: strict = false; break;
+                }
+                return true;
+            }
+            if (strict == false) {
+                return false;
+            }
+            if (pp instanceof CompositePrinterParser) {
+                CompositePrinterParser composite = (CompositePrinterParser) pp;
+                if (composite.optional) {
+                    List<Step> optionalSteps = new ArrayList<Step>();
+                    if (compile(composite, optionalSteps, true) == false) {
+                        return false;
+                    }
+                    steps.add(new OptionalStep(optionalSteps.toArray(new Step[optionalSteps.size()])));
+                    return true;
+                }
+                return compile(composite, steps, inOptional);
+            }
+            if (pp instanceof CharLiteralPrinterParser) {
+                steps.add(new LiteralStep(((CharLiteralPrinterParser) pp).literal, caseSensitive));
+                return true;
+            }
+            if (pp.getClass() == NumberPrinterParser.class) {
+                NumberPrinterParser npp = (NumberPrinterParser) pp;
+                int slot = slot(npp.field);
+                if (slot < 0 || npp.subsequentWidth != 0) {
+                    return false;
+                }
+                if (npp.signStyle == SignStyle.NOT_NEGATIVE && npp.minWidth == npp.maxWidth && npp.minWidth <= 9) {
+                    steps.add(new NumberStep(slot, npp.minWidth, false));
+                } else if (npp.signStyle == SignStyle.EXCEEDS_PAD && npp.minWidth <= 9) {
+                    steps.add(new NumberStep(slot, npp.minWidth, true));
+                } else {
+                    return false;
+                }
+                fields++;
+                slots |= 1 << slot;
+                return true;
+            }
+            if (pp instanceof FractionPrinterParser) {
+                FractionPrinterParser fpp = (FractionPrinterParser) pp;
+                if (fpp.field != ChronoField.NANO_OF_SECOND) {
+                    return false;
+                }
+                steps.add(new FractionStep(fpp.minWidth, fpp.maxWidth, fpp.decimalPoint));
+                fields++;
+                slots |= 1 << NANO;
+                return true;
+            }
+            if (pp instanceof OffsetIdPrinterParser) {
+                OffsetIdPrinterParser opp = (OffsetIdPrinterParser) pp;
+                if (opp.noOffsetText.equals("Z") == false ||
+                        OffsetIdPrinterParser.PATTERNS[opp.type].equals("+HH:MM:ss") == false) {
+                    return false;
+                }
+                steps.add(new OffsetStep(caseSensitive));
+                fields++;
+                slots |= 1 << OFFSET;
+                return true;
+            }
+            if (pp instanceof InstantPrinterParser) {
+                if (inOptional) {
+                    return false;
+                }
+                int fractionalDigits = ((InstantPrinterParser) pp).fractionalDigits;
+                int minDigits = (fractionalDigits < 0 ? 0 : fractionalDigits);
+                int maxDigits = (fractionalDigits < 0 ? 9 : fractionalDigits);
+                steps.add(new InstantStep(new Step[] {
+                    new NumberStep(YEAR, 4, true), new LiteralStep('-', caseSensitive),
+                    new NumberStep(MONTH, 2, false), new LiteralStep('-', caseSensitive),
+                    new NumberStep(DAY, 2, false), new LiteralStep('T', caseSensitive),
+                    new NumberStep(HOUR, 2, false), new LiteralStep(':', caseSensitive),
+                    new NumberStep(MINUTE, 2, false), new LiteralStep(':', caseSensitive),
+                    new NumberStep(SECOND, 2, false), new FractionStep(minDigits, maxDigits, true),
+                    new LiteralStep('Z', caseSensitive),
+                }));
+                instant = true;
+                fields++;
+                return true;
+            }
+            return false;
+        }
+
+        private static int slot(TemporalField field) {
+            if (field == ChronoField.YEAR) {
+                return YEAR;
+            } else if (field == ChronoField.MONTH_OF_YEAR) {
+                return MONTH;
+            } else if (field == ChronoField.DAY_OF_MONTH) {
+                return DAY;
+            } else if (field == ChronoField.HOUR_OF_DAY) {
+                return HOUR;
+            } else if (field == ChronoField.MINUTE_OF_HOUR) {
+                return MINUTE;
+            } else if (field == ChronoField.SECOND_OF_MINUTE) {
+                return SECOND;
+            }
+            return -1;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The mutable state of a parse, reset by each parse.
+     * <p>
+     * Once successfully parsed, the state holds a valid date, time, date-time,
+     * offset date-time or instant, which can be read without allocation.
+     */
+    static final class State {
+        /** The parsed values, by slot. */
+        private final int[] values = new int[8];
+        /** The bitmask of slots that are present. */
+        private int present;
+        /** Whether an instant was parsed. */
+        private boolean instant;
+
+        /**
+         * Stores a value, checking for a conflict with a previously parsed value.
+         *
+         * @param slot  the slot
+         * @param value  the value
+         * @param successPos  the position after the value
+         * @return the position after the value, or ABORT on conflict
+         */
+        int set(int slot, int value, int successPos) {
+            int bit = 1 << slot;
+            if ((present & bit) != 0 && values[slot] != value) {
+                return ABORT;
+            }
+            values[slot] = value;
+            present |= bit;
+            return successPos;
+        }
+
+        /**
+         * Validates the parsed values, defaulting the second and nano-of-second.
+         *
+         * @return true if valid, false if the generic parser must be used
+         */
+        private boolean validate() {
+            int dateBits = present & DATE_MASK;
+            if (dateBits != 0) {
+                int month = values[MONTH];
+                int day = values[DAY];
+                if (dateBits != DATE_MASK || month < 1 || month > 12 || day < 1 ||
+                        (day > 28 && day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(values[YEAR])))) {
+                    return false;
+                }
+            }
+            int timeBits = present & TIME_MASK;
+            if (timeBits != 0) {
+                if ((timeBits & (1 << HOUR)) == 0 || (timeBits & (1 << MINUTE)) == 0) {
+                    return false;
+                }
+                if ((timeBits & (1 << SECOND)) == 0) {
+                    if ((timeBits & (1 << NANO)) != 0) {
+                        return false;
+                    }
+                    values[SECOND] = 0;
+                }
+                if ((timeBits & (1 << NANO)) == 0) {
+                    values[NANO] = 0;
+                }
+                if (values[HOUR] > 23 || values[MINUTE] > 59 || values[SECOND] > 59) {
+                    return false;
+                }
+            }
+            if (hasOffset() && (dateBits == 0 || timeBits == 0 || Math.abs(values[OFFSET]) > 18 * 3600)) {
+                return false;
+            }
+            return dateBits != 0 || timeBits != 0;
+        }
+
+        //-----------------------------------------------------------------------
+        boolean hasDate() {
+            return (present & DATE_MASK) != 0;
+        }
+
+        boolean hasTime() {
+            return (present & TIME_MASK) != 0;
+        }
+
+        boolean hasOffset() {
+            return (present & (1 << OFFSET)) != 0;
+        }
+
+        boolean isInstant() {
+            return instant;
+        }
+
+        int getYear() {
+            return values[YEAR];
+        }
+
+        int getMonth() {
+            return values[MONTH];
+        }
+
+        int getDay() {
+            return values[DAY];
+        }
+
+        int getHour() {
+            return values[HOUR];
+        }
+
+        int getMinute() {
+            return values[MINUTE];
+        }
+
+        int getSecond() {
+            return values[SECOND];
+        }
+
+        int getNano() {
+            return values[NANO];
+        }
+
+        int getOffsetSeconds() {
+            return (instant ? 0 : values[OFFSET]);
+        }
+
+        /**
+         * Gets the epoch-day of the date, calculated as per {@code LocalDate.toEpochDay()}.
+         *
+         * @return the epoch-day
+         */
+        long toEpochDay() {
+            long y = values[YEAR];  // never negative
+            long m = values[MONTH];
+            long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+            total += ((367 * m - 362) / 12);
+            total += values[DAY] - 1;
+            if (m > 2) {
+                total--;
+                if (IsoChronology.INSTANCE.isLeapYear(y) == false) {
+                    total--;
+                }
+            }
+            return total - DAYS_0000_TO_1970;
+        }
+
+        /**
+         * Gets the epoch-second of a date-time with an offset, or an instant.
+         *
+         * @return the epoch-second
+         */
+        long toEpochSecond() {
+            int secondOfDay = values[HOUR] * 3600 + values[MINUTE] * 60 + values[SECOND];
+            return toEpochDay() * 86400L + secondOfDay - getOffsetSeconds();
+        }
+
+        LocalDate toLocalDate() {
+            return LocalDate.of(values[YEAR], values[MONTH], values[DAY]);
+        }
+
+        LocalTime toLocalTime() {
+            return LocalTime.of(values[HOUR], values[MINUTE], values[SECOND], values[NANO]);
+        }
+
+        Instant toInstant() {
+            return Instant.ofEpochSecond(toEpochSecond(), values[NANO]);
+        }
+
+        /**
+         * Creates the temporal that was parsed.
+         *
+         * @return the date, time, date-time, offset date-time or instant, not null
+         */
+        TemporalAccessor toTemporal() {
+            if (instant) {
+                return toInstant();
+            }
+            if (hasDate() == false) {
+                return toLocalTime();
+            }
+            if (hasTime() == false) {
+                return toLocalDate();
+            }
+            if (hasOffset() == false) {
+                return LocalDateTime.of(toLocalDate(), toLocalTime());
+            }
+            return OffsetDateTime.of(toLocalDate(), toLocalTime(), ZoneOffset.ofTotalSeconds(values[OFFSET]));
+        }
+    }
+
+    /**
+     * A single step of the parse.
+     * <p>
+     * Each step returns the new position, {@code FAIL} if the text does not match in
+     * the same way as the generic parser, or {@code ABORT} if the generic parser must be used.
+     */
+    private static abstract class Step {
+        abstract int parse(State state, CharSequence text, int position);
+    }
+
+    /**
+     * Parses a literal character.
+     */
+    private static final class LiteralStep extends Step {
+        private final char literal;
+        private final boolean caseSensitive;
+
+        LiteralStep(char literal, boolean caseSensitive) {
+            this.literal = literal;
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        int parse(State state, CharSequence text, int position) {
+            if (position == text.length()) {
+                return FAIL;
+            }
+            char ch = text.charAt(position);
+            if (ch == literal || (caseSensitive == false && DateTimeParseContext.charEqualsIgnoreCase(literal, ch))) {
+                return position + 1;
+            }
+            return FAIL;
+        }
+    }
+
+    /**
+     * Parses a fixed-width unsigned number.
+     * <p>
+     * A number that may exceed the pad width is accepted only at exactly the pad width.
+     */
+    private static final class NumberStep extends Step {
+        private final int slot;
+        private final int width;
+        private final boolean exceedsPad;
+
+        NumberStep(int slot, int width, boolean exceedsPad) {
+            this.slot = slot;
+            this.width = width;
+            this.exceedsPad = exceedsPad;
+        }
+
+        @Override
+        int parse(State state, CharSequence text, int position) {
+            int length = text.length();
+            if (position < length) {
+                char ch = text.charAt(position);
+                if (ch == '+' || ch == '-') {
+                    return ABORT;
+                }
+            }
+            int end = position + width;
+            if (end > length) {
+                return FAIL;
+            }
+            int total = 0;
+            for (int pos = position; pos < end; pos++) {
+                int digit = text.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    return FAIL;
+                }
+                total = total * 10 + digit;
+            }
+            if (exceedsPad && end < length) {
+                char ch = text.charAt(end);
+                if (ch >= '0' && ch <= '9') {
+                    return ABORT;
+                }
+            }
+            return state.set(slot, total, end);
+        }
+    }
+
+    /**
+     * Parses the nano-of-second as a fraction.
+     */
+    private static final class FractionStep extends Step {
+        private final int minWidth;
+        private final int maxWidth;
+        private final boolean decimalPoint;
+
+        FractionStep(int minWidth, int maxWidth, boolean decimalPoint) {
+            this.minWidth = minWidth;
+            this.maxWidth = maxWidth;
+            this.decimalPoint = decimalPoint;
+        }
+
+        @Override
+        int parse(State state, CharSequence text, int position) {
+            int length = text.length();
+            if (position == length) {
+                return (minWidth > 0 ? FAIL : position);
+            }
+            if (decimalPoint) {
+                if (text.charAt(position) != '.') {
+                    return (minWidth > 0 ? FAIL : position);
+                }
+                position++;
+            }
+            int minEndPos = position + minWidth;
+            if (minEndPos > length) {
+                return FAIL;
+            }
+            int maxEndPos = Math.min(position + maxWidth, length);
+            int total = 0;
+            int pos = position;
+            while (pos < maxEndPos) {
+                int digit = text.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                total = total * 10 + digit;
+                pos++;
+            }
+            if (pos < minEndPos) {
+                return FAIL;
+            }
+            for (int i = pos - position; i < 9; i++) {
+                total *= 10;
+            }
+            return state.set(NANO, total, pos);
+        }
+    }
+
+    /**
+     * Parses an offset in the form '+HH:MM:ss' or 'Z'.
+     */
+    private static final class OffsetStep extends Step {
+        private final boolean caseSensitive;
+
+        OffsetStep(boolean caseSensitive) {
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        int parse(State state, CharSequence text, int position) {
+            int length = text.length();
+            if (position == length) {
+                return ABORT;
+            }
+            char sign = text.charAt(position);
+            if (sign == 'Z' || (caseSensitive == false && sign == 'z')) {
+                return state.set(OFFSET, 0, position + 1);
+            }
+            if ((sign != '+' && sign != '-') || position + 6 > length || text.charAt(position + 3) != ':') {
+                return ABORT;
+            }
+            int hours = twoDigits(text, position + 1);
+            int minutes = twoDigits(text, position + 4);
+            if (hours < 0 || minutes < 0) {
+                return ABORT;
+            }
+            int pos = position + 6;
+            int seconds = 0;
+            if (pos + 3 <= length && text.charAt(pos) == ':') {
+                seconds = twoDigits(text, pos + 1);
+                if (seconds < 0) {
+                    return ABORT;
+                }
+                pos += 3;
+            }
+            int total = hours * 3600 + minutes * 60 + seconds;
+            return state.set(OFFSET, sign == '-' ? -total : total, pos);
+        }
+
+        private static int twoDigits(CharSequence text, int position) {
+            char ch1 = text.charAt(position);
+            char ch2 = text.charAt(position + 1);
+            if (ch1 < '0' || ch1 > '9' || ch2 < '0' || ch2 > '9') {
+                return -1;
+            }
+            int value = (ch1 - '0') * 10 + (ch2 - '0');
+            return (value > 59 ? -1 : value);
+        }
+    }
+
+    /**
+     * Parses an optional section, rolling back on failure.
+     */
+    private static final class OptionalStep extends Step {
+        private final Step[] steps;
+
+        OptionalStep(Step[] steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        int parse(State state, CharSequence text, int position) {
+            int present = state.present;
+            int pos = position;
+            for (Step step : steps) {
+                pos = step.parse(state, text, pos);
+                if (pos == ABORT) {
+                    return ABORT;
+                }
+                if (pos < 0) {
+                    state.present = present;
+                    return position;
+                }
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Parses an ISO instant, where any failure requires the generic parser.
+     */
+    private static final class InstantStep extends Step {
+        private final Step[] steps;
+
+        InstantStep(Step[] steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        int parse(State state, CharSequence text, int position) {
+            int pos = position;
+            for (Step step : steps) {
+                pos = step.parse(state, text, pos);
+                if (pos < 0) {
+                    return ABORT;
+                }
+            }
+            return pos;
+        }
+    }
+
+}
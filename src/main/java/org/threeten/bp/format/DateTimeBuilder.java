@@ -50,7 +50,6 @@ import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -99,7 +98,7 @@ final class DateTimeBuilder
     /**
      * The map of other fields.
      */
-    final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+    final FieldValueMap fieldValues = new FieldValueMap();
     /**
      * The chronology.
      */
@@ -145,10 +144,6 @@ final class DateTimeBuilder
     }
 
     //-----------------------------------------------------------------------
-    private Long getFieldValue0(TemporalField field) {
-        return fieldValues.get(field);
-    }
-
     /**
      * Adds a field-value pair to the builder.
      * <p>
@@ -165,15 +160,17 @@ final class DateTimeBuilder
      */
     DateTimeBuilder addFieldValue(TemporalField field, long value) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long old = getFieldValue0(field);  // check first for better error message
-        if (old != null && old.longValue() != value) {
-            throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
+        if (fieldValues.containsKey(field)) {  // check first for better error message
+            long old = fieldValues.getLong(field);
+            if (old != value) {
+                throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
+            }
         }
         return putFieldValue0(field, value);
     }
 
     private DateTimeBuilder putFieldValue0(TemporalField field, long value) {
-        fieldValues.put(field, value);
+        fieldValues.putLong(field, value);
         return this;
     }
 
@@ -225,7 +222,8 @@ final class DateTimeBuilder
         int changes = 0;
         outer:
         while (changes < 100) {
-            for (Map.Entry<TemporalField, Long> entry : fieldValues.entrySet()) {
+            // standard fields are resolved by this builder, see ChronoField.resolve()
+            for (Map.Entry<TemporalField, Long> entry : fieldValues.otherFields().entrySet()) {
                 TemporalField targetField = entry.getKey();
                 TemporalAccessor resolvedObject = targetField.resolve(fieldValues, this, resolverStyle);
                 if (resolvedObject != null) {
@@ -274,8 +272,10 @@ final class DateTimeBuilder
             throw new DateTimeException("ChronoLocalDate must use the effective parsed chronology: " + chrono);
         }
         long epochDay = date.toEpochDay();
-        Long old = fieldValues.put(ChronoField.EPOCH_DAY, epochDay);
-        if (old != null && old.longValue() != epochDay) {
+        boolean present = fieldValues.containsKey(ChronoField.EPOCH_DAY);
+        long old = (present ? fieldValues.getLong(ChronoField.EPOCH_DAY) : 0);
+        fieldValues.putLong(ChronoField.EPOCH_DAY, epochDay);
+        if (present && old != epochDay) {
             throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(old) +
                     " differs from " + LocalDate.ofEpochDay(epochDay) +
                     " while resolving  " + targetField);
@@ -284,8 +284,10 @@ final class DateTimeBuilder
 
     private void resolveMakeChanges(TemporalField targetField, LocalTime time) {
         long nanOfDay = time.toNanoOfDay();
-        Long old = fieldValues.put(ChronoField.NANO_OF_DAY, nanOfDay);
-        if (old != null && old.longValue() != nanOfDay) {
+        boolean present = fieldValues.containsKey(ChronoField.NANO_OF_DAY);
+        long old = (present ? fieldValues.getLong(ChronoField.NANO_OF_DAY) : 0);
+        fieldValues.putLong(ChronoField.NANO_OF_DAY, nanOfDay);
+        if (present && old != nanOfDay) {
             throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(old) +
                     " differs from " + time +
                     " while resolving  " + targetField);
@@ -297,7 +299,7 @@ final class DateTimeBuilder
             checkDate(IsoChronology.INSTANCE.resolveDate(fieldValues, resolverStyle));
         } else {
             if (fieldValues.containsKey(EPOCH_DAY)) {
-                checkDate(LocalDate.ofEpochDay(fieldValues.remove(EPOCH_DAY)));
+                checkDate(LocalDate.ofEpochDay(fieldValues.removeLong(EPOCH_DAY)));
                 return;
             }
         }
@@ -306,19 +308,18 @@ final class DateTimeBuilder
     private void checkDate(LocalDate date) {
         if (date != null) {
             addObject(date);
-            for (TemporalField field : fieldValues.keySet()) {
-                if (field instanceof ChronoField) {
-                    if (field.isDateBased()) {
-                        long val1;
-                        try {
-                            val1 = date.getLong(field);
-                        } catch (DateTimeException ex) {
-                            continue;
-                        }
-                        Long val2 = fieldValues.get(field);
-                        if (val1 != val2) {
-                            throw new DateTimeException("Conflict found: Field " + field + " " + val1 + " differs from " + field + " " + val2 + " derived from " + date);
-                        }
+            for (int i = fieldValues.nextChronoField(0); i >= 0; i = fieldValues.nextChronoField(i + 1)) {
+                ChronoField field = FieldValueMap.chronoField(i);
+                if (field.isDateBased()) {
+                    long val1;
+                    try {
+                        val1 = date.getLong(field);
+                    } catch (DateTimeException ex) {
+                        continue;
+                    }
+                    long val2 = fieldValues.getLong(field);
+                    if (val1 != val2) {
+                        throw new DateTimeException("Conflict found: Field " + field + " " + val1 + " differs from " + field + " " + val2 + " derived from " + date);
                     }
                 }
             }
@@ -327,7 +328,7 @@ final class DateTimeBuilder
 
     private void mergeTime(ResolverStyle resolverStyle) {
         if (fieldValues.containsKey(CLOCK_HOUR_OF_DAY)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_DAY);
+            long ch = fieldValues.removeLong(CLOCK_HOUR_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
@@ -338,7 +339,7 @@ final class DateTimeBuilder
             addFieldValue(HOUR_OF_DAY, ch == 24 ? 0 : ch);
         }
         if (fieldValues.containsKey(CLOCK_HOUR_OF_AMPM)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_AMPM);
+            long ch = fieldValues.removeLong(CLOCK_HOUR_OF_AMPM);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
@@ -350,15 +351,15 @@ final class DateTimeBuilder
         }
         if (resolverStyle != ResolverStyle.LENIENT) {
             if (fieldValues.containsKey(AMPM_OF_DAY)) {
-                AMPM_OF_DAY.checkValidValue(fieldValues.get(AMPM_OF_DAY));
+                AMPM_OF_DAY.checkValidValue(fieldValues.getLong(AMPM_OF_DAY));
             }
             if (fieldValues.containsKey(HOUR_OF_AMPM)) {
-                HOUR_OF_AMPM.checkValidValue(fieldValues.get(HOUR_OF_AMPM));
+                HOUR_OF_AMPM.checkValidValue(fieldValues.getLong(HOUR_OF_AMPM));
             }
         }
         if (fieldValues.containsKey(AMPM_OF_DAY) && fieldValues.containsKey(HOUR_OF_AMPM)) {
-            long ap = fieldValues.remove(AMPM_OF_DAY);
-            long hap = fieldValues.remove(HOUR_OF_AMPM);
+            long ap = fieldValues.removeLong(AMPM_OF_DAY);
+            long hap = fieldValues.removeLong(HOUR_OF_AMPM);
             addFieldValue(HOUR_OF_DAY, ap * 12 + hap);
         }
 //        if (timeFields.containsKey(HOUR_OF_DAY) && timeFields.containsKey(MINUTE_OF_HOUR)) {
@@ -372,7 +373,7 @@ final class DateTimeBuilder
 //            addFieldValue(SECOND_OF_DAY, mod * 60 + som);
 //        }
         if (fieldValues.containsKey(NANO_OF_DAY)) {
-            long nod = fieldValues.remove(NANO_OF_DAY);
+            long nod = fieldValues.removeLong(NANO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 NANO_OF_DAY.checkValidValue(nod);
             }
@@ -380,7 +381,7 @@ final class DateTimeBuilder
             addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         }
         if (fieldValues.containsKey(MICRO_OF_DAY)) {
-            long cod = fieldValues.remove(MICRO_OF_DAY);
+            long cod = fieldValues.removeLong(MICRO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MICRO_OF_DAY.checkValidValue(cod);
             }
@@ -388,7 +389,7 @@ final class DateTimeBuilder
             addFieldValue(MICRO_OF_SECOND, cod % 1000000L);
         }
         if (fieldValues.containsKey(MILLI_OF_DAY)) {
-            long lod = fieldValues.remove(MILLI_OF_DAY);
+            long lod = fieldValues.removeLong(MILLI_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MILLI_OF_DAY.checkValidValue(lod);
             }
@@ -396,7 +397,7 @@ final class DateTimeBuilder
             addFieldValue(MILLI_OF_SECOND, lod % 1000);
         }
         if (fieldValues.containsKey(SECOND_OF_DAY)) {
-            long sod = fieldValues.remove(SECOND_OF_DAY);
+            long sod = fieldValues.removeLong(SECOND_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 SECOND_OF_DAY.checkValidValue(sod);
             }
@@ -405,7 +406,7 @@ final class DateTimeBuilder
             addFieldValue(SECOND_OF_MINUTE, sod % 60);
         }
         if (fieldValues.containsKey(MINUTE_OF_DAY)) {
-            long mod = fieldValues.remove(MINUTE_OF_DAY);
+            long mod = fieldValues.removeLong(MINUTE_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MINUTE_OF_DAY.checkValidValue(mod);
             }
@@ -420,118 +421,110 @@ final class DateTimeBuilder
 //            addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         if (resolverStyle != ResolverStyle.LENIENT) {
             if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-                MILLI_OF_SECOND.checkValidValue(fieldValues.get(MILLI_OF_SECOND));
+                MILLI_OF_SECOND.checkValidValue(fieldValues.getLong(MILLI_OF_SECOND));
             }
             if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-                MICRO_OF_SECOND.checkValidValue(fieldValues.get(MICRO_OF_SECOND));
+                MICRO_OF_SECOND.checkValidValue(fieldValues.getLong(MICRO_OF_SECOND));
             }
         }
         if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
-            long cos = fieldValues.get(MICRO_OF_SECOND);
+            long los = fieldValues.removeLong(MILLI_OF_SECOND);
+            long cos = fieldValues.getLong(MICRO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, los * 1000 + (cos % 1000));
         }
         if (fieldValues.containsKey(MICRO_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+            long nos = fieldValues.getLong(NANO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, nos / 1000);
-            fieldValues.remove(MICRO_OF_SECOND);
+            fieldValues.removeField(MICRO_OF_SECOND);
         }
         if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+            long nos = fieldValues.getLong(NANO_OF_SECOND);
             addFieldValue(MILLI_OF_SECOND, nos / 1000000);
-            fieldValues.remove(MILLI_OF_SECOND);
+            fieldValues.removeField(MILLI_OF_SECOND);
         }
         if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long cos = fieldValues.remove(MICRO_OF_SECOND);
+            long cos = fieldValues.removeLong(MICRO_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, cos * 1000);
         } else if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
+            long los = fieldValues.removeLong(MILLI_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, los * 1000000);
         }
     }
 
     private void resolveTimeInferZeroes(ResolverStyle resolverStyle) {
-        Long hod = fieldValues.get(HOUR_OF_DAY);
-        Long moh = fieldValues.get(MINUTE_OF_HOUR);
-        Long som = fieldValues.get(SECOND_OF_MINUTE);
-        Long nos = fieldValues.get(NANO_OF_SECOND);
-        if (hod == null) {
+        if (fieldValues.containsKey(HOUR_OF_DAY) == false) {
             return;
         }
-        if (moh == null && (som != null || nos != null)) {
+        boolean hasMoh = fieldValues.containsKey(MINUTE_OF_HOUR);
+        boolean hasSom = fieldValues.containsKey(SECOND_OF_MINUTE);
+        boolean hasNos = fieldValues.containsKey(NANO_OF_SECOND);
+        if (hasMoh == false && (hasSom || hasNos)) {
             return;
         }
-        if (moh != null && som == null && nos != null) {
+        if (hasMoh && hasSom == false && hasNos) {
             return;
         }
+        long hod = fieldValues.getLong(HOUR_OF_DAY);
+        long moh = (hasMoh ? fieldValues.getLong(MINUTE_OF_HOUR) : 0);
+        long som = (hasSom ? fieldValues.getLong(SECOND_OF_MINUTE) : 0);
+        long nos = (hasNos ? fieldValues.getLong(NANO_OF_SECOND) : 0);
         if (resolverStyle != ResolverStyle.LENIENT) {
-            if (hod != null) {
-                if (resolverStyle == ResolverStyle.SMART &&
-                                hod.longValue() == 24 && 
-                                (moh == null || moh.longValue() == 0) && 
-                                (som == null || som.longValue() == 0) && 
-                                (nos == null || nos.longValue() == 0)) {
-                    hod = 0L;
-                    excessDays = Period.ofDays(1);
-                }
-                int hodVal = HOUR_OF_DAY.checkValidIntValue(hod);
-                if (moh != null) {
-                    int mohVal = MINUTE_OF_HOUR.checkValidIntValue(moh);
-                    if (som != null) {
-                        int somVal = SECOND_OF_MINUTE.checkValidIntValue(som);
-                        if (nos != null) {
-                            int nosVal = NANO_OF_SECOND.checkValidIntValue(nos);
-                            addObject(LocalTime.of(hodVal, mohVal, somVal, nosVal));
-                        } else {
-                            addObject(LocalTime.of(hodVal, mohVal, somVal));
-                        }
+            if (resolverStyle == ResolverStyle.SMART && hod == 24 && moh == 0 && som == 0 && nos == 0) {
+                hod = 0;
+                excessDays = Period.ofDays(1);
+            }
+            int hodVal = HOUR_OF_DAY.checkValidIntValue(hod);
+            if (hasMoh) {
+                int mohVal = MINUTE_OF_HOUR.checkValidIntValue(moh);
+                if (hasSom) {
+                    int somVal = SECOND_OF_MINUTE.checkValidIntValue(som);
+                    if (hasNos) {
+                        int nosVal = NANO_OF_SECOND.checkValidIntValue(nos);
+                        addObject(LocalTime.of(hodVal, mohVal, somVal, nosVal));
                     } else {
-                        if (nos == null) {
-                            addObject(LocalTime.of(hodVal, mohVal));
-                        }
+                        addObject(LocalTime.of(hodVal, mohVal, somVal));
                     }
                 } else {
-                    if (som == null && nos == null) {
-                        addObject(LocalTime.of(hodVal, 0));
+                    if (hasNos == false) {
+                        addObject(LocalTime.of(hodVal, mohVal));
                     }
                 }
+            } else {
+                if (hasSom == false && hasNos == false) {
+                    addObject(LocalTime.of(hodVal, 0));
+                }
             }
         } else {
-            if (hod != null) {
-                long hodVal = hod;
-                if (moh != null) {
-                    if (som != null) {
-                        if (nos == null) {
-                            nos = 0L;
-                        }
-                        long totalNanos = Jdk8Methods.safeMultiply(hodVal, 3600000000000L);
-                        totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(moh, 60000000000L));
-                        totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(som, 1000000000L));
-                        totalNanos = Jdk8Methods.safeAdd(totalNanos, nos);
-                        int excessDays = (int) Jdk8Methods.floorDiv(totalNanos, 86400000000000L);  // safe int cast
-                        long nod = Jdk8Methods.floorMod(totalNanos, 86400000000000L);
-                        addObject(LocalTime.ofNanoOfDay(nod));
-                        this.excessDays = Period.ofDays(excessDays);
-                    } else {
-                        long totalSecs = Jdk8Methods.safeMultiply(hodVal, 3600L);
-                        totalSecs = Jdk8Methods.safeAdd(totalSecs, Jdk8Methods.safeMultiply(moh, 60L));
-                        int excessDays = (int) Jdk8Methods.floorDiv(totalSecs, 86400L);  // safe int cast
-                        long sod = Jdk8Methods.floorMod(totalSecs, 86400L);
-                        addObject(LocalTime.ofSecondOfDay(sod));
-                        this.excessDays = Period.ofDays(excessDays);
-                    }
+            long hodVal = hod;
+            if (hasMoh) {
+                if (hasSom) {
+                    long totalNanos = Jdk8Methods.safeMultiply(hodVal, 3600000000000L);
+                    totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(moh, 60000000000L));
+                    totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(som, 1000000000L));
+                    totalNanos = Jdk8Methods.safeAdd(totalNanos, nos);
+                    int excessDays = (int) Jdk8Methods.floorDiv(totalNanos, 86400000000000L);  // safe int cast
+                    long nod = Jdk8Methods.floorMod(totalNanos, 86400000000000L);
+                    addObject(LocalTime.ofNanoOfDay(nod));
+                    this.excessDays = Period.ofDays(excessDays);
                 } else {
-                    int excessDays = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(hodVal, 24L));
-                    hodVal = Jdk8Methods.floorMod(hodVal, 24);
-                    addObject(LocalTime.of((int) hodVal, 0));
+                    long totalSecs = Jdk8Methods.safeMultiply(hodVal, 3600L);
+                    totalSecs = Jdk8Methods.safeAdd(totalSecs, Jdk8Methods.safeMultiply(moh, 60L));
+                    int excessDays = (int) Jdk8Methods.floorDiv(totalSecs, 86400L);  // safe int cast
+                    long sod = Jdk8Methods.floorMod(totalSecs, 86400L);
+                    addObject(LocalTime.ofSecondOfDay(sod));
                     this.excessDays = Period.ofDays(excessDays);
                 }
+            } else {
+                int excessDays = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(hodVal, 24L));
+                hodVal = Jdk8Methods.floorMod(hodVal, 24);
+                addObject(LocalTime.of((int) hodVal, 0));
+                this.excessDays = Period.ofDays(excessDays);
             }
         }
-        fieldValues.remove(HOUR_OF_DAY);
-        fieldValues.remove(MINUTE_OF_HOUR);
-        fieldValues.remove(SECOND_OF_MINUTE);
-        fieldValues.remove(NANO_OF_SECOND);
+        fieldValues.removeField(HOUR_OF_DAY);
+        fieldValues.removeField(MINUTE_OF_HOUR);
+        fieldValues.removeField(SECOND_OF_MINUTE);
+        fieldValues.removeField(NANO_OF_SECOND);
     }
 
     //-----------------------------------------------------------------------
@@ -539,18 +532,15 @@ final class DateTimeBuilder
         if (fieldValues.containsKey(INSTANT_SECONDS)) {
             if (zone != null) {
                 mergeInstantFields0(zone);
-            } else {
-                Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
-                if (offsetSecs != null) {
-                    ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
-                    mergeInstantFields0(offset);
-                }
+            } else if (fieldValues.containsKey(OFFSET_SECONDS)) {
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) fieldValues.getLong(OFFSET_SECONDS));
+                mergeInstantFields0(offset);
             }
         }
     }
 
     private void mergeInstantFields0(ZoneId selectedZone) {
-        Instant instant = Instant.ofEpochSecond(fieldValues.remove(INSTANT_SECONDS));
+        Instant instant = Instant.ofEpochSecond(fieldValues.removeLong(INSTANT_SECONDS));
         ChronoZonedDateTime<?> zdt = chrono.zonedDateTime(instant, selectedZone);
         if (date == null) {
             addObject(zdt.toLocalDate());
@@ -574,40 +564,51 @@ final class DateTimeBuilder
     }
 
     private void crossCheck(TemporalAccessor temporal) {
-        Iterator<Entry<TemporalField, Long>> it = fieldValues.entrySet().iterator();
+        for (int i = fieldValues.nextChronoField(0); i >= 0; i = fieldValues.nextChronoField(i + 1)) {
+            ChronoField field = FieldValueMap.chronoField(i);
+            if (crossCheck(temporal, field, fieldValues.getLong(field))) {
+                fieldValues.removeField(field);
+            }
+        }
+        Iterator<Entry<TemporalField, Long>> it = fieldValues.otherFields().entrySet().iterator();
         while (it.hasNext()) {
             Entry<TemporalField, Long> entry = it.next();
-            TemporalField field = entry.getKey();
-            long value = entry.getValue();
-            if (temporal.isSupported(field)) {
-                long temporalValue;
-                try {
-                    temporalValue = temporal.getLong(field);
-                } catch (RuntimeException ex) {
-                    continue;
-                }
-                if (temporalValue != value) {
-                    throw new DateTimeException("Cross check failed: " +
-                            field + " " + temporalValue + " vs " + field + " " + value);
-                }
+            if (crossCheck(temporal, entry.getKey(), entry.getValue())) {
                 it.remove();
             }
         }
     }
 
+    private boolean crossCheck(TemporalAccessor temporal, TemporalField field, long value) {
+        if (temporal.isSupported(field)) {
+            long temporalValue;
+            try {
+                temporalValue = temporal.getLong(field);
+            } catch (RuntimeException ex) {
+                return false;
+            }
+            if (temporalValue != value) {
+                throw new DateTimeException("Cross check failed: " +
+                        field + " " + temporalValue + " vs " + field + " " + value);
+            }
+            return true;
+        }
+        return false;
+    }
+
     private void resolveFractional() {
         if (time == null &&
                 (fieldValues.containsKey(INSTANT_SECONDS) ||
                     fieldValues.containsKey(SECOND_OF_DAY) ||
                     fieldValues.containsKey(SECOND_OF_MINUTE))) {
             if (fieldValues.containsKey(NANO_OF_SECOND)) {
-                long nos = fieldValues.get(NANO_OF_SECOND);
-                fieldValues.put(MICRO_OF_SECOND, nos / 1000);
-                fieldValues.put(MILLI_OF_SECOND, nos / 1000000);
+                long nos = fieldValues.getLong(NANO_OF_SECOND);
+                fieldValues.putLong(MICRO_OF_SECOND, nos / 1000);
+                fieldValues.putLong(MILLI_OF_SECOND, nos / 1000000);
             } else {
-                fieldValues.put(NANO_OF_SECOND, 0L);
-                fieldValues.put(MICRO_OF_SECOND, 0L);
-                fieldValues.put(MILLI_OF_SECOND, 0L);
+                fieldValues.putLong(NANO_OF_SECOND, 0L);
+                fieldValues.putLong(MICRO_OF_SECOND, 0L);
+                fieldValues.putLong(MILLI_OF_SECOND, 0L);
             }
         }
     }
@@ -616,14 +617,11 @@ final class DateTimeBuilder
         if (date != null && time != null) {
             if (zone != null) {
                 long instant = date.atTime(time).atZone(zone).getLong(ChronoField.INSTANT_SECONDS);
-                fieldValues.put(INSTANT_SECONDS, instant);
-            } else {
-                Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
-                if (offsetSecs != null) {
-                    ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
-                    long instant = date.atTime(time).atZone(offset).getLong(ChronoField.INSTANT_SECONDS);
-                    fieldValues.put(INSTANT_SECONDS, instant);
-                }
+                fieldValues.putLong(INSTANT_SECONDS, instant);
+            } else if (fieldValues.containsKey(OFFSET_SECONDS)) {
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) fieldValues.getLong(OFFSET_SECONDS));
+                long instant = date.atTime(time).atZone(offset).getLong(ChronoField.INSTANT_SECONDS);
+                fieldValues.putLong(INSTANT_SECONDS, instant);
             }
         }
     }
@@ -658,17 +656,16 @@ final class DateTimeBuilder
     @Override
     public long getLong(TemporalField field) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long value = getFieldValue0(field);
-        if (value == null) {
-            if (date != null && date.isSupported(field)) {
-                return date.getLong(field);
-            }
-            if (time != null && time.isSupported(field)) {
-                return time.getLong(field);
-            }
-            throw new DateTimeException("Field not found: " + field);
+        if (fieldValues.containsKey(field)) {
+            return fieldValues.getLong(field);
+        }
+        if (date != null && date.isSupported(field)) {
+            return date.getLong(field);
+        }
+        if (time != null && time.isSupported(field)) {
+            return time.getLong(field);
         }
-        return value;
+        throw new DateTimeException("Field not found: " + field);
     }
 
     @SuppressWarnings("unchecked")
@@ -42,6 +42,8 @@ import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParseException;
@@ -54,6 +56,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+import org.threeten.bp.CacheStatistics;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
@@ -102,6 +105,19 @@ import org.threeten.bp.temporal.TemporalQuery;
  */
 public final class DateTimeFormatter {
 
+    /**
+     * The cache of formatters created from a pattern.
+     */
+    private static final PatternCache PATTERN_CACHE = new PatternCache(512);
+    /**
+     * The buffer reused by each thread when formatting to bytes, null while in use.
+     */
+    private static final ThreadLocal<StringBuilder> ASCII_BUFFER = new ThreadLocal<StringBuilder>();
+    /**
+     * The largest capacity of a buffer retained for reuse.
+     */
+    private static final int ASCII_BUFFER_MAX_CAPACITY = 1024;
+
     //-----------------------------------------------------------------------
     /**
      * Returns the ISO date formatter that prints/parses a date without an offset,
@@ -757,6 +773,9 @@ public final class DateTimeFormatter {
      * Any non-letter character, other than '[', ']', '{', '}' and the single quote will be output directly.
      * Despite this, it is recommended to use single quotes around all characters that you want to
      * output directly to ensure that future changes do not break your application.
+     * <p>
+     * Formatters are cached by pattern and locale, thus repeated calls will
+     * typically return the same formatter instance.
      *
      * @param pattern  the pattern to use, not null
      * @return the formatter based on the pattern, not null
@@ -764,7 +783,7 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter();
+        return ofPattern(pattern, Locale.getDefault());
     }
 
     /**
@@ -777,6 +796,9 @@ public final class DateTimeFormatter {
      * <p>
      * The returned formatter will use the specified locale, but this can be changed
      * using {@link DateTimeFormatter#withLocale(Locale)}.
+     * <p>
+     * Formatters are cached by pattern and locale, thus repeated calls will
+     * typically return the same formatter instance.
      *
      * @param pattern  the pattern to use, not null
      * @param locale  the locale to use, not null
@@ -785,7 +807,31 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        Jdk8Methods.requireNonNull(pattern, "pattern");
+        Jdk8Methods.requireNonNull(locale, "locale");
+        return PATTERN_CACHE.get(pattern, locale);
+    }
+
+    /**
+     * Gets the cache of formatters created by {@code ofPattern}.
+     *
+     * @return the cache, not null
+     */
+    static PatternCache getPatternCache() {
+        return PATTERN_CACHE;
+    }
+
+    /**
+     * Gets the statistics of the cache of formatters created by {@code ofPattern}.
+     * <p>
+     * The cache holds up to 512 formatters, keyed by pattern and locale.
+     * A miss is counted each time a formatter is created, and an eviction each time
+     * an unused formatter is removed to make space.
+     *
+     * @return the statistics of the cache, not null
+     */
+    public static CacheStatistics getPatternCacheStatistics() {
+        return PATTERN_CACHE.getStatistics();
     }
 
     //-----------------------------------------------------------------------
@@ -1013,6 +1059,14 @@ public final class DateTimeFormatter {
      * The zone to use for formatting, null for no override.
      */
     private final ZoneId zone;
+    /**
+     * The compiled fast-path parser, null if the formatter cannot be compiled.
+     */
+    private final CompiledParser compiledParser;
+    /**
+     * The plan for resolving the parsed fields, null if the general resolver is always used.
+     */
+    private final ResolverPlan resolverPlan;
 
     //-----------------------------------------------------------------------
     /**
@@ -1036,6 +1090,8 @@ public final class DateTimeFormatter {
         this.resolverFields = resolverFields;
         this.chrono = chrono;
         this.zone = zone;
+        this.compiledParser = CompiledParser.compile(printerParser, decimalStyle, resolverFields, chrono, zone);
+        this.resolverPlan = ResolverPlan.derive(printerParser, resolverStyle, resolverFields, chrono);
     }
 
     //-----------------------------------------------------------------------
@@ -1394,6 +1450,132 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Formats a date-time object as ASCII bytes into a byte array using this formatter.
+     * <p>
+     * This formats the date-time to the array starting at the specified offset,
+     * writing one byte per character. Nothing is written if an error occurs.
+     * <p>
+     * The text is formatted into a buffer reused by the calling thread and then copied
+     * to the array, thus no buffer or string is allocated per call.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param bytes  the byte array to print to, not null
+     * @param offset  the index of the first byte to write
+     * @return the index after the last byte written
+     * @throws DateTimeException if an error occurs during formatting, or the result is not ASCII
+     * @throws IndexOutOfBoundsException if the result does not fit in the array
+     */
+    public int formatTo(TemporalAccessor temporal, byte[] bytes, int offset) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        StringBuilder buf = acquireAsciiBuffer();
+        try {
+            formatToAscii(temporal, buf);
+            int length = buf.length();
+            if (offset < 0 || offset > bytes.length - length) {
+                throw new IndexOutOfBoundsException("Unable to write " + length + " bytes at offset " + offset +
+                        " to array of length " + bytes.length);
+            }
+            for (int i = 0; i < length; i++) {
+                bytes[offset + i] = (byte) buf.charAt(i);
+            }
+            return offset + length;
+        } finally {
+            releaseAsciiBuffer(buf);
+        }
+    }
+
+    /**
+     * Formats a date-time object as ASCII bytes into a byte buffer using this formatter.
+     * <p>
+     * This formats the date-time to the buffer at its current position, writing one
+     * byte per character and advancing the position. Nothing is written if an error occurs.
+     * <p>
+     * The text is formatted into a buffer reused by the calling thread and then copied
+     * to the byte buffer, thus no buffer or string is allocated per call.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param buffer  the byte buffer to print to, not null
+     * @return the position of the buffer after the last byte written
+     * @throws DateTimeException if an error occurs during formatting, or the result is not ASCII
+     * @throws BufferOverflowException if the result does not fit in the remaining bytes
+     */
+    public int formatTo(TemporalAccessor temporal, ByteBuffer buffer) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        StringBuilder buf = acquireAsciiBuffer();
+        try {
+            formatToAscii(temporal, buf);
+            int length = buf.length();
+            if (length > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            int position = buffer.position();
+            if (buffer.hasArray()) {
+                byte[] bytes = buffer.array();
+                int offset = buffer.arrayOffset() + position;
+                for (int i = 0; i < length; i++) {
+                    bytes[offset + i] = (byte) buf.charAt(i);
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    buffer.put(position + i, (byte) buf.charAt(i));
+                }
+            }
+            buffer.position(position + length);
+            return position + length;
+        } finally {
+            releaseAsciiBuffer(buf);
+        }
+    }
+
+    /**
+     * Obtains the buffer of the current thread for formatting to bytes.
+     * <p>
+     * A new buffer is created if the thread's buffer is in use, as when
+     * formatting to bytes while already doing so.
+     *
+     * @return the empty buffer, not null
+     */
+    private static StringBuilder acquireAsciiBuffer() {
+        StringBuilder buf = ASCII_BUFFER.get();
+        if (buf == null) {
+            return new StringBuilder(32);
+        }
+        ASCII_BUFFER.set(null);
+        buf.setLength(0);
+        return buf;
+    }
+
+    /**
+     * Returns the buffer to the current thread for reuse, unless it has grown too large.
+     *
+     * @param buf  the buffer obtained from {@link #acquireAsciiBuffer()}, not null
+     */
+    private static void releaseAsciiBuffer(StringBuilder buf) {
+        if (buf.capacity() <= ASCII_BUFFER_MAX_CAPACITY) {
+            ASCII_BUFFER.set(buf);
+        }
+    }
+
+    /**
+     * Formats a date-time object into the buffer, checking that the result is ASCII.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param buf  the empty buffer to print to, not null
+     * @throws DateTimeException if an error occurs during formatting, or the result is not ASCII
+     */
+    private void formatToAscii(TemporalAccessor temporal, StringBuilder buf) {
+        formatTo(temporal, buf);
+        for (int i = 0; i < buf.length(); i++) {
+            if (buf.charAt(i) > 0x7F) {
+                throw new DateTimeException("Unable to format as ASCII, found '" + buf.charAt(i) +
+                        "' at index " + i + " in: " + buf);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing a temporal object.
@@ -1413,7 +1595,7 @@ public final class DateTimeFormatter {
     public TemporalAccessor parse(CharSequence text) {
         Jdk8Methods.requireNonNull(text, "text");
         try {
-            return parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+            return resolve(parseToBuilder(text, null));
         } catch (DateTimeParseException ex) {
             throw ex;
         } catch (RuntimeException ex) {
@@ -1455,7 +1637,7 @@ public final class DateTimeFormatter {
         Jdk8Methods.requireNonNull(text, "text");
         Jdk8Methods.requireNonNull(position, "position");
         try {
-            return parseToBuilder(text, position).resolve(resolverStyle, resolverFields);
+            return resolve(parseToBuilder(text, position));
         } catch (DateTimeParseException ex) {
             throw ex;
         } catch (IndexOutOfBoundsException ex) {
@@ -1477,6 +1659,10 @@ public final class DateTimeFormatter {
      * </pre>
      * If the parse completes without reading the entire length of the text,
      * or a problem occurs during parsing or merging, then an exception is thrown.
+     * <p>
+     * Formatters made up of fixed-width ISO elements, such as {@link #ISO_LOCAL_DATE_TIME},
+     * parse directly to {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime},
+     * {@code OffsetDateTime} and {@code Instant} where possible, with the same result.
      *
      * @param <T> the type to extract
      * @param text  the text to parse, not null
@@ -1487,8 +1673,14 @@ public final class DateTimeFormatter {
     public <T> T parse(CharSequence text, TemporalQuery<T> type) {
         Jdk8Methods.requireNonNull(text, "text");
         Jdk8Methods.requireNonNull(type, "type");
+        if (compiledParser != null) {
+            T result = compiledParser.parse(text, type);
+            if (result != null) {
+                return result;
+            }
+        }
         try {
-            DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+            DateTimeBuilder builder = resolve(parseToBuilder(text, null));
             return builder.build(type);
         } catch (DateTimeParseException ex) {
             throw ex;
@@ -1497,6 +1689,121 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Fully parses the text producing an object of the specified type,
+     * returning null rather than throwing an exception if unable to parse.
+     * <p>
+     * This parses the entire text in the same way as {@link #parse(CharSequence, TemporalQuery)},
+     * but signals failure by returning null. Use {@link #tryParse(CharSequence, ParsePosition, TemporalQuery)}
+     * to obtain the index of the error.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, null if unable to parse the requested result
+     */
+    public <T> T tryParse(CharSequence text, TemporalQuery<T> type) {
+        return tryParse(text, new ParsePosition(0), type);
+    }
+
+    /**
+     * Fully parses the text from a position producing an object of the specified type,
+     * returning null rather than throwing an exception if unable to parse.
+     * <p>
+     * This parses the text from the index of the position to the end of the text in the
+     * same way as {@link #parse(CharSequence, TemporalQuery)}, but signals failure by
+     * returning null and setting the error index of the position.
+     * <p>
+     * If the text cannot be parsed, the error index is set to the index of the problem,
+     * which is the start of any unparsed text. If the text can be parsed but the result
+     * cannot be obtained, for example due to an invalid day-of-month, the error index is
+     * set to the starting index. On failure the index is unaltered.
+     * On success the index is set to the end of the text.
+     * <p>
+     * No exception is created when the text cannot be parsed.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with the result, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, null if unable to parse the requested result
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    public <T> T tryParse(CharSequence text, ParsePosition position, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(text, "text");
+        Jdk8Methods.requireNonNull(position, "position");
+        Jdk8Methods.requireNonNull(type, "type");
+        int start = position.getIndex();
+        if (compiledParser != null && start == 0) {
+            T result = compiledParser.parse(text, type);
+            if (result != null) {
+                position.setIndex(text.length());
+                return result;
+            }
+        }
+        Parsed parsed = parseUnresolved0(text, position);
+        if (parsed == null) {
+            return null;
+        }
+        if (position.getIndex() < text.length()) {
+            position.setErrorIndex(position.getIndex());
+            position.setIndex(start);
+            return null;
+        }
+        try {
+            return resolve(parsed.toBuilder()).build(type);
+        } catch (RuntimeException ex) {
+            position.setErrorIndex(start);
+            position.setIndex(start);
+            return null;
+        }
+    }
+
+    /**
+     * Fully parses a range of ASCII bytes producing an object of the specified type.
+     * <p>
+     * This operates as per {@link #parse(CharSequence, TemporalQuery)}, treating each
+     * byte as a single character. The bytes are read in place without being copied.
+     * A byte outside the ASCII range never matches, thus parsing fails at its index.
+     * The error index of any exception is relative to the offset.
+     *
+     * @param <T> the type to extract
+     * @param bytes  the bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if unable to parse the requested result
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    public <T> T parse(byte[] bytes, int offset, int length, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(bytes, "bytes");
+        return parse(AsciiCharSequence.of(bytes, offset, length), type);
+    }
+
+    /**
+     * Fully parses the remaining ASCII bytes of a buffer producing an object of the specified type.
+     * <p>
+     * This operates as per {@link #parse(CharSequence, TemporalQuery)}, treating each
+     * byte from the position to the limit as a single character. The bytes are read
+     * in place without being copied. A byte outside the ASCII range never matches,
+     * thus parsing fails at its index. If the parse succeeds, the position of the buffer
+     * is set to the limit, otherwise it is unaltered.
+     * The error index of any exception is relative to the position.
+     *
+     * @param <T> the type to extract
+     * @param buffer  the buffer to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(ByteBuffer buffer, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        T result = parse(AsciiCharSequence.of(buffer), type);
+        buffer.position(buffer.limit());
+        return result;
+    }
+
     /**
      * Fully parses the text producing an object of one of the specified types.
      * <p>
@@ -1533,7 +1840,7 @@ public final class DateTimeFormatter {
             throw new IllegalArgumentException("At least two types must be specified");
         }
         try {
-            DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
+            DateTimeBuilder builder = resolve(parseToBuilder(text, null));
             for (TemporalQuery<?> type : types) {
                 try {
                     return (TemporalAccessor) builder.build(type);
@@ -1549,14 +1856,27 @@ public final class DateTimeFormatter {
         }
     }
 
-    private DateTimeParseException createError(CharSequence text, RuntimeException ex) {
-        String abbr = "";
-        if (text.length() > 64) {
-            abbr = text.subSequence(0, 64).toString() + "...";
+    static DateTimeParseException createError(CharSequence text, RuntimeException ex) {
+        String abbr = abbreviate(text);
+        return new DateTimeParseException("Text '" + abbr + "' could not be parsed: " + ex.getMessage(), text, 0, ex);
+    }
+
+    static DateTimeParseException createError(CharSequence text, ParsePosition pos) {
+        String abbr = abbreviate(text);
+        if (pos.getErrorIndex() >= 0) {
+            return new DateTimeParseException("Text '" + abbr + "' could not be parsed at index " +
+                    pos.getErrorIndex(), text, pos.getErrorIndex());
         } else {
-            abbr = text.toString();
+            return new DateTimeParseException("Text '" + abbr + "' could not be parsed, unparsed text found at index " +
+                    pos.getIndex(), text, pos.getIndex());
         }
-        return new DateTimeParseException("Text '" + abbr + "' could not be parsed: " + ex.getMessage(), text, 0, ex);
+    }
+
+    private static String abbreviate(CharSequence text) {
+        if (text.length() > 64) {
+            return text.subSequence(0, 64).toString() + "...";
+        }
+        return text.toString();
     }
 
     //-----------------------------------------------------------------------
@@ -1577,19 +1897,7 @@ public final class DateTimeFormatter {
         ParsePosition pos = (position != null ? position : new ParsePosition(0));
         Parsed result = parseUnresolved0(text, pos);
         if (result == null || pos.getErrorIndex() >= 0 || (position == null && pos.getIndex() < text.length())) {
-            String abbr = "";
-            if (text.length() > 64) {
-                abbr = text.subSequence(0, 64).toString() + "...";
-            } else {
-                abbr = text.toString();
-            }
-            if (pos.getErrorIndex() >= 0) {
-                throw new DateTimeParseException("Text '" + abbr + "' could not be parsed at index " +
-                        pos.getErrorIndex(), text, pos.getErrorIndex());
-            } else {
-                throw new DateTimeParseException("Text '" + abbr + "' could not be parsed, unparsed text found at index " +
-                        pos.getIndex(), text, pos.getIndex());
-            }
+            throw createError(text, pos);
         }
         return result.toBuilder();
     }
@@ -1662,6 +1970,51 @@ public final class DateTimeFormatter {
         return printerParser.withOptional(optional);
     }
 
+    /**
+     * Returns the compiled fast-path parser.
+     *
+     * @return the compiled parser, null if the formatter cannot be compiled
+     */
+    CompiledParser getCompiledParser() {
+        return compiledParser;
+    }
+
+    /**
+     * Resolves the parsed fields, using the resolution plan if possible.
+     *
+     * @param builder  the builder holding the parsed fields, not null
+     * @return the resolved builder, not null
+     * @throws DateTimeException if unable to resolve
+     */
+    DateTimeBuilder resolve(DateTimeBuilder builder) {
+        if (resolverPlan != null && resolverPlan.resolve(builder)) {
+            return builder;
+        }
+        return builder.resolve(resolverStyle, resolverFields);
+    }
+
+    /**
+     * Returns the resolution plan.
+     *
+     * @return the plan, null if the general resolver is always used
+     */
+    ResolverPlan getResolverPlan() {
+        return resolverPlan;
+    }
+
+    /**
+     * Returns a new reusable parser using this formatter.
+     * <p>
+     * The parser keeps its working state between calls, thus repeated parsing
+     * creates little or no garbage. The returned parser is not thread-safe,
+     * and is intended to be used for many parses by a single thread.
+     *
+     * @return a new parser, not null
+     */
+    public DateTimeParser newParser() {
+        return new DateTimeParser(this);
+    }
+
     /**
      * Returns this formatter as a {@code java.text.Format} instance.
      * <p>
@@ -1751,8 +2104,7 @@ public final class DateTimeFormatter {
             Jdk8Methods.requireNonNull(text, "text");
             try {
                 if (query == null) {
-                    return formatter.parseToBuilder(text, null)
-                                    .resolve(formatter.getResolverStyle(), formatter.getResolverFields());
+                    return formatter.resolve(formatter.parseToBuilder(text, null));
                 }
                 return formatter.parse(text, query);
             } catch (DateTimeParseException ex) {
@@ -1780,8 +2132,7 @@ public final class DateTimeFormatter {
                 return null;
             }
             try {
-                DateTimeBuilder builder = unresolved.toBuilder()
-                                .resolve(formatter.getResolverStyle(), formatter.getResolverFields());
+                DateTimeBuilder builder = formatter.resolve(unresolved.toBuilder());
                 if (query == null) {
                     return builder;
                 }
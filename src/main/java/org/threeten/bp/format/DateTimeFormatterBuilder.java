@@ -46,7 +46,6 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -72,6 +71,7 @@ import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.format.SimpleDateTimeTextProvider.LocaleStore;
+import org.threeten.bp.format.SimpleDateTimeTextProvider.ParseIndex;
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.IsoFields;
@@ -733,6 +733,10 @@ public final class DateTimeFormatterBuilder {
             public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
                 return store.getTextIterator(style);
             }
+            @Override
+            ParseIndex getParseIndex(TemporalField field, TextStyle style, Locale locale) {
+                return store.getParseIndex(style);
+            }
         };
         appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
         return this;
@@ -1959,8 +1963,8 @@ public final class DateTimeFormatterBuilder {
      * Composite printer and parser.
      */
     static final class CompositePrinterParser implements DateTimePrinterParser {
-        private final DateTimePrinterParser[] printerParsers;
-        private final boolean optional;
+        final DateTimePrinterParser[] printerParsers;
+        final boolean optional;
 
         CompositePrinterParser(List<DateTimePrinterParser> printerParsers, boolean optional) {
             this(printerParsers.toArray(new DateTimePrinterParser[printerParsers.size()]), optional);
@@ -2049,7 +2053,7 @@ public final class DateTimeFormatterBuilder {
      * Pads the output to a fixed width.
      */
     static final class PadPrinterParserDecorator implements DateTimePrinterParser {
-        private final DateTimePrinterParser printerParser;
+        final DateTimePrinterParser printerParser;
         private final int padWidth;
         private final char padChar;
 
@@ -2167,7 +2171,7 @@ public final class DateTimeFormatterBuilder {
      * Used by parseDefaulting().
      */
     static class DefaultingParser implements DateTimePrinterParser {
-        private final TemporalField field;
+        final TemporalField field;
         private final long value;
 
         DefaultingParser(TemporalField field, long value) {
@@ -2192,7 +2196,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a character literal.
      */
     static final class CharLiteralPrinterParser implements DateTimePrinterParser {
-        private final char literal;
+        final char literal;
 
         CharLiteralPrinterParser(char literal) {
             this.literal = literal;
@@ -2231,7 +2235,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a string literal.
      */
     static final class StringLiteralPrinterParser implements DateTimePrinterParser {
-        private final String literal;
+        final String literal;
 
         StringLiteralPrinterParser(String literal) {
             this.literal = literal;  // validated by caller
@@ -2350,19 +2354,24 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long valueLong = context.getValue(field);
-            if (valueLong == null) {
-                return false;
+            long fieldValue;
+            try {
+                fieldValue = context.getValueLong(field);
+            } catch (DateTimeException ex) {
+                if (context.isOptional()) {
+                    return false;
+                }
+                throw ex;
             }
-            long value = getValue(context, valueLong);
+            long value = getValue(context, fieldValue);
             DecimalStyle symbols = context.getSymbols();
-            String str = (value == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(Math.abs(value)));
-            if (str.length() > maxWidth) {
+            long absValue = Math.abs(value);  // Long.MIN_VALUE remains negative
+            int size = (value == Long.MIN_VALUE ? 19 : digitCount(absValue));
+            if (size > maxWidth) {
                 throw new DateTimeException("Field " + field +
                     " cannot be printed as the value " + value +
                     " exceeds the maximum print width of " + maxWidth);
             }
-            str = symbols.convertNumberToI18N(str);
 
             if (value >= 0) {
                 switch (signStyle) {
@@ -2388,13 +2397,43 @@ public final class DateTimeFormatterBuilder {
                             " cannot be negative according to the SignStyle");
                 }
             }
-            for (int i = 0; i < minWidth - str.length(); i++) {
-                buf.append(symbols.getZeroDigit());
+            char zeroDigit = symbols.getZeroDigit();
+            for (int i = 0; i < minWidth - size; i++) {
+                buf.append(zeroDigit);
+            }
+            if (value == Long.MIN_VALUE) {
+                buf.append(symbols.convertNumberToI18N("9223372036854775808"));
+            } else if (zeroDigit == '0') {
+                // the append methods for primitives do not allocate
+                buf.append(absValue);
+            } else {
+                // write the digits in place, from the right
+                int end = buf.length() + size;
+                buf.setLength(end);
+                for (int pos = end - 1; pos >= end - size; pos--) {
+                    buf.setCharAt(pos, (char) (zeroDigit + (int) (absValue % 10)));
+                    absValue /= 10;
+                }
             }
-            buf.append(str);
             return true;
         }
 
+        /**
+         * Gets the number of decimal digits in the value.
+         *
+         * @param value  the value, zero or greater
+         * @return the number of digits, from 1 to 19
+         */
+        static int digitCount(long value) {
+            int count = 1;
+            long limit = 10;
+            while (count < 19 && value >= limit) {
+                count++;
+                limit *= 10;
+            }
+            return count;
+        }
+
         /**
          * Gets the value to output.
          *
@@ -2658,10 +2697,10 @@ public final class DateTimeFormatterBuilder {
      * Prints and parses a numeric date-time field with optional padding.
      */
     static final class FractionPrinterParser implements DateTimePrinterParser {
-        private final TemporalField field;
-        private final int minWidth;
-        private final int maxWidth;
-        private final boolean decimalPoint;
+        final TemporalField field;
+        final int minWidth;
+        final int maxWidth;
+        final boolean decimalPoint;
 
         /**
          * Constructor.
@@ -2825,7 +2864,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses field text.
      */
     static final class TextPrinterParser implements DateTimePrinterParser {
-        private final TemporalField field;
+        final TemporalField field;
         private final TextStyle textStyle;
         private final DateTimeTextProvider provider;
         /**
@@ -2833,6 +2872,11 @@ public final class DateTimeFormatterBuilder {
          * Immutable and volatile, so no synchronization needed.
          */
         private volatile NumberPrinterParser numberPrinterParser;
+        /**
+         * The cached parse index of the last style and locale.
+         * Immutable and volatile, so no synchronization needed.
+         */
+        private volatile CachedIndex cachedIndex;
 
         /**
          * Constructor.
@@ -2869,6 +2913,17 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
+            ParseIndex index = parseIndex(style, context.getLocale());
+            if (index != null) {
+                Entry<String, Long> entry = index.find(context, parseText, position);
+                if (entry != null) {
+                    return context.setParsedField(field, entry.getValue(), position, position + entry.getKey().length());
+                }
+                if (context.isStrict()) {
+                    return ~position;
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
             Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
             if (it != null) {
                 while (it.hasNext()) {
@@ -2885,6 +2940,23 @@ public final class DateTimeFormatterBuilder {
             return numberPrinterParser().parse(context, parseText, position);
         }
 
+        /**
+         * Gets the parse index, caching the index of the last style and locale.
+         *
+         * @param style  the style, null for all parsable text
+         * @param locale  the locale, not null
+         * @return the index, null if the provider has no index
+         */
+        private ParseIndex parseIndex(TextStyle style, Locale locale) {
+            CachedIndex cached = cachedIndex;
+            if (cached != null && cached.style == style && cached.locale.equals(locale)) {
+                return cached.index;
+            }
+            ParseIndex index = provider.getParseIndex(field, style, locale);
+            cachedIndex = new CachedIndex(style, locale, index);
+            return index;
+        }
+
         /**
          * Create and cache a number printer parser.
          * @return the number printer parser for this field, not null
@@ -2903,6 +2975,21 @@ public final class DateTimeFormatterBuilder {
             }
             return "Text(" + field + "," + textStyle + ")";
         }
+
+        /**
+         * The parse index for a style and locale.
+         */
+        private static final class CachedIndex {
+            private final TextStyle style;
+            private final Locale locale;
+            private final ParseIndex index;
+
+            CachedIndex(TextStyle style, Locale locale, ParseIndex index) {
+                this.style = style;
+                this.locale = locale;
+                this.index = index;
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -2916,7 +3003,12 @@ public final class DateTimeFormatterBuilder {
         private static final long SECONDS_PER_10000_YEARS = 146097L * 25L * 86400L;
         private static final long SECONDS_0000_TO_1970 = ((146097L * 5L) - (30L * 365L + 7L)) * 86400L;
 
-        private final int fractionalDigits;
+        final int fractionalDigits;
+        /**
+         * The cached parser for the date-time.
+         * Immutable and volatile, so no synchronization needed.
+         */
+        private volatile CompositePrinterParser parser;
 
         InstantPrinterParser(int fractionalDigits) {
             this.fractionalDigits = fractionalDigits;
@@ -2999,14 +3091,7 @@ public final class DateTimeFormatterBuilder {
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
             // new context to avoid overwriting fields like year/month/day
             DateTimeParseContext newContext = context.copy();
-            int minDigits = (fractionalDigits < 0 ? 0 : fractionalDigits);
-            int maxDigits = (fractionalDigits < 0 ? 9 : fractionalDigits);
-            CompositePrinterParser parser = new DateTimeFormatterBuilder()
-                    .append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral('T')
-                    .appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2).appendLiteral(':')
-                    .appendValue(SECOND_OF_MINUTE, 2).appendFraction(NANO_OF_SECOND, minDigits, maxDigits, true).appendLiteral('Z')
-                    .toFormatter().toPrinterParser(false);
-            int pos = parser.parse(newContext, text, position);
+            int pos = parser().parse(newContext, text, position);
             if (pos < 0) {
                 return pos;
             }
@@ -3043,6 +3128,23 @@ public final class DateTimeFormatterBuilder {
             return context.setParsedField(NANO_OF_SECOND, nano, position, successPos);
         }
 
+        /**
+         * Create and cache the parser for the date-time.
+         * @return the parser, not null
+         */
+        private CompositePrinterParser parser() {
+            if (parser == null) {
+                int minDigits = (fractionalDigits < 0 ? 0 : fractionalDigits);
+                int maxDigits = (fractionalDigits < 0 ? 9 : fractionalDigits);
+                parser = new DateTimeFormatterBuilder()
+                        .append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral('T')
+                        .appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2).appendLiteral(':')
+                        .appendValue(SECOND_OF_MINUTE, 2).appendFraction(NANO_OF_SECOND, minDigits, maxDigits, true).appendLiteral('Z')
+                        .toFormatter().toPrinterParser(false);
+            }
+            return parser;
+        }
+
         @Override
         public String toString() {
             return "Instant()";
@@ -3059,8 +3161,8 @@ public final class DateTimeFormatterBuilder {
         };  // order used in pattern builder
         static final OffsetIdPrinterParser INSTANCE_ID = new OffsetIdPrinterParser("Z", "+HH:MM:ss");
 
-        private final String noOffsetText;
-        private final int type;
+        final String noOffsetText;
+        final int type;
 
         /**
          * Constructor.
@@ -3434,19 +3536,18 @@ public final class DateTimeFormatterBuilder {
 
         //-----------------------------------------------------------------------
         /**
-         * The cached tree to speed up parsing.
+         * The cached trie to speed up parsing, built from a snapshot of the region IDs.
          */
-        private static volatile Entry<Integer, SubstringTree> cachedSubstringTree;
+        private static volatile ZoneIdTrie cachedTrie;
 
         /**
          * This implementation looks for the longest matching string.
          * For example, parsing Etc/GMT-2 will return Etc/GMC-2 rather than just
          * Etc/GMC although both are valid.
          * <p>
-         * This implementation uses a tree to search for valid time-zone names in
-         * the parseText. The top level node of the tree has a length equal to the
-         * length of the shortest time-zone as well as the beginning characters of
-         * all other time-zones.
+         * This implementation uses a trie of the region IDs, matching one character
+         * at a time and remembering the longest ID seen, thus the text is examined
+         * once without creating any substrings.
          */
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
@@ -3487,62 +3588,47 @@ public final class DateTimeFormatterBuilder {
                 }
             }
 
-            // prepare parse tree
-            Set<String> regionIds = ZoneRulesProvider.getAvailableZoneIds();
-            final int regionIdsSize = regionIds.size();
-            Entry<Integer, SubstringTree> cached = cachedSubstringTree;
-            if (cached == null || cached.getKey() != regionIdsSize) {
-                synchronized (this) {
-                    cached = cachedSubstringTree;
-                    if (cached == null || cached.getKey() != regionIdsSize) {
-                        cachedSubstringTree = cached = new SimpleImmutableEntry<Integer, SubstringTree>(regionIdsSize, prepareParser(regionIds));
-                    }
-                }
-            }
-            SubstringTree tree = cached.getValue();
-
-            // parse
-            String parsedZoneId = null;
-            String lastZoneId = null;
-            while (tree != null) {
-                int nodeLength = tree.length;
-                if (position + nodeLength > length) {
+            // parse using the trie
+            ZoneIdTrie trie = trie();
+            ZoneIdTrie.Node node = (context.isCaseSensitive() ? trie.sensitive : trie.insensitive);
+            ZoneIdTrie.Node matched = null;
+            int matchedEnd = position;
+            for (int pos = position; pos < length; ) {
+                node = node.child(context.isCaseSensitive() ? text.charAt(pos) : ZoneIdTrie.fold(text.charAt(pos)));
+                if (node == null) {
                     break;
                 }
-                lastZoneId = parsedZoneId;
-                parsedZoneId = text.subSequence(position, position + nodeLength).toString();
-                tree = tree.get(parsedZoneId, context.isCaseSensitive());
+                pos++;
+                if (node.regionId != null) {
+                    matched = node;
+                    matchedEnd = pos;
+                }
             }
-            ZoneId zone = convertToZone(regionIds, parsedZoneId, context.isCaseSensitive());
-            if (zone == null) {
-                zone = convertToZone(regionIds, lastZoneId, context.isCaseSensitive());
-                if (zone == null) {
-                    if (context.charEquals(nextChar, 'Z')) {
-                        context.setParsed(ZoneOffset.UTC);
-                        return position + 1;
-                    }
-                    return ~position;
+            if (matched == null) {
+                if (context.charEquals(nextChar, 'Z')) {
+                    context.setParsed(ZoneOffset.UTC);
+                    return position + 1;
                 }
-                parsedZoneId = lastZoneId;
+                return ~position;
             }
-            context.setParsed(zone);
-            return position + parsedZoneId.length();
+            context.setParsed(matched.zone());
+            return matchedEnd;
         }
 
-        private ZoneId convertToZone(Set<String> regionIds, String parsedZoneId, boolean caseSensitive) {
-            if (parsedZoneId == null) {
-                return null;
-            }
-            if (caseSensitive) {
-                return (regionIds.contains(parsedZoneId) ? ZoneId.of(parsedZoneId) : null);
-            } else {
-                for (String regionId : regionIds) {
-                    if (regionId.equalsIgnoreCase(parsedZoneId)) {
-                        return ZoneId.of(regionId);
-                    }
-                }
-                return null;
+        /**
+         * Gets the trie, rebuilding it if the region IDs have changed.
+         *
+         * @return the trie, not null
+         */
+        private static ZoneIdTrie trie() {
+            Set<String> regionIds = ZoneRulesProvider.getAvailableZoneIdsSnapshot();
+            ZoneIdTrie trie = cachedTrie;
+            if (trie == null || trie.regionIds != regionIds) {
+                // racing threads build equal tries, thus no lock is needed
+                trie = new ZoneIdTrie(regionIds);
+                cachedTrie = trie;
             }
+            return trie;
         }
 
         private int parsePrefixedOffset(DateTimeParseContext context, CharSequence text, int prefixPos, int position) {
@@ -3565,98 +3651,149 @@ public final class DateTimeFormatterBuilder {
 
         //-----------------------------------------------------------------------
         /**
-         * Model a tree of substrings to make the parsing easier. Due to the nature
-         * of time-zone names, it can be faster to parse based in unique substrings
-         * rather than just a character by character match.
+         * A trie of region IDs, matched one character at a time.
          * <p>
-         * For example, to parse America/Denver we can look at the first two
-         * character "Am". We then notice that the shortest time-zone that starts
-         * with Am is America/Nome which is 12 characters long. Checking the first
-         * 12 characters of America/Denver gives America/Denv which is a substring
-         * of only 1 time-zone: America/Denver. Thus, with just 3 comparisons that
-         * match can be found.
+         * Two tries are held, one of the IDs as is and one of the IDs with each character
+         * folded for case-insensitive matching. A node that completes a region ID holds
+         * that ID. For example, the node reached by 'Etc/GMT' holds that ID and has a child
+         * for the '-' of 'Etc/GMT-2'.
          * <p>
-         * This structure maps substrings to substrings of a longer length. Each
-         * node of the tree contains a length and a map of valid substrings to
-         * sub-nodes. The parser gets the length from the root node. It then
-         * extracts a substring of that length from the parseText. If the map
-         * contains the substring, it is set as the possible time-zone and the
-         * sub-node for that substring is retrieved. The process continues until the
-         * substring is no longer found, at which point the matched text is checked
-         * against the real time-zones.
+         * The trie is immutable once built, except for the lazily created zone of each node,
+         * and is replaced as a whole when the snapshot of region IDs changes.
          */
-        private static final class SubstringTree {
+        static final class ZoneIdTrie {
             /**
-             * The length of the substring this node of the tree contains.
-             * Subtrees will have a longer length.
+             * The snapshot of region IDs the trie was built from.
              */
-            final int length;
+            final Set<String> regionIds;
             /**
-             * Map of a substring to a set of substrings that contain the key.
+             * The root of the case-sensitive trie.
              */
-            private final Map<CharSequence, SubstringTree> substringMap = new HashMap<CharSequence, SubstringTree>();
+            final Node sensitive = new Node();
             /**
-             * Map of a substring to a set of substrings that contain the key.
+             * The root of the case-insensitive trie.
              */
-            private final Map<String, SubstringTree> substringMapCI = new HashMap<String, SubstringTree>();
+            final Node insensitive = new Node();
 
             /**
              * Constructor.
              *
-             * @param length  the length of this tree
+             * @param regionIds  the region IDs, not null
              */
-            private SubstringTree(int length) {
-                this.length = length;
+            ZoneIdTrie(Set<String> regionIds) {
+                this.regionIds = regionIds;
+                // sorted to choose the same ID for case-insensitive duplicates on every build
+                List<String> ids = new ArrayList<String>(regionIds);
+                Collections.sort(ids);
+                for (String id : ids) {
+                    add(sensitive, id, false);
+                    add(insensitive, id, true);
+                }
             }
 
-            private SubstringTree get(CharSequence substring2, boolean caseSensitive) {
-                if (caseSensitive) {
-                    return substringMap.get(substring2);
-                } else {
-                    return substringMapCI.get(substring2.toString().toLowerCase(Locale.ENGLISH));
+            private static void add(Node root, String regionId, boolean fold) {
+                Node node = root;
+                for (int i = 0; i < regionId.length(); i++) {
+                    char ch = regionId.charAt(i);
+                    node = node.addChild(fold ? fold(ch) : ch);
+                }
+                if (node.regionId == null) {
+                    node.regionId = regionId;
                 }
             }
 
             /**
-             * Values must be added from shortest to longest.
+             * Folds the case of a character, consistent with {@code String.equalsIgnoreCase}.
              *
-             * @param newSubstring  the substring to add, not null
+             * @param ch  the character to fold
+             * @return the folded character
              */
-            private void add(String newSubstring) {
-                int idLen = newSubstring.length();
-                if (idLen == length) {
-                    substringMap.put(newSubstring, null);
-                    substringMapCI.put(newSubstring.toLowerCase(Locale.ENGLISH), null);
-                } else if (idLen > length) {
-                    String substring = newSubstring.substring(0, length);
-                    SubstringTree parserTree = substringMap.get(substring);
-                    if (parserTree == null) {
-                        parserTree = new SubstringTree(idLen);
-                        substringMap.put(substring, parserTree);
-                        substringMapCI.put(substring.toLowerCase(Locale.ENGLISH), parserTree);
-                    }
-                    parserTree.add(newSubstring);
-                }
+            static char fold(char ch) {
+                return Character.toLowerCase(Character.toUpperCase(ch));
             }
-        }
 
-        /**
-         * Builds an optimized parsing tree.
-         *
-         * @param availableIDs  the available IDs, not null, not empty
-         * @return the tree, not null
-         */
-        private static SubstringTree prepareParser(Set<String> availableIDs) {
-            // sort by length
-            List<String> ids = new ArrayList<String>(availableIDs);
-            Collections.sort(ids, LENGTH_SORT);
+            /**
+             * A node of the trie.
+             */
+            static final class Node {
+                /**
+                 * The characters of the children, sorted.
+                 */
+                private char[] chars = new char[0];
+                /**
+                 * The children, in the same order as the characters.
+                 */
+                private Node[] children = new Node[0];
+                /**
+                 * The region ID completed at this node, null if none.
+                 */
+                String regionId;
+                /**
+                 * The zone of the region ID, created on first use.
+                 */
+                private volatile ZoneId zone;
+
+                /**
+                 * Gets the child for the character.
+                 *
+                 * @param ch  the character to match
+                 * @return the child, null if no region ID continues with the character
+                 */
+                Node child(char ch) {
+                    char[] chars = this.chars;
+                    int low = 0;
+                    int high = chars.length - 1;
+                    while (low <= high) {
+                        int mid = (low + high) >>> 1;
+                        char midChar = chars[mid];
+                        if (midChar < ch) {
+                            low = mid + 1;
+                        } else if (midChar > ch) {
+                            high = mid - 1;
+                        } else {
+                            return children[mid];
+                        }
+                    }
+                    return null;
+                }
 
-            // build the tree
-            SubstringTree tree = new SubstringTree(ids.get(0).length());
-            for (String id : ids) {
-                tree.add(id);
+                private Node addChild(char ch) {
+                    Node child = child(ch);
+                    if (child != null) {
+                        return child;
+                    }
+                    int index = 0;
+                    while (index < chars.length && chars[index] < ch) {
+                        index++;
+                    }
+                    char[] newChars = new char[chars.length + 1];
+                    Node[] newChildren = new Node[chars.length + 1];
+                    System.arraycopy(chars, 0, newChars, 0, index);
+                    System.arraycopy(children, 0, newChildren, 0, index);
+                    System.arraycopy(chars, index, newChars, index + 1, chars.length - index);
+                    System.arraycopy(children, index, newChildren, index + 1, chars.length - index);
+                    child = new Node();
+                    newChars[index] = ch;
+                    newChildren[index] = child;
+                    chars = newChars;
+                    children = newChildren;
+                    return child;
+                }
+
+                /**
+                 * Gets the zone of the region ID completed at this node.
+                 *
+                 * @return the zone, not null
+                 */
+                ZoneId zone() {
+                    ZoneId result = zone;
+                    if (result == null) {
+                        result = ZoneId.of(regionId);
+                        zone = result;
+                    }
+                    return result;
+                }
             }
-            return tree;
         }
 
         //-----------------------------------------------------------------------
@@ -3860,15 +3997,4 @@ public final class DateTimeFormatterBuilder {
         }
     }
 
-    //-------------------------------------------------------------------------
-    /**
-     * Length comparator.
-     */
-    static final Comparator<String> LENGTH_SORT = new Comparator<String>() {
-        @Override
-        public int compare(String str1, String str2) {
-            return str1.length() == str2.length() ? str1.compareTo(str2) : str1.length() - str2.length();
-        }
-    };
-
 }
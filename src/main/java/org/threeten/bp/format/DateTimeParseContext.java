@@ -32,10 +32,8 @@
 package org.threeten.bp.format;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
@@ -94,6 +92,10 @@ final class DateTimeParseContext {
      * The list of parsed data.
      */
     private final ArrayList<Parsed> parsed = new ArrayList<Parsed>();
+    /**
+     * The list of discarded parsed data available for reuse, null if not reusable.
+     */
+    private ArrayList<Parsed> spare;
 
     /**
      * Creates a new instance of the context.
@@ -281,12 +283,35 @@ final class DateTimeParseContext {
         this.strict = strict;
     }
 
+    /**
+     * Resets this context so that it can be reused for another parse.
+     * <p>
+     * Once reset, the data discarded by optional segments is also reused.
+     */
+    void reset() {
+        caseSensitive = true;
+        strict = true;
+        if (spare == null) {
+            spare = new ArrayList<Parsed>();
+        }
+        while (parsed.size() > 1) {
+            spare.add(parsed.remove(parsed.size() - 1));
+        }
+        parsed.get(0).clear();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Starts the parsing of an optional segment of the input.
      */
     void startOptional() {
-        parsed.add(currentParsed().copy());
+        if (spare == null || spare.isEmpty()) {
+            parsed.add(currentParsed().copy());
+        } else {
+            Parsed copy = spare.remove(spare.size() - 1);
+            copy.copyFrom(currentParsed());
+            parsed.add(copy);
+        }
     }
 
     /**
@@ -295,10 +320,14 @@ final class DateTimeParseContext {
      * @param successful  whether the optional segment was successfully parsed
      */
     void endOptional(boolean successful) {
+        Parsed discarded;
         if (successful) {
-            parsed.remove(parsed.size() - 2);
+            discarded = parsed.remove(parsed.size() - 2);
         } else {
-            parsed.remove(parsed.size() - 1);
+            discarded = parsed.remove(parsed.size() - 1);
+        }
+        if (spare != null) {
+            spare.add(discarded);
         }
     }
 
@@ -342,8 +371,10 @@ final class DateTimeParseContext {
      */
     int setParsedField(TemporalField field, long value, int errorPos, int successPos) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long old = currentParsed().fieldValues.put(field, value);
-        return (old != null && old.longValue() != value) ? ~errorPos : successPos;
+        FieldValueMap fieldValues = currentParsed().fieldValues;
+        boolean conflict = fieldValues.containsKey(field) && fieldValues.getLong(field) != value;
+        fieldValues.putLong(field, value);
+        return conflict ? ~errorPos : successPos;
     }
 
     /**
@@ -425,7 +456,7 @@ final class DateTimeParseContext {
     final class Parsed extends DefaultInterfaceTemporalAccessor {
         Chronology chrono = null;
         ZoneId zone = null;
-        final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        final FieldValueMap fieldValues = new FieldValueMap();
         boolean leapSecond;
         Period excessDays = Period.ZERO;
         List<Object[]> callbacks;
@@ -434,12 +465,24 @@ final class DateTimeParseContext {
         }
         protected Parsed copy() {
             Parsed cloned = new Parsed();
-            cloned.chrono = this.chrono;
-            cloned.zone = this.zone;
-            cloned.fieldValues.putAll(this.fieldValues);
-            cloned.leapSecond = this.leapSecond;
+            cloned.copyFrom(this);
             return cloned;
         }
+        void copyFrom(Parsed other) {
+            clear();
+            chrono = other.chrono;
+            zone = other.zone;
+            fieldValues.putAll(other.fieldValues);
+            leapSecond = other.leapSecond;
+        }
+        void clear() {
+            chrono = null;
+            zone = null;
+            fieldValues.clear();
+            leapSecond = false;
+            excessDays = Period.ZERO;
+            callbacks = null;
+        }
         @Override
         public String toString() {
             return fieldValues.toString() + "," + chrono + "," + zone;
@@ -453,7 +496,7 @@ final class DateTimeParseContext {
             if (fieldValues.containsKey(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            long value = fieldValues.get(field);
+            long value = fieldValues.getLong(field);
             return Jdk8Methods.safeToInt(value);
         }
         @Override
@@ -461,7 +504,7 @@ final class DateTimeParseContext {
             if (fieldValues.containsKey(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            return fieldValues.get(field);
+            return fieldValues.getLong(field);
         }
         @SuppressWarnings("unchecked")
         @Override
@@ -488,7 +531,19 @@ final class DateTimeParseContext {
          * @return a new builder with the results of the parse, not null
          */
         DateTimeBuilder toBuilder() {
-            DateTimeBuilder builder = new DateTimeBuilder();
+            return toBuilder(new DateTimeBuilder());
+        }
+
+        /**
+         * Resets a {@code DateTimeBuilder} to hold the results of the parse.
+         *
+         * @param builder  the builder to reset, not null
+         * @return the builder, not null
+         */
+        DateTimeBuilder toBuilder(DateTimeBuilder builder) {
+            builder.fieldValues.clear();
+            builder.date = null;
+            builder.time = null;
             builder.fieldValues.putAll(fieldValues);
             builder.chrono = getEffectiveChronology();
             if (zone != null) {
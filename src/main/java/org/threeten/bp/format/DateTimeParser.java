@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.text.ParsePosition;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import org.threeten.bp.format.DateTimeParseContext.Parsed;
+import org.threeten.bp.jdk8.DefaultInterfaceTemporalAccessor;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * A reusable parser, holding the result of the last parse.
+ * <p>
+ * This parser is obtained from {@link DateTimeFormatter#newParser()} and parses text
+ * in the same way as the formatter. Unlike the formatter, it keeps its working state
+ * between calls, resetting it for each parse, so that a loop parsing many texts
+ * creates little or no garbage.
+ * <p>
+ * After a successful call to {@link #parse(CharSequence)}, this parser is itself a
+ * {@code TemporalAccessor} holding the resolved result, which can be read as primitives
+ * using {@link #getLong(TemporalField)} or converted using {@link #query(TemporalQuery)}.
+ * For formatters made up of fixed-width ISO elements, such as
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, the standard date, time and offset fields
+ * of the result are read without any allocation.
+ * For example:
+ * <pre>
+ *  DateTimeParser parser = DateTimeFormatter.ISO_LOCAL_DATE_TIME.newParser();
+ *  for (String text : texts) {
+ *    parser.parse(text);
+ *    total += parser.getLong(HOUR_OF_DAY);
+ *  }
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It is intended to be used by a single thread, for example by storing one per thread.
+ */
+public final class DateTimeParser
+        extends DefaultInterfaceTemporalAccessor
+        implements TemporalAccessor {
+
+    /**
+     * The formatter.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The printer-parser of the formatter.
+     */
+    private final CompositePrinterParser printerParser;
+    /**
+     * The compiled parser of the formatter, null if not compiled.
+     */
+    private final CompiledParser compiledParser;
+    /**
+     * The reused state of the compiled parser.
+     */
+    private final CompiledParser.State state = new CompiledParser.State();
+    /**
+     * The reused context of the generic parser.
+     */
+    private final DateTimeParseContext context;
+    /**
+     * The reused position of the generic parser.
+     */
+    private final ParsePosition position = new ParsePosition(0);
+    /**
+     * The reused builder of the generic parser.
+     */
+    private final DateTimeBuilder builder = new DateTimeBuilder();
+    /**
+     * The result of the last parse, the state, the builder, or null if none.
+     */
+    private Object result;
+    /**
+     * The temporal created from the state, null if not yet created.
+     */
+    private TemporalAccessor temporal;
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter to use, not null
+     */
+    DateTimeParser(DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        this.printerParser = formatter.toPrinterParser(false);
+        this.compiledParser = formatter.getCompiledParser();
+        this.context = new DateTimeParseContext(formatter);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter used to parse.
+     *
+     * @return the formatter, not null
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * Resets this parser, discarding the result of the last parse.
+     */
+    public void reset() {
+        result = null;
+        temporal = null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text, storing the result in this parser.
+     * <p>
+     * This parses the entire text in the same way as {@link DateTimeFormatter#parse(CharSequence)}.
+     * On success, the resolved result is available from this parser until the next parse.
+     * On failure, this parser is reset.
+     *
+     * @param text  the text to parse, not null
+     * @throws DateTimeParseException if unable to parse the text
+     */
+    public void parse(CharSequence text) {
+        Jdk8Methods.requireNonNull(text, "text");
+        reset();
+        if (compiledParser != null && compiledParser.parse(state, text)) {
+            result = state;
+            return;
+        }
+        context.reset();
+        position.setIndex(0);
+        position.setErrorIndex(-1);
+        int pos = printerParser.parse(context, text, 0);
+        if (pos < 0) {
+            position.setErrorIndex(~pos);
+            throw DateTimeFormatter.createError(text, position);
+        }
+        if (pos < text.length()) {
+            position.setIndex(pos);
+            throw DateTimeFormatter.createError(text, position);
+        }
+        try {
+            Parsed parsed = context.toParsed();
+            formatter.resolve(parsed.toBuilder(builder));
+        } catch (DateTimeParseException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw DateTimeFormatter.createError(text, ex);
+        }
+        result = builder;
+    }
+
+    /**
+     * Fully parses the text producing an object of the specified type.
+     * <p>
+     * This parses the entire text in the same way as
+     * {@link DateTimeFormatter#parse(CharSequence, TemporalQuery)}.
+     * The result is also available from this parser until the next parse.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(CharSequence text, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(type, "type");
+        parse(text);
+        try {
+            return query(type);
+        } catch (DateTimeParseException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw DateTimeFormatter.createError(text, ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (result == builder) {
+            return builder.isSupported(field);
+        }
+        if (result == null || field == null) {
+            return false;
+        }
+        if (field instanceof ChronoField) {
+            if (state.isInstant()) {
+                return toTemporal().isSupported(field);
+            }
+            if (state.hasOffset()) {
+                return true;
+            }
+            return (state.hasDate() && field.isDateBased()) || (state.hasTime() && field.isTimeBased());
+        }
+        return field.isSupportedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        Jdk8Methods.requireNonNull(field, "field");
+        if (result == builder) {
+            return builder.getLong(field);
+        }
+        if (result == null) {
+            throw new DateTimeException("Unable to obtain field, nothing has been parsed: " + field);
+        }
+        if (state.isInstant()) {
+            if (field == INSTANT_SECONDS) {
+                return state.toEpochSecond();
+            } else if (field == NANO_OF_SECOND) {
+                return state.getNano();
+            }
+        } else {
+            if (state.hasDate()) {
+                if (field == YEAR) {
+                    return state.getYear();
+                } else if (field == MONTH_OF_YEAR) {
+                    return state.getMonth();
+                } else if (field == DAY_OF_MONTH) {
+                    return state.getDay();
+                } else if (field == EPOCH_DAY) {
+                    return state.toEpochDay();
+                }
+            }
+            if (state.hasTime()) {
+                if (field == HOUR_OF_DAY) {
+                    return state.getHour();
+                } else if (field == MINUTE_OF_HOUR) {
+                    return state.getMinute();
+                } else if (field == SECOND_OF_MINUTE) {
+                    return state.getSecond();
+                } else if (field == NANO_OF_SECOND) {
+                    return state.getNano();
+                }
+            }
+            if (state.hasOffset()) {
+                if (field == OFFSET_SECONDS) {
+                    return state.getOffsetSeconds();
+                } else if (field == INSTANT_SECONDS) {
+                    return state.toEpochSecond();
+                }
+            }
+        }
+        return toTemporal().getLong(field);
+    }
+
+    @Override
+    public <R> R query(TemporalQuery<R> query) {
+        if (result == builder) {
+            return builder.build(query);
+        }
+        if (result == null) {
+            return super.query(query);
+        }
+        TemporalAccessor resolved = (temporal != null ? temporal : CompiledParser.resolve(state, query));
+        if (resolved == null) {
+            resolved = toTemporal();
+        }
+        return resolved.query(query);
+    }
+
+    /**
+     * Creates the temporal from the state of the compiled parser.
+     *
+     * @return the temporal, not null
+     */
+    private TemporalAccessor toTemporal() {
+        if (temporal == null) {
+            temporal = state.toTemporal();
+        }
+        return temporal;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this parser as a {@code String}, including the result of the last parse.
+     *
+     * @return a string representation of this parser, not null
+     */
+    @Override
+    public String toString() {
+        String parsed = (result == builder ? builder.toString() : (result != null ? toTemporal().toString() : "none"));
+        return "DateTimeParser[" + formatter + "," + parsed + "]";
+    }
+
+}
@@ -280,6 +280,29 @@ final class DateTimePrintContext {
         }
     }
 
+    /**
+     * Gets the value of the specified field as a primitive, avoiding boxing.
+     * <p>
+     * Unlike {@link #getValue(TemporalField)}, this throws even if the section is optional.
+     * The caller should check {@link #isOptional()} when handling the exception.
+     *
+     * @param field  the field to find, not null
+     * @return the value
+     * @throws DateTimeException if the field is not available
+     */
+    long getValueLong(TemporalField field) {
+        return temporal.getLong(field);
+    }
+
+    /**
+     * Checks if the current section is optional.
+     *
+     * @return true if within an optional section
+     */
+    boolean isOptional() {
+        return optional > 0;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string version of the context for debugging.
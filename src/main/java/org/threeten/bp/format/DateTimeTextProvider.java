@@ -35,6 +35,7 @@ import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map.Entry;
 
+import org.threeten.bp.format.SimpleDateTimeTextProvider.ParseIndex;
 import org.threeten.bp.temporal.TemporalField;
 
 /**
@@ -100,4 +101,21 @@ abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets an index of text to field for the specified field, locale and style
+     * for the purpose of parsing.
+     * <p>
+     * The index must find the same text as the iterator from
+     * {@link #getTextIterator(TemporalField, TextStyle, Locale)}.
+     * The default implementation returns null, causing the iterator to be used.
+     *
+     * @param field  the field to get text for, not null
+     * @param style  the style to get text for, null for all parsable text
+     * @param locale  the locale to get text for, not null
+     * @return the index of the text, null if the iterator is to be used
+     */
+    ParseIndex getParseIndex(TemporalField field, TextStyle style, Locale locale) {
+        return null;
+    }
+
 }
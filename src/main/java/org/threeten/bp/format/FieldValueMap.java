@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * A map from field to value optimized for {@link ChronoField}.
+ * <p>
+ * The values of {@code ChronoField} are held in a {@code long} array indexed by ordinal,
+ * with a bitmask recording which are present. This avoids boxing, hashing and map entries
+ * for the standard fields. Other fields are held in a separate map, only created when needed.
+ * <p>
+ * The primitive methods avoid allocation when parsing and resolving.
+ * The {@code Map} view allows the instance to be passed to chronologies and fields.
+ * Iteration returns the standard fields in ordinal order, followed by any other fields.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It should only be used from a single thread.
+ */
+final class FieldValueMap extends AbstractMap<TemporalField, Long> {
+
+    /**
+     * The standard fields, by ordinal.
+     */
+    private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+    static {
+        if (CHRONO_FIELDS.length > 64) {
+            throw new IllegalStateException("Too many fields for bitmask");
+        }
+    }
+
+    /**
+     * The values of the standard fields, by ordinal.
+     */
+    private final long[] values = new long[CHRONO_FIELDS.length];
+    /**
+     * The bitmask of standard fields that are present, by ordinal.
+     */
+    private long present;
+    /**
+     * The map of other fields, null until needed.
+     */
+    private Map<TemporalField, Long> others;
+    /**
+     * The entry set view, null until needed.
+     */
+    private Set<Map.Entry<TemporalField, Long>> entrySet;
+
+    /**
+     * Creates an empty instance.
+     */
+    FieldValueMap() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of a field that is present, avoiding boxing.
+     *
+     * @param field  the field to query, not null
+     * @return the value of the field
+     * @throws NullPointerException if the field is not present
+     */
+    long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            int ordinal = ((ChronoField) field).ordinal();
+            if ((present & (1L << ordinal)) == 0) {
+                throw new NullPointerException("Field not present: " + field);
+            }
+            return values[ordinal];
+        }
+        return (others != null ? others.get(field) : (Long) null);
+    }
+
+    /**
+     * Sets the value of a field, avoiding boxing for standard fields.
+     *
+     * @param field  the field to set, not null
+     * @param value  the value to set
+     */
+    void putLong(TemporalField field, long value) {
+        if (field instanceof ChronoField) {
+            int ordinal = ((ChronoField) field).ordinal();
+            values[ordinal] = value;
+            present |= 1L << ordinal;
+        } else {
+            Jdk8Methods.requireNonNull(field, "field");
+            if (others == null) {
+                others = new HashMap<TemporalField, Long>();
+            }
+            others.put(field, value);
+        }
+    }
+
+    /**
+     * Removes a field that is present, returning the value and avoiding boxing.
+     *
+     * @param field  the field to remove, not null
+     * @return the value of the removed field
+     * @throws NullPointerException if the field is not present
+     */
+    long removeLong(TemporalField field) {
+        long value = getLong(field);
+        removeField(field);
+        return value;
+    }
+
+    /**
+     * Removes a field if present, avoiding boxing.
+     *
+     * @param field  the field to remove, null ignored
+     */
+    void removeField(TemporalField field) {
+        if (field instanceof ChronoField) {
+            present &= ~(1L << ((ChronoField) field).ordinal());
+        } else if (others != null) {
+            others.remove(field);
+        }
+    }
+
+    /**
+     * Gets the map of fields that are not standard fields.
+     * <p>
+     * The map is live, not a copy.
+     *
+     * @return the other fields, not null
+     */
+    Map<TemporalField, Long> otherFields() {
+        return (others != null ? others : Collections.<TemporalField, Long>emptyMap());
+    }
+
+    /**
+     * Gets the ordinal of the next standard field that is present.
+     *
+     * @param fromOrdinal  the ordinal to start from, inclusive, zero or greater
+     * @return the ordinal of the next field present, -1 if none
+     */
+    int nextChronoField(int fromOrdinal) {
+        if (fromOrdinal >= CHRONO_FIELDS.length) {
+            return -1;
+        }
+        long remaining = present & (-1L << fromOrdinal);
+        return (remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining));
+    }
+
+    /**
+     * Gets the bitmask of the standard fields that are present, by ordinal.
+     *
+     * @return the bitmask of fields present
+     */
+    long chronoFieldMask() {
+        return present;
+    }
+
+    /**
+     * Removes all standard fields except those in the bitmask.
+     *
+     * @param mask  the bitmask of fields to retain, by ordinal
+     */
+    void retainChronoFields(long mask) {
+        present &= mask;
+    }
+
+    /**
+     * Gets the standard field with the specified ordinal.
+     *
+     * @param ordinal  the ordinal of the field, valid
+     * @return the field, not null
+     */
+    static ChronoField chronoField(int ordinal) {
+        return CHRONO_FIELDS[ordinal];
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return Long.bitCount(present) + (others != null ? others.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return present == 0 && (others == null || others.isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof ChronoField) {
+            return (present & (1L << ((ChronoField) key).ordinal())) != 0;
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Long get(Object key) {
+        if (key instanceof ChronoField) {
+            int ordinal = ((ChronoField) key).ordinal();
+            return ((present & (1L << ordinal)) != 0 ? Long.valueOf(values[ordinal]) : null);
+        }
+        return (others != null ? others.get(key) : null);
+    }
+
+    @Override
+    public Long put(TemporalField field, Long value) {
+        Jdk8Methods.requireNonNull(value, "value");
+        Long old = get(field);
+        putLong(field, value);
+        return old;
+    }
+
+    @Override
+    public Long remove(Object key) {
+        if (key instanceof ChronoField) {
+            int ordinal = ((ChronoField) key).ordinal();
+            if ((present & (1L << ordinal)) == 0) {
+                return null;
+            }
+            present &= ~(1L << ordinal);
+            return values[ordinal];
+        }
+        return (others != null ? others.remove(key) : null);
+    }
+
+    @Override
+    public void putAll(Map<? extends TemporalField, ? extends Long> map) {
+        if (map instanceof FieldValueMap) {
+            FieldValueMap other = (FieldValueMap) map;
+            for (int i = other.nextChronoField(0); i >= 0; i = other.nextChronoField(i + 1)) {
+                values[i] = other.values[i];
+            }
+            present |= other.present;
+            if (other.others != null && other.others.isEmpty() == false) {
+                if (others == null) {
+                    others = new HashMap<TemporalField, Long>();
+                }
+                others.putAll(other.others);
+            }
+        } else {
+            super.putAll(map);
+        }
+    }
+
+    @Override
+    public void clear() {
+        present = 0;
+        if (others != null) {
+            others.clear();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<TemporalField, Long>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<TemporalField, Long>>() {
+                @Override
+                public Iterator<Map.Entry<TemporalField, Long>> iterator() {
+                    return new EntryIterator();
+                }
+                @Override
+                public int size() {
+                    return FieldValueMap.this.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over the standard fields and then the other fields.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<TemporalField, Long>> {
+        private int next = nextChronoField(0);
+        private int last = -1;
+        private Iterator<Map.Entry<TemporalField, Long>> otherIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (next >= 0) {
+                return true;
+            }
+            if (otherIterator == null) {
+                otherIterator = otherFields().entrySet().iterator();
+            }
+            return otherIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<TemporalField, Long> next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            if (next >= 0) {
+                last = next;
+                next = nextChronoField(next + 1);
+                return new ChronoEntry(last);
+            }
+            last = -1;
+            return otherIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last >= 0) {
+                present &= ~(1L << last);
+                last = -1;
+            } else if (otherIterator != null) {
+                otherIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * Entry for a standard field, writing through to the map.
+     */
+    private final class ChronoEntry implements Map.Entry<TemporalField, Long> {
+        private final int ordinal;
+
+        ChronoEntry(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public TemporalField getKey() {
+            return CHRONO_FIELDS[ordinal];
+        }
+
+        @Override
+        public Long getValue() {
+            return values[ordinal];
+        }
+
+        @Override
+        public Long setValue(Long value) {
+            Jdk8Methods.requireNonNull(value, "value");
+            Long old = values[ordinal];
+            values[ordinal] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Map.Entry) {
+                Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.threeten.bp.CacheStatistics;
+
+/**
+ * A bounded cache of formatters created from a pattern and locale.
+ * <p>
+ * Formatters are immutable, thus the formatter created for a pattern and locale can be
+ * shared by all callers of {@link DateTimeFormatter#ofPattern(String, Locale)}.
+ * This cache holds up to a maximum number of formatters. When the maximum is exceeded,
+ * formatters that have not been used since the previous sweep are evicted, giving
+ * each formatter a second chance in the manner of the clock algorithm.
+ * Patterns that are invalid are not cached.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ */
+final class PatternCache {
+
+    /**
+     * The map of cached formatters.
+     */
+    private final ConcurrentMap<Key, Entry> map = new ConcurrentHashMap<Key, Entry>(64, 0.75f, 4);
+    /**
+     * The maximum number of formatters.
+     */
+    private final int maxSize;
+    /**
+     * The number of formatters in the map.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+    /**
+     * Whether a thread is evicting.
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    /**
+     * The number of hits.
+     */
+    private final AtomicLong hits = new AtomicLong();
+    /**
+     * The number of misses.
+     */
+    private final AtomicLong misses = new AtomicLong();
+    /**
+     * The number of evictions.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize  the maximum number of formatters, one or greater
+     */
+    PatternCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be one or greater: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter for the pattern and locale, creating it if necessary.
+     *
+     * @param pattern  the pattern to use, not null
+     * @param locale  the locale to use, not null
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    DateTimeFormatter get(String pattern, Locale locale) {
+        Key key = new Key(pattern, locale);
+        Entry entry = map.get(key);
+        if (entry != null) {
+            if (entry.used == false) {
+                entry.used = true;
+            }
+            hits.incrementAndGet();
+            return entry.formatter;
+        }
+        misses.incrementAndGet();
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        Entry existing = map.putIfAbsent(key, new Entry(formatter));
+        if (existing != null) {
+            return existing.formatter;
+        }
+        if (size.incrementAndGet() > maxSize) {
+            evict();
+        }
+        return formatter;
+    }
+
+    /**
+     * Evicts formatters until a quarter of the space is free.
+     * <p>
+     * Only one thread evicts at a time, other threads continue without waiting.
+     */
+    private void evict() {
+        if (evicting.compareAndSet(false, true) == false) {
+            return;
+        }
+        try {
+            int target = maxSize - maxSize / 4;
+            // the second pass finds every entry cleared by the first
+            for (int pass = 0; pass < 2 && size.get() > target; pass++) {
+                Iterator<Map.Entry<Key, Entry>> it = map.entrySet().iterator();
+                while (it.hasNext() && size.get() > target) {
+                    Map.Entry<Key, Entry> mapEntry = it.next();
+                    Entry entry = mapEntry.getValue();
+                    if (entry.used) {
+                        entry.used = false;
+                    } else if (map.remove(mapEntry.getKey(), entry)) {
+                        size.decrementAndGet();
+                        evictions.incrementAndGet();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Removes all formatters from the cache, leaving the statistics unchanged.
+     */
+    void clear() {
+        for (Key key : map.keySet()) {
+            if (map.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of formatters in the cache.
+     *
+     * @return the number of formatters
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the maximum number of formatters in the cache.
+     *
+     * @return the maximum number of formatters
+     */
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of lookups that found a cached formatter.
+     *
+     * @return the number of hits
+     */
+    long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that created a formatter.
+     *
+     * @return the number of misses
+     */
+    long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of formatters evicted.
+     *
+     * @return the number of evictions
+     */
+    long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction counts.
+     *
+     * @return the statistics, not null
+     */
+    CacheStatistics getStatistics() {
+        return CacheStatistics.of(getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache[size=" + size() + ",hits=" + getHitCount() +
+                ",misses=" + getMissCount() + ",evictions=" + getEvictionCount() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The key of pattern and locale.
+     */
+    private static final class Key {
+        private final String pattern;
+        private final Locale locale;
+        private final int hash;
+
+        Key(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.hash = pattern.hashCode() * 31 + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return hash == other.hash && pattern.equals(other.pattern) && locale.equals(other.locale);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The cached formatter and its use since the last sweep.
+     */
+    private static final class Entry {
+        private final DateTimeFormatter formatter;
+        private volatile boolean used;
+
+        Entry(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+    }
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
+
+import java.util.Set;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Month;
+import org.threeten.bp.Period;
+import org.threeten.bp.Year;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CharLiteralPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.DefaultingParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.FractionPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.LocalizedOffsetPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.OffsetIdPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.PadPrinterParserDecorator;
+import org.threeten.bp.format.DateTimeFormatterBuilder.SettingsParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.StringLiteralPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.TextPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ZoneIdPrinterParser;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ZoneTextPrinterParser;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * A plan for resolving the fields parsed by a formatter, derived from its printer-parsers.
+ * <p>
+ * Most formatters parse a fixed set of ISO fields, such as year, month, day, hour, minute,
+ * second, nano and offset. Rather than running the general resolver, which merges instant
+ * fields, dates and times, calls each field to resolve itself and cross-checks the result,
+ * this plan builds the date and time directly from the parsed values.
+ * <p>
+ * A plan is only created if every field the formatter can parse is supported.
+ * It is only executed if the parsed fields form a complete date, time or both and every value
+ * is within its normal range. Otherwise the general resolver is used, which produces the same
+ * result, or the same error, as it would have without this class.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class ResolverPlan {
+
+    /** The mask of the year. */
+    private static final long YEAR_MASK = bit(YEAR);
+    /** The mask of the year-of-era. */
+    private static final long YEAR_OF_ERA_MASK = bit(YEAR_OF_ERA);
+    /** The mask of the month and day. */
+    private static final long MONTH_DAY_MASK = bit(MONTH_OF_YEAR) | bit(DAY_OF_MONTH);
+    /** The mask of the day-of-week. */
+    private static final long DAY_OF_WEEK_MASK = bit(DAY_OF_WEEK);
+    /** The mask of the date fields. */
+    private static final long DATE_MASK = YEAR_MASK | YEAR_OF_ERA_MASK | MONTH_DAY_MASK | DAY_OF_WEEK_MASK;
+    /** The mask of the hour. */
+    private static final long HOUR_MASK = bit(HOUR_OF_DAY);
+    /** The mask of the minute. */
+    private static final long MINUTE_MASK = bit(MINUTE_OF_HOUR);
+    /** The mask of the second. */
+    private static final long SECOND_MASK = bit(SECOND_OF_MINUTE);
+    /** The mask of the nano. */
+    private static final long NANO_MASK = bit(NANO_OF_SECOND);
+    /** The mask of the time fields. */
+    private static final long TIME_MASK = HOUR_MASK | MINUTE_MASK | SECOND_MASK | NANO_MASK;
+    /** The mask of the offset. */
+    private static final long OFFSET_MASK = bit(OFFSET_SECONDS);
+    /** The mask of all supported fields. */
+    private static final long SUPPORTED_MASK = DATE_MASK | TIME_MASK | OFFSET_MASK;
+
+    /**
+     * The resolver style.
+     */
+    private final ResolverStyle resolverStyle;
+
+    private static long bit(ChronoField field) {
+        return 1L << field.ordinal();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Derives a plan for the printer-parser and settings of a formatter.
+     *
+     * @param printerParser  the printer-parser of the formatter, not null
+     * @param resolverStyle  the resolver style, not null
+     * @param resolverFields  the resolver fields, null for all fields
+     * @param chrono  the override chronology, null if none
+     * @return the plan, null if the general resolver must always be used
+     */
+    static ResolverPlan derive(CompositePrinterParser printerParser, ResolverStyle resolverStyle,
+            Set<TemporalField> resolverFields, Chronology chrono) {
+        if (resolverFields != null || (chrono != null && chrono != IsoChronology.INSTANCE)) {
+            return null;
+        }
+        return (isSupported(printerParser) ? new ResolverPlan(resolverStyle) : null);
+    }
+
+    /**
+     * Checks if every field the printer-parser can parse is supported.
+     *
+     * @param pp  the printer-parser to check, not null
+     * @return true if supported
+     */
+    private static boolean isSupported(DateTimePrinterParser pp) {
+        if (pp instanceof CompositePrinterParser) {
+            for (DateTimePrinterParser child : ((CompositePrinterParser) pp).printerParsers) {
+                if (isSupported(child) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (pp instanceof PadPrinterParserDecorator) {
+            return isSupported(((PadPrinterParserDecorator) pp).printerParser);
+        }
+        if (pp instanceof NumberPrinterParser) {
+            return isSupported(((NumberPrinterParser) pp).field);
+        }
+        if (pp instanceof TextPrinterParser) {
+            return isSupported(((TextPrinterParser) pp).field);
+        }
+        if (pp instanceof FractionPrinterParser) {
+            return isSupported(((FractionPrinterParser) pp).field);
+        }
+        if (pp instanceof DefaultingParser) {
+            return isSupported(((DefaultingParser) pp).field);
+        }
+        return pp instanceof CharLiteralPrinterParser || pp instanceof StringLiteralPrinterParser ||
+                pp instanceof SettingsParser ||
+                pp instanceof OffsetIdPrinterParser || pp instanceof LocalizedOffsetPrinterParser ||
+                pp instanceof ZoneIdPrinterParser || pp instanceof ZoneTextPrinterParser;
+    }
+
+    private static boolean isSupported(TemporalField field) {
+        return field instanceof ChronoField && (SUPPORTED_MASK & bit((ChronoField) field)) != 0;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resolverStyle  the resolver style, not null
+     */
+    private ResolverPlan(ResolverStyle resolverStyle) {
+        this.resolverStyle = resolverStyle;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Resolves the builder if the parsed fields match the plan.
+     * <p>
+     * On success, the builder is left in the same state as the general resolver would leave it.
+     * On failure, the builder is unaltered.
+     *
+     * @param builder  the builder holding the parsed fields, not null
+     * @return true if resolved, false if the general resolver must be used
+     */
+    boolean resolve(DateTimeBuilder builder) {
+        FieldValueMap fields = builder.fieldValues;
+        long mask = fields.chronoFieldMask();
+        if ((mask & ~SUPPORTED_MASK) != 0 || fields.otherFields().isEmpty() == false ||
+                builder.chrono != IsoChronology.INSTANCE || builder.date != null || builder.time != null ||
+                builder.leapSecond || (builder.excessDays != null && builder.excessDays.isZero() == false)) {
+            return false;
+        }
+        LocalDate date = null;
+        if ((mask & DATE_MASK) != 0) {
+            date = resolveDate(fields, mask);
+            if (date == null) {
+                return false;
+            }
+        }
+        LocalTime time = null;
+        if ((mask & TIME_MASK) != 0) {
+            time = resolveTime(fields, mask);
+            if (time == null) {
+                return false;
+            }
+        }
+        int offsetSecs = 0;
+        if ((mask & OFFSET_MASK) != 0) {
+            long offset = fields.getLong(OFFSET_SECONDS);
+            if (offset < -64800 || offset > 64800) {
+                return false;
+            }
+            offsetSecs = (int) offset;
+        }
+
+        // the same result as the general resolver
+        fields.retainChronoFields(OFFSET_MASK);
+        builder.date = date;
+        builder.time = time;
+        if (date != null && time != null) {
+            if (builder.zone != null) {
+                fields.putLong(INSTANT_SECONDS, date.atTime(time).atZone(builder.zone).getLong(INSTANT_SECONDS));
+            } else if ((mask & OFFSET_MASK) != 0) {
+                long epochSecs = date.toEpochDay() * 86400L + time.toSecondOfDay() - offsetSecs;
+                fields.putLong(INSTANT_SECONDS, epochSecs);
+            }
+        }
+        if (time != null) {
+            builder.excessDays = Period.ZERO;
+        }
+        return true;
+    }
+
+    /**
+     * Resolves a complete date, with an optional matching day-of-week.
+     *
+     * @param fields  the parsed fields, not null
+     * @param mask  the mask of fields present
+     * @return the date, null if the general resolver must be used
+     */
+    private LocalDate resolveDate(FieldValueMap fields, long mask) {
+        if ((mask & MONTH_DAY_MASK) != MONTH_DAY_MASK) {
+            return null;
+        }
+        long year;
+        long yearMask = mask & (YEAR_MASK | YEAR_OF_ERA_MASK);
+        if (yearMask == YEAR_MASK) {
+            year = fields.getLong(YEAR);
+            if (year < Year.MIN_VALUE) {
+                return null;
+            }
+        } else if (yearMask == YEAR_OF_ERA_MASK && resolverStyle != ResolverStyle.STRICT) {
+            // without an era, the year-of-era is the year
+            year = fields.getLong(YEAR_OF_ERA);
+            if (year < 1) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        long month = fields.getLong(MONTH_OF_YEAR);
+        long day = fields.getLong(DAY_OF_MONTH);
+        if (year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1 ||
+                day > Month.of((int) month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+            return null;
+        }
+        LocalDate date = LocalDate.of((int) year, (int) month, (int) day);
+        if ((mask & DAY_OF_WEEK_MASK) != 0 && fields.getLong(DAY_OF_WEEK) != date.getDayOfWeek().getValue()) {
+            return null;
+        }
+        return date;
+    }
+
+    /**
+     * Resolves a time, inferring zero for missing minutes or seconds.
+     *
+     * @param fields  the parsed fields, not null
+     * @param mask  the mask of fields present
+     * @return the time, null if the general resolver must be used
+     */
+    private LocalTime resolveTime(FieldValueMap fields, long mask) {
+        // the shapes accepted when inferring zeroes
+        if ((mask & HOUR_MASK) == 0 ||
+                ((mask & MINUTE_MASK) == 0 && (mask & (SECOND_MASK | NANO_MASK)) != 0) ||
+                ((mask & SECOND_MASK) == 0 && (mask & NANO_MASK) != 0)) {
+            return null;
+        }
+        long hour = fields.getLong(HOUR_OF_DAY);
+        long minute = ((mask & MINUTE_MASK) != 0 ? fields.getLong(MINUTE_OF_HOUR) : 0);
+        long second = ((mask & SECOND_MASK) != 0 ? fields.getLong(SECOND_OF_MINUTE) : 0);
+        long nano = ((mask & NANO_MASK) != 0 ? fields.getLong(NANO_OF_SECOND) : 0);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 ||
+                second < 0 || second > 59 || nano < 0 || nano > 999999999) {
+            return null;
+        }
+        return LocalTime.of((int) hour, (int) minute, (int) second, (int) nano);
+    }
+
+}
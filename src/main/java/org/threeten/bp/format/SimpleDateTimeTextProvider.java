@@ -39,6 +39,7 @@ import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 import java.text.DateFormatSymbols;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
@@ -49,6 +50,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -103,6 +105,15 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+    @Override
+    ParseIndex getParseIndex(TemporalField field, TextStyle style, Locale locale) {
+        Object store = findStore(field, locale);
+        if (store instanceof LocaleStore) {
+            return ((LocaleStore) store).getParseIndex(style);
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(TemporalField field, Locale locale) {
         Entry<TemporalField, Locale> key = createEntry(field, locale);
@@ -316,6 +327,10 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        /**
+         * Index of the parsable data.
+         */
+        private final Map<TextStyle, ParseIndex> parseIndex;
 
         //-----------------------------------------------------------------------
         /**
@@ -342,6 +357,11 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+            Map<TextStyle, ParseIndex> indexMap = new HashMap<TextStyle, ParseIndex>();
+            for (Map.Entry<TextStyle, List<Entry<String, Long>>> entry : map.entrySet()) {
+                indexMap.put(entry.getKey(), new ParseIndex(entry.getValue()));
+            }
+            this.parseIndex = indexMap;
         }
 
         //-----------------------------------------------------------------------
@@ -371,6 +391,176 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets the index of text to field for the specified style for the purpose of parsing.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @return the index of the text, null if the style is not parsable
+         */
+        ParseIndex getParseIndex(TextStyle style) {
+            return parseIndex.get(style);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An index of parsable text, keyed by length and first character.
+     * <p>
+     * The text is grouped by length, longest first, and within each length by the first
+     * character, both as is and case-folded. Parsing examines the texts whose length fits
+     * and whose first character matches, in the same order as the iterator of text,
+     * thus finding the same text as matching each text of the iterator in turn.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    static final class ParseIndex {
+        /**
+         * The distinct lengths of the text, longest first.
+         */
+        private final int[] lengths;
+        /**
+         * The sorted first characters for each length.
+         */
+        private final char[][] firstChars;
+        /**
+         * The text for each length and first character, in iterator order.
+         */
+        private final Entry<String, Long>[][][] byFirstChar;
+        /**
+         * The sorted case-folded first characters for each length.
+         */
+        private final char[][] foldedChars;
+        /**
+         * The text for each length and case-folded first character, in iterator order.
+         */
+        private final Entry<String, Long>[][][] byFoldedChar;
+        /**
+         * The empty text, null if none.
+         */
+        private final Entry<String, Long> empty;
+
+        /**
+         * Constructor.
+         *
+         * @param list  the text in order from longest to shortest, not null
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ParseIndex(List<Entry<String, Long>> list) {
+            Map<Integer, Map<Character, List<Entry<String, Long>>>> exact =
+                    new TreeMap<Integer, Map<Character, List<Entry<String, Long>>>>(Collections.reverseOrder());
+            Map<Integer, Map<Character, List<Entry<String, Long>>>> folded =
+                    new TreeMap<Integer, Map<Character, List<Entry<String, Long>>>>(Collections.reverseOrder());
+            Entry<String, Long> emptyText = null;
+            for (Entry<String, Long> entry : list) {
+                String text = entry.getKey();
+                if (text.length() == 0) {
+                    if (emptyText == null) {
+                        emptyText = entry;
+                    }
+                    continue;
+                }
+                add(exact, text.length(), text.charAt(0), entry);
+                add(folded, text.length(), fold(text.charAt(0)), entry);
+            }
+            int size = exact.size();
+            this.lengths = new int[size];
+            this.firstChars = new char[size][];
+            this.byFirstChar = new Entry[size][][];
+            this.foldedChars = new char[size][];
+            this.byFoldedChar = new Entry[size][][];
+            int i = 0;
+            for (Integer length : exact.keySet()) {
+                lengths[i] = length;
+                firstChars[i] = keys(exact.get(length));
+                byFirstChar[i] = values(exact.get(length));
+                foldedChars[i] = keys(folded.get(length));
+                byFoldedChar[i] = values(folded.get(length));
+                i++;
+            }
+            this.empty = emptyText;
+        }
+
+        private static void add(Map<Integer, Map<Character, List<Entry<String, Long>>>> map,
+                int length, char ch, Entry<String, Long> entry) {
+            Map<Character, List<Entry<String, Long>>> charMap = map.get(length);
+            if (charMap == null) {
+                charMap = new TreeMap<Character, List<Entry<String, Long>>>();
+                map.put(length, charMap);
+            }
+            List<Entry<String, Long>> bucket = charMap.get(ch);
+            if (bucket == null) {
+                bucket = new ArrayList<Entry<String, Long>>(1);
+                charMap.put(ch, bucket);
+            }
+            bucket.add(entry);
+        }
+
+        private static char[] keys(Map<Character, List<Entry<String, Long>>> charMap) {
+            char[] keys = new char[charMap.size()];
+            int i = 0;
+            for (Character ch : charMap.keySet()) {
+                keys[i++] = ch;
+            }
+            return keys;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Entry<String, Long>[][] values(Map<Character, List<Entry<String, Long>>> charMap) {
+            Entry<String, Long>[][] values = new Entry[charMap.size()][];
+            int i = 0;
+            for (List<Entry<String, Long>> bucket : charMap.values()) {
+                values[i++] = bucket.toArray(new Entry[bucket.size()]);
+            }
+            return values;
+        }
+
+        /**
+         * Folds the case of a character.
+         * <p>
+         * Two characters that are equal ignoring case, as defined by
+         * {@link DateTimeParseContext#charEqualsIgnoreCase(char, char)}, have the same folded form.
+         *
+         * @param ch  the character to fold
+         * @return the folded character
+         */
+        static char fold(char ch) {
+            return Character.toLowerCase(Character.toUpperCase(ch));
+        }
+
+        /**
+         * Finds the longest text matching at the position, as per the parse context.
+         *
+         * @param context  the context to use for matching, not null
+         * @param parseText  the text to parse, not null
+         * @param position  the position to parse from, valid
+         * @return the matched text and value, null if no match
+         */
+        Entry<String, Long> find(DateTimeParseContext context, CharSequence parseText, int position) {
+            int remaining = parseText.length() - position;
+            if (remaining > 0) {
+                boolean caseSensitive = context.isCaseSensitive();
+                char ch = parseText.charAt(position);
+                char key = (caseSensitive ? ch : fold(ch));
+                char[][] keys = (caseSensitive ? firstChars : foldedChars);
+                Entry<String, Long>[][][] values = (caseSensitive ? byFirstChar : byFoldedChar);
+                for (int i = 0; i < lengths.length; i++) {
+                    int length = lengths[i];
+                    if (length > remaining) {
+                        continue;
+                    }
+                    int index = Arrays.binarySearch(keys[i], key);
+                    if (index >= 0) {
+                        for (Entry<String, Long> entry : values[i][index]) {
+                            if (context.subSequenceEquals(entry.getKey(), 0, parseText, position, length)) {
+                                return entry;
+                            }
+                        }
+                    }
+                }
+            }
+            return empty;
+        }
     }
 
 }
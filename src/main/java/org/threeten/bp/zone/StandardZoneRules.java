@@ -38,10 +38,16 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.CacheStatistics;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
@@ -65,9 +71,46 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     private static final long serialVersionUID = 3044319355680032515L;
     /**
-     * The last year to have its transitions cached.
+     * The default last year covered by the offset lookup table.
      */
     private static final int LAST_CACHED_YEAR = 2100;
+    /**
+     * The maximum number of years covered by the offset lookup table, bounding its size.
+     */
+    private static final int LOOKUP_MAX_YEARS = 1000;
+    /**
+     * The first year covered by the offset lookup table.
+     */
+    private static final int LOOKUP_FIRST_YEAR = intProperty(
+            "org.threeten.bp.zone.lookupFirstYear", 1970, Year.MIN_VALUE, Year.MAX_VALUE - 1);
+    /**
+     * The last year covered by the offset lookup table, clamped to the maximum span.
+     */
+    private static final int LOOKUP_LAST_YEAR = (int) Math.min(
+            intProperty("org.threeten.bp.zone.lookupLastYear", LAST_CACHED_YEAR, Year.MIN_VALUE, Year.MAX_VALUE - 1),
+            (long) LOOKUP_FIRST_YEAR + LOOKUP_MAX_YEARS - 1);
+    /**
+     * The number of years after the last historic transition to have their transitions cached.
+     */
+    private static final int LAST_RULES_CACHE_YEARS = intProperty(
+            "org.threeten.bp.zone.lastRulesCacheYears", 100, 0, 10000);
+    /**
+     * The shift used to bucket epoch seconds in the lookup table, 2^22 seconds is about 48 days.
+     */
+    private static final int LOOKUP_SHIFT = 22;
+    /**
+     * Cache of the immutable single element lists of valid offsets.
+     */
+    private static final ConcurrentMap<ZoneOffset, List<ZoneOffset>> VALID_OFFSETS_CACHE =
+                new ConcurrentHashMap<ZoneOffset, List<ZoneOffset>>();
+    /**
+     * The number of queries that found the year in a last rules cache, across all rules.
+     */
+    private static final StripedCounter LAST_RULES_CACHE_HITS = new StripedCounter();
+    /**
+     * The number of queries that created transitions from the last rules, across all rules.
+     */
+    private static final StripedCounter LAST_RULES_CACHE_MISSES = new StripedCounter();
 
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
@@ -91,15 +134,35 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * The wall offsets.
      */
     private final ZoneOffset[] wallOffsets;
+    /**
+     * The transitions between instants, matching the savings instant transitions.
+     */
+    private final ZoneOffsetTransition[] savingsTransitions;
     /**
      * The last rule.
      */
     private final ZoneOffsetTransitionRule[] lastRules;
     /**
-     * The map of recent transitions.
+     * The cache of transitions created from the last rules, indexed by year
+     * from the year of the last historic transition, lazily initialized.
      */
-    private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
-                new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    private transient volatile AtomicReferenceArray<ZoneOffsetTransition[]> lastRulesCache;
+    /**
+     * The year of the first entry in the last rules cache.
+     */
+    private transient int lastRulesCacheFirstYear;
+    /**
+     * The number of years added to the last rules cache.
+     */
+    private final transient AtomicLong lastRulesCacheFills = new AtomicLong();
+    /**
+     * The number of times the last rules cache was queried and had to create the transitions.
+     */
+    private final transient AtomicLong lastRulesCacheMisses = new AtomicLong();
+    /**
+     * The lookup table of offsets, lazily initialized.
+     */
+    private transient volatile OffsetLookup offsetLookup;
 
     /**
      * Creates an instance.
@@ -146,8 +209,11 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
 
         // convert savings transitions to instants
         this.savingsInstantTransitions = new long[transitionList.size()];
+        this.savingsTransitions = new ZoneOffsetTransition[transitionList.size()];
         for (int i = 0; i < transitionList.size(); i++) {
             this.savingsInstantTransitions[i] = transitionList.get(i).getInstant().getEpochSecond();
+            this.savingsTransitions[i] = new ZoneOffsetTransition(
+                    savingsInstantTransitions[i], wallOffsets[i], wallOffsets[i + 1]);
         }
 
         // last rules
@@ -166,7 +232,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * @param wallOffsets  the wall offsets, not null
      * @param lastRules  the recurring last rules, size 15 or less, not null
      */
-    private StandardZoneRules(
+    StandardZoneRules(
             long[] standardTransitions,
             ZoneOffset[] standardOffsets,
             long[] savingsInstantTransitions,
@@ -182,10 +248,12 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
 
         // convert savings transitions to locals
         List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
+        this.savingsTransitions = new ZoneOffsetTransition[savingsInstantTransitions.length];
         for (int i = 0; i < savingsInstantTransitions.length; i++) {
             ZoneOffset before = wallOffsets[i];
             ZoneOffset after = wallOffsets[i + 1];
             ZoneOffsetTransition trans = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
+            savingsTransitions[i] = trans;
             if (trans.isGap()) {
                 localTransitionList.add(trans.getDateTimeBefore());
                 localTransitionList.add(trans.getDateTimeAfter());
@@ -268,6 +336,62 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the epoch-seconds of the standard transitions.
+     * <p>
+     * The internal array is returned, and must not be altered.
+     *
+     * @return the standard transitions, not null
+     */
+    long[] getStandardTransitionArray() {
+        return standardTransitions;
+    }
+
+    /**
+     * Gets the standard offsets, one more than the number of standard transitions.
+     * <p>
+     * The internal array is returned, and must not be altered.
+     *
+     * @return the standard offsets, not null
+     */
+    ZoneOffset[] getStandardOffsetArray() {
+        return standardOffsets;
+    }
+
+    /**
+     * Gets the epoch-seconds of the savings transitions.
+     * <p>
+     * The internal array is returned, and must not be altered.
+     *
+     * @return the savings transitions, not null
+     */
+    long[] getSavingsTransitionArray() {
+        return savingsInstantTransitions;
+    }
+
+    /**
+     * Gets the wall offsets, one more than the number of savings transitions.
+     * <p>
+     * The internal array is returned, and must not be altered.
+     *
+     * @return the wall offsets, not null
+     */
+    ZoneOffset[] getWallOffsetArray() {
+        return wallOffsets;
+    }
+
+    /**
+     * Gets the recurring last rules.
+     * <p>
+     * The internal array is returned, and must not be altered.
+     *
+     * @return the last rules, not null
+     */
+    ZoneOffsetTransitionRule[] getLastRulesArray() {
+        return lastRules;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isFixedOffset() {
@@ -277,8 +401,84 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(Instant instant) {
-        long epochSec = instant.getEpochSecond();
+        return getOffset(instant.getEpochSecond());
+    }
+
+    @Override
+    public int getOffsetTotalSeconds(long epochSecond) {
+        return getOffset(epochSecond).getTotalSeconds();
+    }
+
+    @Override
+    public void getOffsetTotalSeconds(long[] epochSeconds, int fromIndex, int toIndex, int[] offsets) {
+        checkRange(epochSeconds, fromIndex, toIndex, offsets);
+        fillOffsets(epochSeconds, fromIndex, toIndex, offsets, 1);
+    }
+
+    @Override
+    public void getOffsetTotalSecondsOfEpochMilli(long[] epochMillis, int fromIndex, int toIndex, int[] offsets) {
+        checkRange(epochMillis, fromIndex, toIndex, offsets);
+        fillOffsets(epochMillis, fromIndex, toIndex, offsets, 1000);
+    }
 
+    /**
+     * Fills the offsets for a range of epoch values.
+     * <p>
+     * The range of epoch-seconds for which the current offset is valid is retained
+     * between elements, thus the transitions are only searched when the input
+     * crosses a transition, which is rare for sorted input.
+     *
+     * @param epochValues  the epoch values, not null
+     * @param fromIndex  the first index to process, inclusive
+     * @param toIndex  the last index to process, exclusive
+     * @param offsets  the array to store the total offsets in seconds, not null
+     * @param unitsPerSecond  the number of units in the epoch values per second
+     */
+    private void fillOffsets(long[] epochValues, int fromIndex, int toIndex, int[] offsets, int unitsPerSecond) {
+        OffsetLookup lookup = findOffsetLookup();
+        long validFrom = 0;
+        long validTo = 0;
+        int offsetSecs = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long epochSec = (unitsPerSecond == 1 ? epochValues[i] : Jdk8Methods.floorDiv(epochValues[i], unitsPerSecond));
+            if (epochSec < validFrom || epochSec >= validTo) {
+                if (lookup == null || lookup.contains(epochSec) == false) {
+                    offsets[i] = findOffset(epochSec).getTotalSeconds();
+                    continue;
+                }
+                int index = lookup.findIndex(epochSec);
+                validFrom = lookup.validFrom(index);
+                validTo = lookup.validTo(index);
+                offsetSecs = lookup.offsets[index].getTotalSeconds();
+            }
+            offsets[i] = offsetSecs;
+        }
+    }
+
+    /**
+     * Gets the offset for the epoch-second, using the lookup table where possible.
+     *
+     * @param epochSec  the epoch-second
+     * @return the offset, not null
+     */
+    private ZoneOffset getOffset(long epochSec) {
+        OffsetLookup lookup = findOffsetLookup();
+        if (lookup != null) {
+            ZoneOffset offset = lookup.getOffset(epochSec);
+            if (offset != null) {
+                return offset;
+            }
+        }
+        return findOffset(epochSec);
+    }
+
+    /**
+     * Finds the offset for the epoch-second without using the lookup table.
+     *
+     * @param epochSec  the epoch-second
+     * @return the offset, not null
+     */
+    private ZoneOffset findOffset(long epochSec) {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
@@ -303,6 +503,45 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return wallOffsets[index + 1];
     }
 
+    /**
+     * Finds the lookup table, creating it if necessary.
+     *
+     * @return the lookup table, null if the rules are fixed or the table is disabled
+     */
+    private OffsetLookup findOffsetLookup() {
+        OffsetLookup lookup = offsetLookup;
+        if (lookup == null) {
+            if (savingsInstantTransitions.length == 0 || LOOKUP_FIRST_YEAR > LOOKUP_LAST_YEAR) {
+                return null;
+            }
+            // racy single-check, as the table is immutable and can be safely recreated
+            lookup = new OffsetLookup(this);
+            offsetLookup = lookup;
+        }
+        return lookup;
+    }
+
+    /**
+     * Obtains a configuration value from a system property.
+     *
+     * @param key  the system property key, not null
+     * @param defaultValue  the value to use if the property is not set or invalid
+     * @param minValue  the minimum valid value
+     * @param maxValue  the maximum valid value
+     * @return the value
+     */
+    private static int intProperty(String key, int defaultValue, int minValue, int maxValue) {
+        try {
+            Integer value = Integer.getInteger(key);
+            if (value != null && value >= minValue && value <= maxValue) {
+                return value;
+            }
+        } catch (SecurityException ex) {
+            // use default
+        }
+        return defaultValue;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(LocalDateTime localDateTime) {
@@ -315,12 +554,26 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
 
     @Override
     public List<ZoneOffset> getValidOffsets(LocalDateTime localDateTime) {
-        // should probably be optimized
         Object info = getOffsetInfo(localDateTime);
         if (info instanceof ZoneOffsetTransition) {
             return ((ZoneOffsetTransition) info).getValidOffsets();
         }
-        return Collections.singletonList((ZoneOffset) info);
+        return validOffsets((ZoneOffset) info);
+    }
+
+    /**
+     * Obtains the shared immutable list containing just the specified offset.
+     *
+     * @param offset  the offset, not null
+     * @return the single element list, not null
+     */
+    static List<ZoneOffset> validOffsets(ZoneOffset offset) {
+        List<ZoneOffset> list = VALID_OFFSETS_CACHE.get(offset);
+        if (list == null) {
+            VALID_OFFSETS_CACHE.putIfAbsent(offset, Collections.singletonList(offset));
+            list = VALID_OFFSETS_CACHE.get(offset);
+        }
+        return list;
     }
 
     @Override
@@ -360,17 +613,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         }
         if ((index & 1) == 0) {
             // gap or overlap
-            LocalDateTime dtBefore = savingsLocalTransitions[index];
-            LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
-            ZoneOffset offsetBefore = wallOffsets[index / 2];
-            ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-            if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-                // gap
-                return new ZoneOffsetTransition(dtBefore, offsetBefore, offsetAfter);
-            } else {
-                // overlap
-                return new ZoneOffsetTransition(dtAfter, offsetBefore, offsetAfter);
-            }
+            return savingsTransitions[index / 2];
         } else {
             // normal (neither gap or overlap)
             return wallOffsets[index / 2 + 1];
@@ -409,7 +652,11 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
 
     @Override
     public boolean isValidOffset(LocalDateTime localDateTime, ZoneOffset offset) {
-        return getValidOffsets(localDateTime).contains(offset);
+        Object info = getOffsetInfo(localDateTime);
+        if (info instanceof ZoneOffsetTransition) {
+            return ((ZoneOffsetTransition) info).isValidOffset(offset);
+        }
+        return info.equals(offset);
     }
 
     //-----------------------------------------------------------------------
@@ -420,26 +667,109 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
-        Integer yearObj = year;  // should use Year class, but this saves a class load
-        ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
-        if (transArray != null) {
+        AtomicReferenceArray<ZoneOffsetTransition[]> cache = findLastRulesCache();
+        int index = year - lastRulesCacheFirstYear;
+        if (cache != null && index >= 0 && index < cache.length()) {
+            ZoneOffsetTransition[] transArray = cache.get(index);
+            if (transArray != null) {
+                LAST_RULES_CACHE_HITS.increment();
+                return transArray;
+            }
+            transArray = createTransitionArray(year);
+            if (cache.compareAndSet(index, null, transArray)) {
+                lastRulesCacheFills.incrementAndGet();
+            }
             return transArray;
         }
+        return createTransitionArray(year);
+    }
+
+    /**
+     * Creates the transition array for the given year from the last rules.
+     *
+     * @param year  the year
+     * @return the transition array, not null
+     */
+    private ZoneOffsetTransition[] createTransitionArray(int year) {
+        lastRulesCacheMisses.incrementAndGet();
+        LAST_RULES_CACHE_MISSES.increment();
         ZoneOffsetTransitionRule[] ruleArray = lastRules;
-        transArray  = new ZoneOffsetTransition[ruleArray.length];
+        ZoneOffsetTransition[] transArray  = new ZoneOffsetTransition[ruleArray.length];
         for (int i = 0; i < ruleArray.length; i++) {
             transArray[i] = ruleArray[i].createTransition(year);
         }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
-        }
         return transArray;
     }
 
+    /**
+     * Finds the last rules cache, creating it if necessary.
+     *
+     * @return the cache, null if caching is disabled
+     */
+    private AtomicReferenceArray<ZoneOffsetTransition[]> findLastRulesCache() {
+        AtomicReferenceArray<ZoneOffsetTransition[]> cache = lastRulesCache;
+        if (cache == null) {
+            if (LAST_RULES_CACHE_YEARS == 0 || savingsInstantTransitions.length == 0) {
+                return null;
+            }
+            // racy single-check, losing entries cached by another thread is harmless
+            lastRulesCacheFirstYear = findYear(
+                    savingsInstantTransitions[savingsInstantTransitions.length - 1], wallOffsets[wallOffsets.length - 1]);
+            cache = new AtomicReferenceArray<ZoneOffsetTransition[]>(LAST_RULES_CACHE_YEARS);
+            lastRulesCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Gets the number of years added to the last rules cache.
+     * <p>
+     * Misses beyond this count were for years outside the cached range,
+     * or lost a race to fill the same year.
+     *
+     * @return the number of cache fills
+     */
+    long getLastRulesCacheFills() {
+        return lastRulesCacheFills.get();
+    }
+
+    /**
+     * Gets the number of queries that had to create transitions from the last rules,
+     * either because the year was not yet cached or was outside the cached range.
+     *
+     * @return the number of cache misses
+     */
+    long getLastRulesCacheMisses() {
+        return lastRulesCacheMisses.get();
+    }
+
+    /**
+     * Gets the statistics of the last rules caches of all standard rules.
+     *
+     * @return the statistics, not null
+     */
+    static CacheStatistics getLastRulesCacheStatistics() {
+        return CacheStatistics.of(LAST_RULES_CACHE_HITS.sum(), LAST_RULES_CACHE_MISSES.sum(), 0);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getStandardOffset(Instant instant) {
-        long epochSec = instant.getEpochSecond();
+        return getStandardOffset(instant.getEpochSecond());
+    }
+
+    @Override
+    public int getStandardOffsetTotalSeconds(long epochSecond) {
+        return getStandardOffset(epochSecond).getTotalSeconds();
+    }
+
+    /**
+     * Gets the standard offset for the epoch-second.
+     *
+     * @param epochSec  the epoch-second
+     * @return the standard offset, not null
+     */
+    private ZoneOffset getStandardOffset(long epochSec) {
         int index  = Arrays.binarySearch(standardTransitions, epochSec);
         if (index < 0) {
             // switch negative insert position to start of matched range
@@ -460,6 +790,11 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return (getStandardOffset(instant).equals(getOffset(instant)) == false);
     }
 
+    @Override
+    public boolean isDaylightSavings(long epochSecond) {
+        return (getStandardOffset(epochSecond).equals(getOffset(epochSecond)) == false);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffsetTransition nextTransition(Instant instant) {
@@ -497,7 +832,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         } else {
             index += 1;  // exact match, so need to add one to get the next
         }
-        return new ZoneOffsetTransition(savingsInstantTransitions[index], wallOffsets[index], wallOffsets[index + 1]);
+        return savingsTransitions[index];
     }
 
     @Override
@@ -540,7 +875,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         if (index <= 0) {
             return null;
         }
-        return new ZoneOffsetTransition(savingsInstantTransitions[index - 1], wallOffsets[index - 1], wallOffsets[index]);
+        return savingsTransitions[index - 1];
     }
 
     private int findYear(long epochSecond, ZoneOffset offset) {
@@ -553,11 +888,22 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     //-------------------------------------------------------------------------
     @Override
     public List<ZoneOffsetTransition> getTransitions() {
-        List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
-        for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            list.add(new ZoneOffsetTransition(savingsInstantTransitions[i], wallOffsets[i], wallOffsets[i + 1]));
+        return Collections.unmodifiableList(Arrays.asList(savingsTransitions));
+    }
+
+    @Override
+    public Iterator<ZoneOffsetTransition> transitionIterator(Instant startInclusive, Instant endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        long startSec = startInclusive.getEpochSecond();
+        if (startInclusive.getNano() > 0 && startSec < Long.MAX_VALUE) {
+            startSec += 1;  // transitions are always on a whole second
         }
-        return Collections.unmodifiableList(list);
+        long endSec = endExclusive.getEpochSecond();
+        if (endExclusive.getNano() > 0 && endSec < Long.MAX_VALUE) {
+            endSec += 1;
+        }
+        return new TransitionIterator(startSec, endSec);
     }
 
     @Override
@@ -594,6 +940,235 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
                 Arrays.hashCode(lastRules);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over the transitions in a range, covering both the historic
+     * transitions and those generated from the last rules.
+     * <p>
+     * The position in the historic transitions, or the year and rule index in
+     * the last rules, is retained between steps.
+     */
+    private final class TransitionIterator implements Iterator<ZoneOffsetTransition> {
+        /**
+         * The end of the range (epoch seconds), exclusive.
+         */
+        private final long endSec;
+        /**
+         * The first epoch-second to return from the last rules, inclusive.
+         */
+        private final long minRuleSec;
+        /**
+         * The index of the next historic transition.
+         */
+        private int historicIndex;
+        /**
+         * The current year of transitions from the last rules.
+         */
+        private int year;
+        /**
+         * The transitions of the current year, null until the historic transitions are exhausted.
+         */
+        private ZoneOffsetTransition[] yearTransitions;
+        /**
+         * The index of the next transition in the current year.
+         */
+        private int yearIndex;
+        /**
+         * The next transition, null if none.
+         */
+        private ZoneOffsetTransition next;
+
+        /**
+         * Constructor.
+         *
+         * @param startSec  the start of the range (epoch seconds), inclusive
+         * @param endSec  the end of the range (epoch seconds), exclusive
+         */
+        TransitionIterator(long startSec, long endSec) {
+            this.endSec = endSec;
+            if (savingsInstantTransitions.length == 0) {
+                this.minRuleSec = startSec;
+                return;
+            }
+            int index = Arrays.binarySearch(savingsInstantTransitions, startSec);
+            this.historicIndex = (index < 0 ? -index - 1 : index);
+            long lastHistoric = savingsInstantTransitions[savingsInstantTransitions.length - 1];
+            this.minRuleSec = Math.max(startSec, lastHistoric + 1);
+            this.next = findNext();
+        }
+
+        private ZoneOffsetTransition findNext() {
+            ZoneOffsetTransition trans;
+            if (historicIndex < savingsTransitions.length) {
+                trans = savingsTransitions[historicIndex++];
+            } else {
+                if (lastRules.length == 0) {
+                    return null;
+                }
+                if (yearTransitions == null) {
+                    year = findYear(minRuleSec, wallOffsets[wallOffsets.length - 1]);
+                    yearTransitions = findTransitionArray(year);
+                }
+                do {
+                    if (yearIndex == yearTransitions.length) {
+                        if (year >= Year.MAX_VALUE) {
+                            return null;
+                        }
+                        year++;
+                        yearTransitions = findTransitionArray(year);
+                        yearIndex = 0;
+                    }
+                    trans = yearTransitions[yearIndex++];
+                } while (trans.toEpochSecond() < minRuleSec);
+            }
+            return (trans.toEpochSecond() < endSec ? trans : null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public ZoneOffsetTransition next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            ZoneOffsetTransition trans = next;
+            next = findNext();
+            return trans;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Dense lookup table of the offsets within a window of years.
+     * <p>
+     * The transitions within the window are held in a sorted array, with a
+     * second array indexed by bucket of epoch-seconds holding the index of
+     * the first transition at or after the start of the bucket.
+     * Finding an offset is thus an index computation followed by one or two comparisons.
+     * The table for a typical zone with daylight savings uses about 8kb.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    private static final class OffsetLookup {
+        /**
+         * The first epoch-second covered, inclusive.
+         */
+        private final long start;
+        /**
+         * The last epoch-second covered, exclusive.
+         */
+        private final long end;
+        /**
+         * The index of the first transition at or after the start of each bucket.
+         */
+        private final int[] buckets;
+        /**
+         * The transitions within the window (epoch seconds), sorted.
+         */
+        private final long[] transitions;
+        /**
+         * The offsets, where the offset at index i applies before transition i.
+         */
+        private final ZoneOffset[] offsets;
+
+        /**
+         * Creates the lookup table for the rules.
+         *
+         * @param rules  the rules to query, not null
+         */
+        OffsetLookup(StandardZoneRules rules) {
+            start = LocalDate.of(LOOKUP_FIRST_YEAR, 1, 1).toEpochDay() * 86400L;
+            end = LocalDate.of(LOOKUP_LAST_YEAR + 1, 1, 1).toEpochDay() * 86400L;
+            List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
+            ZoneOffsetTransition trans = rules.nextTransition(Instant.ofEpochSecond(start));
+            while (trans != null && trans.toEpochSecond() < end) {
+                list.add(trans);
+                trans = rules.nextTransition(trans.getInstant());
+            }
+            transitions = new long[list.size()];
+            offsets = new ZoneOffset[list.size() + 1];
+            offsets[0] = rules.findOffset(start);
+            for (int i = 0; i < list.size(); i++) {
+                transitions[i] = list.get(i).toEpochSecond();
+                offsets[i + 1] = list.get(i).getOffsetAfter();
+            }
+            buckets = new int[(int) ((end - start - 1) >>> LOOKUP_SHIFT) + 1];
+            int index = 0;
+            for (int b = 0; b < buckets.length; b++) {
+                long bucketStart = start + (((long) b) << LOOKUP_SHIFT);
+                while (index < transitions.length && transitions[index] < bucketStart) {
+                    index++;
+                }
+                buckets[b] = index;
+            }
+        }
+
+        /**
+         * Gets the offset for the epoch-second.
+         *
+         * @param epochSec  the epoch-second
+         * @return the offset, null if outside the window
+         */
+        ZoneOffset getOffset(long epochSec) {
+            if (contains(epochSec) == false) {
+                return null;
+            }
+            return offsets[findIndex(epochSec)];
+        }
+
+        /**
+         * Checks if the epoch-second is within the window.
+         *
+         * @param epochSec  the epoch-second
+         * @return true if within the window
+         */
+        boolean contains(long epochSec) {
+            return epochSec >= start && epochSec < end;
+        }
+
+        /**
+         * Finds the index of the offset for an epoch-second within the window.
+         *
+         * @param epochSec  the epoch-second, within the window
+         * @return the index into the offsets
+         */
+        int findIndex(long epochSec) {
+            int index = buckets[(int) ((epochSec - start) >>> LOOKUP_SHIFT)];
+            while (index < transitions.length && epochSec >= transitions[index]) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Gets the first epoch-second that the offset at the index applies to.
+         *
+         * @param index  the index into the offsets
+         * @return the epoch-second, inclusive
+         */
+        long validFrom(int index) {
+            return (index == 0 ? start : transitions[index - 1]);
+        }
+
+        /**
+         * Gets the epoch-second that the offset at the index stops applying at.
+         *
+         * @param index  the index into the offsets
+         * @return the epoch-second, exclusive
+         */
+        long validTo(int index) {
+            return (index == transitions.length ? end : transitions[index]);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string describing this object.
@@ -605,4 +1180,45 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return "StandardZoneRules[currentStandardOffset=" + standardOffsets[standardOffsets.length - 1] + "]";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A counter split into stripes selected by thread, so that threads counting
+     * concurrently rarely write the same cache line.
+     */
+    private static final class StripedCounter {
+        /**
+         * The number of stripes, a power of two.
+         */
+        private static final int STRIPES = 16;
+        /**
+         * The spacing of the stripes in the array, being the longs in a 64 byte cache line.
+         */
+        private static final int SPACING = 8;
+        /**
+         * The stripes.
+         */
+        private final AtomicLongArray counts = new AtomicLongArray(STRIPES * SPACING);
+
+        /**
+         * Adds one to the stripe of the current thread.
+         */
+        void increment() {
+            int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            counts.incrementAndGet(stripe * SPACING);
+        }
+
+        /**
+         * Sums the stripes.
+         *
+         * @return the count
+         */
+        long sum() {
+            long total = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                total += counts.get(i * SPACING);
+            }
+            return total;
+        }
+    }
+
 }
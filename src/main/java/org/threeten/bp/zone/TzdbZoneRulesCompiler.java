@@ -43,6 +43,9 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,6 +62,7 @@ import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
 import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
@@ -108,6 +112,9 @@ final class TzdbZoneRulesCompiler {
         File dstDir = null;
         boolean unpacked = false;
         boolean verbose = false;
+        int format = 0;
+        String providerClass = null;
+        String providerZones = null;
 
         // parse options
         int i;
@@ -131,6 +138,21 @@ final class TzdbZoneRulesCompiler {
                     version = args[i];
                     continue;
                 }
+            } else if ("-format".equals(arg)) {
+                if (format == 0 && ++i < args.length && ("1".equals(args[i]) || "2".equals(args[i]))) {
+                    format = Integer.parseInt(args[i]);
+                    continue;
+                }
+            } else if ("-provider".equals(arg)) {
+                if (providerClass == null && ++i < args.length) {
+                    providerClass = args[i];
+                    continue;
+                }
+            } else if ("-zones".equals(arg)) {
+                if (providerZones == null && ++i < args.length) {
+                    providerZones = args[i];
+                    continue;
+                }
             } else if ("-unpacked".equals(arg)) {
                 if (unpacked == false) {
                     unpacked = true;
@@ -199,7 +221,16 @@ final class TzdbZoneRulesCompiler {
             System.out.println("Destination is not a directory: " + dstDir);
             return;
         }
-        process(srcDirs, srcFileNames, dstDir, unpacked, verbose);
+        if (providerZones != null && providerClass == null) {
+            System.out.println("Zones can only be specified when generating a provider using -provider");
+            return;
+        }
+        if (providerClass != null && providerClass.matches("([A-Za-z_$][A-Za-z0-9_$]*\\.)*[A-Za-z_$][A-Za-z0-9_$]*") == false) {
+            System.out.println("Provider is not a valid class name: " + providerClass);
+            return;
+        }
+        process(srcDirs, srcFileNames, dstDir, unpacked, verbose, (format != 0 ? format : 1), providerClass,
+                (providerZones != null ? Arrays.asList(providerZones.split(",")) : null));
     }
 
     /**
@@ -212,6 +243,9 @@ final class TzdbZoneRulesCompiler {
         System.out.println("   -dstdir <directory>   Where to output generated files (default srcdir)");
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
         System.out.println("   -unpacked             Generate dat files without jar files");
+        System.out.println("   -format <1|2>         Format of the dat files, 2 is indexed (default 1)");
+        System.out.println("   -provider <class>     Also generate the source of a provider class holding the rules");
+        System.out.println("   -zones <ids>          Comma separated region IDs for the provider (default all)");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
         System.out.println(" There must be one directory for each version in srcdir");
@@ -220,15 +254,17 @@ final class TzdbZoneRulesCompiler {
         System.out.println(" Directories must match the regex [12][0-9][0-9][0-9][A-Za-z0-9._-]+");
         System.out.println(" There will be one jar file for each version and one combined jar in dstdir");
         System.out.println(" If the version is specified, only that version is processed");
+        System.out.println(" The generated provider uses the latest version and is written to dstdir");
     }
 
     /**
      * Process to create the jar files.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean unpacked, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir,
+            boolean unpacked, boolean verbose, int format, String providerClass, List<String> providerZones) {
         // build actual jar files
         Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
-        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        TreeMap<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         Set<String> allRegionIds = new TreeSet<String>();
         Set<ZoneRules> allRules = new HashSet<ZoneRules>();
         SortedMap<LocalDate, Byte> bestLeapSeconds = null;
@@ -267,7 +303,7 @@ final class TzdbZoneRulesCompiler {
                     if (verbose) {
                         System.out.println("Outputting file: " + dstFile);
                     }
-                    outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds);
+                    outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds, format);
                 }
 
                 // create totals
@@ -295,13 +331,19 @@ final class TzdbZoneRulesCompiler {
             if (verbose) {
                 System.out.println("Outputting combined files: " + dstDir);
             }
-            outputFilesDat(dstDir, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+            outputFilesDat(dstDir, allBuiltZones, allRegionIds, allRules, bestLeapSeconds, format);
         } else {
             File dstFile = new File(dstDir, "threeten-TZDB-all.jar");
             if (verbose) {
                 System.out.println("Outputting combined file: " + dstFile);
             }
-            outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+            outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds, format);
+        }
+
+        // output generated provider
+        if (providerClass != null && allBuiltZones.isEmpty() == false) {
+            String version = allBuiltZones.lastKey();
+            outputProviderFile(dstDir, providerClass, version, allBuiltZones.get(version), providerZones, verbose);
         }
     }
 
@@ -309,14 +351,14 @@ final class TzdbZoneRulesCompiler {
      * Outputs the DAT files.
      */
     private static void outputFilesDat(File dstDir, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
+            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds, int format) {
         File tzdbFile = new File(dstDir, "TZDB.dat");
         tzdbFile.delete();
         try {
             FileOutputStream fos = null;
             try {
                 fos = new FileOutputStream(tzdbFile);
-                outputTzdbDat(fos, allBuiltZones, allRegionIds, allRules);
+                outputTzdbDat(fos, allBuiltZones, allRegionIds, allRules, format);
             } finally {
                 if (fos != null) {
                     fos.close();
@@ -329,26 +371,69 @@ final class TzdbZoneRulesCompiler {
         }
     }
 
+    /**
+     * Outputs the source file of the generated provider.
+     */
+    private static void outputProviderFile(File dstDir, String className, String version,
+            SortedMap<String, ZoneRules> builtZones, List<String> zoneIds, boolean verbose) {
+        SortedMap<String, ZoneRules> zones = builtZones;
+        if (zoneIds != null) {
+            zones = new TreeMap<String, ZoneRules>();
+            for (String zoneId : zoneIds) {
+                ZoneRules rules = builtZones.get(zoneId.trim());
+                if (rules == null) {
+                    System.out.println("Failed: Unknown time-zone ID: " + zoneId);
+                    System.exit(1);
+                }
+                zones.put(zoneId.trim(), rules);
+            }
+        }
+        File srcFile = new File(dstDir, className.replace('.', File.separatorChar) + ".java");
+        if (verbose) {
+            System.out.println("Outputting provider source: " + srcFile);
+        }
+        try {
+            File parent = srcFile.getParentFile();
+            if (parent.exists() == false && parent.mkdirs() == false) {
+                throw new IOException("Unable to create directory: " + parent);
+            }
+            Writer writer = null;
+            try {
+                writer = new OutputStreamWriter(new FileOutputStream(srcFile), "UTF-8");
+                outputProviderSource(writer, className, version, zones);
+            } finally {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        } catch (Exception ex) {
+            System.out.println("Failed: " + ex.toString());
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
+    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones,
+            SortedMap<LocalDate, Byte> leapSeconds, int format) {
         Map<String, SortedMap<String, ZoneRules>> loopAllBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         loopAllBuiltZones.put(version, builtZones);
         Set<String> loopAllRegionIds = new TreeSet<String>(builtZones.keySet());
         Set<ZoneRules> loopAllRules = new HashSet<ZoneRules>(builtZones.values());
-        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds);
+        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds, format);
     }
 
     /**
      * Outputs the file.
      */
     private static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
+            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds, int format) {
         JarOutputStream jos = null;
         try {
             jos = new JarOutputStream(new FileOutputStream(dstFile));
-            outputTzdbEntry(jos, allBuiltZones, allRegionIds, allRules);
+            outputTzdbEntry(jos, allBuiltZones, allRegionIds, allRules, format);
         } catch (Exception ex) {
             System.out.println("Failed: " + ex.toString());
             ex.printStackTrace();
@@ -369,11 +454,11 @@ final class TzdbZoneRulesCompiler {
      */
     private static void outputTzdbEntry(
             JarOutputStream jos, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules) {
+            Set<String> allRegionIds, Set<ZoneRules> allRules, int format) {
         // this format is not publicly specified
         try {
             jos.putNextEntry(new ZipEntry("org/threeten/bp/TZDB.dat"));
-            outputTzdbDat(jos, allBuiltZones, allRegionIds, allRules);
+            outputTzdbDat(jos, allBuiltZones, allRegionIds, allRules, format);
             jos.closeEntry();
         } catch (Exception ex) {
             System.out.println("Failed: " + ex.toString());
@@ -382,6 +467,19 @@ final class TzdbZoneRulesCompiler {
         }
     }
 
+    /**
+     * Outputs the timezone DAT file in the specified format.
+     */
+    static void outputTzdbDat(OutputStream jos,
+            Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules, int format) throws IOException {
+        if (format == 2) {
+            outputIndexedTzdbDat(jos, allBuiltZones, allRegionIds, allRules);
+        } else {
+            outputTzdbDat(jos, allBuiltZones, allRegionIds, allRules);
+        }
+    }
+
     /**
      * Outputs the timezone DAT file.
      */
@@ -432,6 +530,217 @@ final class TzdbZoneRulesCompiler {
         out.flush();
     }
 
+    /**
+     * Outputs the timezone DAT file in the indexed format.
+     * <p>
+     * The header holds a hash table of the region IDs, the rules of each version
+     * indexed by region and the offset of each rule, followed by the rules as one block.
+     * This allows a single region to be loaded without reading all the rules.
+     */
+    private static void outputIndexedTzdbDat(OutputStream jos,
+            Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules) throws IOException {
+        DataOutputStream out = new DataOutputStream(jos);
+
+        // file version
+        out.writeByte(2);
+        // group
+        out.writeUTF("TZDB");
+        // versions
+        String[] versionArray = allBuiltZones.keySet().toArray(new String[allBuiltZones.size()]);
+        out.writeShort(versionArray.length);
+        for (String version : versionArray) {
+            out.writeUTF(version);
+        }
+        // regions
+        String[] regionArray = allRegionIds.toArray(new String[allRegionIds.size()]);
+        out.writeShort(regionArray.length);
+        for (String regionId : regionArray) {
+            out.writeUTF(regionId);
+        }
+        // region hash table, at most half full, using String.hashCode() which is specified
+        int tableSize = Integer.highestOneBit(Math.max(regionArray.length, 1)) * 4;
+        short[] regionTable = new short[tableSize];
+        Arrays.fill(regionTable, (short) -1);
+        for (int i = 0; i < regionArray.length; i++) {
+            int pos = regionArray[i].hashCode() & (tableSize - 1);
+            while (regionTable[pos] >= 0) {
+                pos = (pos + 1) & (tableSize - 1);
+            }
+            regionTable[pos] = (short) i;
+        }
+        out.writeInt(tableSize);
+        for (short regionIndex : regionTable) {
+            out.writeShort(regionIndex);
+        }
+        // link version-region-rules
+        List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
+        Map<ZoneRules, Integer> rulesIndices = new HashMap<ZoneRules, Integer>();
+        for (int i = 0; i < rulesList.size(); i++) {
+            rulesIndices.put(rulesList.get(i), i);
+        }
+        for (String version : versionArray) {
+            SortedMap<String, ZoneRules> builtZones = allBuiltZones.get(version);
+            for (String regionId : regionArray) {
+                ZoneRules rules = builtZones.get(regionId);
+                out.writeShort(rules != null ? rulesIndices.get(rules) : -1);
+            }
+        }
+        // rules
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024 * 64);
+        DataOutputStream dataos = new DataOutputStream(baos);
+        out.writeShort(rulesList.size());
+        for (ZoneRules rules : rulesList) {
+            out.writeInt(baos.size());
+            Ser.write(rules, dataos);
+            dataos.flush();
+        }
+        out.writeInt(baos.size());
+        baos.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Outputs the source of a provider holding the rules as primitive arrays.
+     * <p>
+     * The rules of each region are created by a separate method when first requested,
+     * avoiding any I/O or parsing. The arrays are literals local to that method, rather than
+     * static fields, so that only the requested regions are built. As the size of a class
+     * file is limited, this is intended for a selected set of regions rather than the whole database.
+     */
+    static void outputProviderSource(Writer writer, String className, String version,
+            SortedMap<String, ZoneRules> zones) throws IOException {
+        int dot = className.lastIndexOf('.');
+        String simpleName = className.substring(dot + 1);
+        PrintWriter out = new PrintWriter(writer);
+        out.println("// Generated by TzdbZoneRulesCompiler from TZDB version " + version + ", do not edit");
+        if (dot > 0) {
+            out.println("package " + className.substring(0, dot) + ";");
+            out.println();
+        }
+        out.println("import java.util.Arrays;");
+        out.println("import java.util.HashSet;");
+        out.println("import java.util.NavigableMap;");
+        out.println("import java.util.Set;");
+        out.println("import java.util.TreeMap;");
+        out.println("import java.util.concurrent.atomic.AtomicReferenceArray;");
+        out.println();
+        out.println("import org.threeten.bp.DayOfWeek;");
+        out.println("import org.threeten.bp.LocalTime;");
+        out.println("import org.threeten.bp.Month;");
+        out.println("import org.threeten.bp.ZoneOffset;");
+        out.println("import org.threeten.bp.zone.ZoneOffsetTransitionRule;");
+        out.println("import org.threeten.bp.zone.ZoneOffsetTransitionRule.TimeDefinition;");
+        out.println("import org.threeten.bp.zone.ZoneRules;");
+        out.println("import org.threeten.bp.zone.ZoneRulesException;");
+        out.println("import org.threeten.bp.zone.ZoneRulesProvider;");
+        out.println();
+        out.println("/**");
+        out.println(" * Provides the TZDB time-zone rules of version " + version + " for " + zones.size() + " regions.");
+        out.println(" * <p>");
+        out.println(" * The rules are held as primitive arrays, created when first requested.");
+        out.println(" */");
+        out.println("public final class " + simpleName + " extends ZoneRulesProvider {");
+        out.println();
+        out.println("    private static final String VERSION = \"" + version + "\";");
+        out.println("    private static final String[] REGION_IDS = {");
+        for (String zoneId : zones.keySet()) {
+            out.println("        \"" + zoneId + "\",");
+        }
+        out.println("    };");
+        out.println("    private final AtomicReferenceArray<ZoneRules> rules = new AtomicReferenceArray<ZoneRules>(REGION_IDS.length);");
+        out.println();
+        out.println("    @Override");
+        out.println("    protected Set<String> provideZoneIds() {");
+        out.println("        return new HashSet<String>(Arrays.asList(REGION_IDS));");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    protected ZoneRules provideRules(String zoneId, boolean forCaching) {");
+        out.println("        int index = Arrays.binarySearch(REGION_IDS, zoneId);");
+        out.println("        if (index < 0) {");
+        out.println("            throw new ZoneRulesException(\"Unknown time-zone ID: \" + zoneId);");
+        out.println("        }");
+        out.println("        ZoneRules result = rules.get(index);");
+        out.println("        if (result == null) {");
+        out.println("            result = create(index);");
+        out.println("            rules.set(index, result);");
+        out.println("        }");
+        out.println("        return result;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {");
+        out.println("        TreeMap<String, ZoneRules> map = new TreeMap<String, ZoneRules>();");
+        out.println("        if (Arrays.binarySearch(REGION_IDS, zoneId) >= 0) {");
+        out.println("            map.put(VERSION, provideRules(zoneId, false));");
+        out.println("        }");
+        out.println("        return map;");
+        out.println("    }");
+        out.println();
+        out.println("    private static ZoneRules create(int index) {");
+        out.println("        switch (index) {");
+        for (int i = 0; i < zones.size(); i++) {
+            out.println("            case " + i + ": return create" + i + "();");
+        }
+        out.println("            default: throw new IllegalStateException();");
+        out.println("        }");
+        out.println("    }");
+        int index = 0;
+        for (Map.Entry<String, ZoneRules> entry : zones.entrySet()) {
+            out.println();
+            out.println("    // " + entry.getKey());
+            out.println("    private static ZoneRules create" + index++ + "() {");
+            ZoneRules rules = entry.getValue();
+            if (rules instanceof StandardZoneRules) {
+                StandardZoneRules std = (StandardZoneRules) rules;
+                out.println("        return ZoneRules.ofTransitions(");
+                out.println("            new long[] {" + join(std.getStandardTransitionArray()) + "},");
+                out.println("            new int[] {" + join(std.getStandardOffsetArray()) + "},");
+                out.println("            new long[] {" + join(std.getSavingsTransitionArray()) + "},");
+                out.println("            new int[] {" + join(std.getWallOffsetArray()) + "},");
+                out.println("            new ZoneOffsetTransitionRule[] {");
+                for (ZoneOffsetTransitionRule rule : std.getLastRulesArray()) {
+                    out.println("                ZoneOffsetTransitionRule.of(Month." + rule.getMonth().name() + ", " +
+                            rule.getDayOfMonthIndicator() + ", " +
+                            (rule.getDayOfWeek() != null ? "DayOfWeek." + rule.getDayOfWeek().name() : "null") + ", " +
+                            "LocalTime.ofSecondOfDay(" + rule.getLocalTime().toSecondOfDay() + "), " +
+                            rule.isMidnightEndOfDay() + ", TimeDefinition." + rule.getTimeDefinition().name() + ", " +
+                            "ZoneOffset.ofTotalSeconds(" + rule.getStandardOffset().getTotalSeconds() + "), " +
+                            "ZoneOffset.ofTotalSeconds(" + rule.getOffsetBefore().getTotalSeconds() + "), " +
+                            "ZoneOffset.ofTotalSeconds(" + rule.getOffsetAfter().getTotalSeconds() + ")),");
+                }
+                out.println("            });");
+            } else {
+                ZoneOffset offset = rules.getOffset(Instant.EPOCH);
+                out.println("        return ZoneRules.of(ZoneOffset.ofTotalSeconds(" + offset.getTotalSeconds() + "));");
+            }
+            out.println("    }");
+        }
+        out.println();
+        out.println("}");
+        out.flush();
+        if (out.checkError()) {
+            throw new IOException("Unable to write provider source");
+        }
+    }
+
+    private static String join(long[] values) {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            buf.append(i == 0 ? "" : ", ").append(values[i]).append('L');
+        }
+        return buf.toString();
+    }
+
+    private static String join(ZoneOffset[] offsets) {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < offsets.length; i++) {
+            buf.append(i == 0 ? "" : ", ").append(offsets[i].getTotalSeconds());
+        }
+        return buf.toString();
+    }
+
     //-----------------------------------------------------------------------
     /** The TZDB rules. */
     private final Map<String, List<TZDBRule>> rules = new HashMap<String, List<TZDBRule>>();
@@ -33,10 +33,15 @@ package org.threeten.bp.zone;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.io.StreamCorruptedException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -63,6 +68,11 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     // TODO: can this be private/hidden in any way?
     // service loader seems to need it to be public
 
+    /**
+     * Whether to memory-map data files on the class path that are plain files.
+     */
+    private static final boolean MAPPED = mappedProperty();
+
     /**
      * All the regions that are available.
      */
@@ -109,6 +119,27 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
     }
 
+    /**
+     * Creates an instance and loads the specified file using a memory-mapped buffer.
+     * <p>
+     * Only the header of the file is read eagerly.
+     * The rules for each region are read from the mapped file when first requested.
+     * This reduces the start-up cost and heap usage when only a few regions are used.
+     *
+     * @param file  the file to load, not null
+     * @throws ZoneRulesException if unable to load
+     */
+    public TzdbZoneRulesProvider(File file) {
+        super();
+        try {
+            if (load(map(file)) == false) {
+                throw new ZoneRulesException("No time-zone rules found: " + file);
+            }
+        } catch (Exception ex) {
+            throw new ZoneRulesException("Unable to load TZDB time-zone rules: " + file, ex);
+        }
+    }
+
     /**
      * Creates an instance and loads the specified input stream.
      * <p>
@@ -189,6 +220,13 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     private boolean load(URL url) throws ClassNotFoundException, IOException, ZoneRulesException {
         boolean updated = false;
         if (loadedUrls.add(url.toExternalForm())) {
+            if (MAPPED && "file".equals(url.getProtocol())) {
+                try {
+                    return load(map(new File(url.toURI())));
+                } catch (URISyntaxException ex) {
+                    // fall through to stream
+                }
+            }
             InputStream in = null;
             try {
                 in = url.openStream();
@@ -209,8 +247,27 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
      * @throws Exception if an error occurs
      */
     private boolean load(InputStream in) throws IOException, StreamCorruptedException {
+        return load(loadData(new DataInputStream(in), null));
+    }
+
+    /**
+     * Loads the rules from a memory-mapped buffer.
+     *
+     * @param buffer  the buffer to load, positioned at the start, not null
+     * @throws Exception if an error occurs
+     */
+    private boolean load(ByteBuffer buffer) throws IOException, StreamCorruptedException {
+        return load(loadData(new DataInputStream(new ByteBufferInputStream(buffer)), buffer));
+    }
+
+    /**
+     * Registers the loaded versions.
+     *
+     * @param loadedVersions  the loaded versions, not null
+     * @return true if updated
+     */
+    private boolean load(Iterable<Version> loadedVersions) {
         boolean updated = false;
-        Iterable<Version> loadedVersions = loadData(in);
         for (Version loadedVersion : loadedVersions) {
             // see https://github.com/ThreeTen/threetenbp/pull/28 for issue wrt
             // multiple versions of lib on classpath
@@ -224,14 +281,19 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     }
 
     /**
-     * Loads the rules from an input stream.
+     * Loads the rules from a data stream.
+     * <p>
+     * Both the original format 1 and the indexed format 2 are supported.
+     * If a mapped buffer is specified, the stream must read from that buffer.
+     * The rules are then skipped, with only their position retained for later.
      *
-     * @param in  the stream to load, not null, not closed after use
+     * @param dis  the stream to load, not null, not closed after use
+     * @param mapped  the buffer that the stream reads from, null if not mapped
      * @throws Exception if an error occurs
      */
-    private Iterable<Version> loadData(InputStream in) throws IOException, StreamCorruptedException {
-        DataInputStream dis = new DataInputStream(in);
-        if (dis.readByte() != 1) {
+    private Iterable<Version> loadData(DataInputStream dis, ByteBuffer mapped) throws IOException, StreamCorruptedException {
+        int format = dis.readByte();
+        if (format != 1 && format != 2) {
             throw new StreamCorruptedException("File format not recognised");
         }
         // group
@@ -252,13 +314,23 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
             regionArray[i] = dis.readUTF();
         }
         regionIds = Arrays.asList(regionArray);
+        if (format == 2) {
+            return loadIndexedData(dis, mapped, versionArray, regionArray);
+        }
         // rules
         int ruleCount = dis.readShort();
         Object[] ruleArray = new Object[ruleCount];
+        int[] ruleOffsets = (mapped != null ? new int[ruleCount] : null);
         for (int i = 0; i < ruleCount; i++) {
-            byte[] bytes = new byte[dis.readShort()];
-            dis.readFully(bytes);
-            ruleArray[i] = bytes;
+            if (mapped != null) {
+                int length = dis.readShort();
+                ruleOffsets[i] = mapped.position();
+                mapped.position(mapped.position() + length);
+            } else {
+                byte[] bytes = new byte[dis.readShort()];
+                dis.readFully(bytes);
+                ruleArray[i] = bytes;
+            }
         }
         AtomicReferenceArray<Object> ruleData = new AtomicReferenceArray<Object>(ruleArray);
         // link version-region-rules
@@ -271,11 +343,99 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
                 versionRegionArray[j] = regionArray[dis.readShort()];
                 versionRulesArray[j] = dis.readShort();
             }
-            versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
+            versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, null, ruleData, mapped, ruleOffsets));
+        }
+        return versionSet;
+    }
+
+    /**
+     * Loads the remainder of an indexed format 2 data stream.
+     * <p>
+     * The header contains a hash table of region IDs, a table of rules for
+     * each version indexed by region, and the offset of each rule.
+     * The rules themselves follow as a single block that is held in one buffer,
+     * with each rule only deserialized when first requested.
+     *
+     * @param dis  the stream to load, positioned after the regions, not null
+     * @param mapped  the buffer that the stream reads from, null if not mapped
+     * @param versionArray  the version IDs, not null
+     * @param regionArray  the region IDs, sorted, not null
+     * @throws Exception if an error occurs
+     */
+    private Iterable<Version> loadIndexedData(
+            DataInputStream dis, ByteBuffer mapped, String[] versionArray, String[] regionArray) throws IOException, StreamCorruptedException {
+        // region hash table
+        int tableSize = dis.readInt();
+        if (tableSize <= 0 || (tableSize & (tableSize - 1)) != 0 || tableSize <= regionArray.length) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        short[] regionTable = new short[tableSize];
+        for (int i = 0; i < tableSize; i++) {
+            regionTable[i] = dis.readShort();
+        }
+        // rules of each version by region index, negative if absent
+        short[][] versionRules = new short[versionArray.length][regionArray.length];
+        for (int i = 0; i < versionArray.length; i++) {
+            for (int j = 0; j < regionArray.length; j++) {
+                versionRules[i][j] = dis.readShort();
+            }
+        }
+        // rule offsets
+        int ruleCount = dis.readShort();
+        int[] ruleOffsets = new int[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            ruleOffsets[i] = dis.readInt();
+        }
+        // rules block
+        int length = dis.readInt();
+        ByteBuffer ruleBuffer;
+        if (mapped != null) {
+            ruleBuffer = mapped.slice();
+            mapped.position(mapped.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            dis.readFully(bytes);
+            ruleBuffer = ByteBuffer.wrap(bytes);
+        }
+        AtomicReferenceArray<Object> ruleData = new AtomicReferenceArray<Object>(ruleCount);
+        Set<Version> versionSet = new HashSet<Version>(versionArray.length);
+        for (int i = 0; i < versionArray.length; i++) {
+            versionSet.add(new Version(versionArray[i], regionArray, versionRules[i], regionTable, ruleData, ruleBuffer, ruleOffsets));
         }
         return versionSet;
     }
 
+    /**
+     * Maps the file into memory.
+     *
+     * @param file  the file to map, not null
+     * @return the read-only buffer, not null
+     * @throws IOException if an IO error occurs
+     */
+    private static ByteBuffer map(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            // the mapping remains valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Checks the system property that enables memory-mapping.
+     *
+     * @return true if data files should be mapped
+     */
+    private static boolean mappedProperty() {
+        try {
+            return Boolean.getBoolean("org.threeten.bp.zone.tzdbMapped");
+        } catch (SecurityException ex) {
+            return false;
+        }
+    }
+
     @Override
     public String toString() {
         return "TZDB";
@@ -289,18 +449,25 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         private final String versionId;
         private final String[] regionArray;
         private final short[] ruleIndices;
+        private final short[] regionTable;
         private final AtomicReferenceArray<Object> ruleData;
+        private final ByteBuffer ruleBuffer;
+        private final int[] ruleOffsets;
 
-        Version(String versionId, String[] regionIds, short[] ruleIndices, AtomicReferenceArray<Object> ruleData) {
+        Version(String versionId, String[] regionIds, short[] ruleIndices, short[] regionTable,
+                AtomicReferenceArray<Object> ruleData, ByteBuffer ruleBuffer, int[] ruleOffsets) {
             this.ruleData = ruleData;
             this.versionId = versionId;
             this.regionArray = regionIds;
             this.ruleIndices = ruleIndices;
+            this.regionTable = regionTable;
+            this.ruleBuffer = ruleBuffer;
+            this.ruleOffsets = ruleOffsets;
         }
 
         ZoneRules getRules(String regionId) {
-            int regionIndex = Arrays.binarySearch(regionArray, regionId);
-            if (regionIndex < 0) {
+            int regionIndex = findRegion(regionId);
+            if (regionIndex < 0 || ruleIndices[regionIndex] < 0) {
                 return null;
             }
             try {
@@ -310,9 +477,29 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
             }
         }
 
+        private int findRegion(String regionId) {
+            if (regionTable == null) {
+                return Arrays.binarySearch(regionArray, regionId);
+            }
+            // open addressing with linear probing, the table is never full
+            int mask = regionTable.length - 1;
+            for (int i = regionId.hashCode() & mask; regionTable[i] >= 0; i = (i + 1) & mask) {
+                if (regionArray[regionTable[i]].equals(regionId)) {
+                    return regionTable[i];
+                }
+            }
+            return -1;
+        }
+
         ZoneRules createRule(short index) throws Exception {
             Object obj = ruleData.get(index);
-            if (obj instanceof byte[]) {
+            if (obj == null) {
+                // read from the buffer, using a private view as buffers are not thread-safe
+                ByteBuffer buffer = ruleBuffer.duplicate();
+                buffer.position(ruleOffsets[index]);
+                obj = Ser.read(new DataInputStream(new ByteBufferInputStream(buffer)));
+                ruleData.set(index, obj);
+            } else if (obj instanceof byte[]) {
                 byte[] bytes = (byte[]) obj;
                 DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
                 obj = Ser.read(dis);
@@ -327,4 +514,34 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Input stream reading from a byte buffer, advancing its position.
+     */
+    static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return (buffer.hasRemaining() ? buffer.get() & 0xFF : -1);
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (buffer.hasRemaining() == false) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, count);
+            return count;
+        }
+    }
+
 }
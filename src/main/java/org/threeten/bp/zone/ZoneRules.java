@@ -32,9 +32,13 @@
 package org.threeten.bp.zone;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
+import org.threeten.bp.CacheStatistics;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDateTime;
@@ -91,6 +95,72 @@ public abstract class ZoneRules {
                              standardOffsetTransitionList, transitionList, lastRules);
     }
 
+    /**
+     * Obtains an instance of {@code ZoneRules} from arrays of transitions.
+     * <p>
+     * This is the compact form of the rules, as used by generated providers.
+     * The transitions are expressed as epoch-seconds, in ascending order.
+     * The offsets are expressed as total seconds, with each array of offsets
+     * one longer than the matching array of transitions. The first offset applies
+     * before the first transition and each subsequent offset applies after the
+     * transition at the preceding index.
+     *
+     * @param standardTransitions  the epoch-seconds of changes to the standard offset, not null
+     * @param standardOffsets  the standard offsets in seconds, not null
+     * @param savingsTransitions  the epoch-seconds of changes to the wall offset, not null
+     * @param wallOffsets  the wall offsets in seconds, not null
+     * @param lastRules  the recurring last rules, size 15 or less, not null
+     * @return the zone rules, not null
+     * @throws IllegalArgumentException if the array lengths are inconsistent, if the transitions
+     *  are not in strictly ascending order, or if an offset is outside the range -18:00 to +18:00
+     */
+    public static ZoneRules ofTransitions(long[] standardTransitions,
+                                          int[] standardOffsets,
+                                          long[] savingsTransitions,
+                                          int[] wallOffsets,
+                                          ZoneOffsetTransitionRule[] lastRules) {
+        Jdk8Methods.requireNonNull(standardTransitions, "standardTransitions");
+        Jdk8Methods.requireNonNull(standardOffsets, "standardOffsets");
+        Jdk8Methods.requireNonNull(savingsTransitions, "savingsTransitions");
+        Jdk8Methods.requireNonNull(wallOffsets, "wallOffsets");
+        Jdk8Methods.requireNonNull(lastRules, "lastRules");
+        if (standardOffsets.length != standardTransitions.length + 1 || wallOffsets.length != savingsTransitions.length + 1) {
+            throw new IllegalArgumentException("Offset arrays must be one longer than transition arrays");
+        }
+        if (lastRules.length > 15) {
+            throw new IllegalArgumentException("Too many transition rules");
+        }
+        ZoneOffsetTransitionRule[] rules = lastRules.clone();
+        for (ZoneOffsetTransitionRule rule : rules) {
+            Jdk8Methods.requireNonNull(rule, "lastRules");
+        }
+        // the rules are queried by binary search, thus must be validated here
+        return new StandardZoneRules(toTransitions(standardTransitions), toOffsets(standardOffsets),
+                toTransitions(savingsTransitions), toOffsets(wallOffsets), rules);
+    }
+
+    private static long[] toTransitions(long[] epochSeconds) {
+        long[] transitions = epochSeconds.clone();
+        for (int i = 1; i < transitions.length; i++) {
+            if (transitions[i] <= transitions[i - 1]) {
+                throw new IllegalArgumentException("Transitions must be in strictly ascending order: " +
+                        transitions[i - 1] + " then " + transitions[i]);
+            }
+        }
+        return transitions;
+    }
+
+    private static ZoneOffset[] toOffsets(int[] totalSeconds) {
+        ZoneOffset[] offsets = new ZoneOffset[totalSeconds.length];
+        for (int i = 0; i < totalSeconds.length; i++) {
+            if (Math.abs(totalSeconds[i]) > 18 * 3600) {
+                throw new IllegalArgumentException("Offset must be in the range -18:00 to +18:00: " + totalSeconds[i]);
+            }
+            offsets[i] = ZoneOffset.ofTotalSeconds(totalSeconds[i]);
+        }
+        return offsets;
+    }
+
     /**
      * Obtains an instance of {@code ZoneRules} that always uses the same offset.
      * <p>
@@ -104,6 +174,21 @@ public abstract class ZoneRules {
         return new Fixed(offset);
     }
 
+    /**
+     * Gets the statistics of the cache of transitions generated from the last rules.
+     * <p>
+     * Rules loaded from the time-zone database generate the transitions for years after
+     * the last historic transition from the recurring transition rules. The transitions
+     * are cached by year, shared by all callers.
+     * This returns the counts of the lookups of such years, summed over all the rules.
+     * A miss is counted when the year is not yet cached, or is outside the cached range.
+     *
+     * @return the statistics of the cache, not null
+     */
+    public static CacheStatistics getTransitionCacheStatistics() {
+        return StandardZoneRules.getLastRulesCacheStatistics();
+    }
+
     /**
      * Restricted constructor.
      */
@@ -132,6 +217,87 @@ public abstract class ZoneRules {
      */
     public abstract ZoneOffset getOffset(Instant instant);
 
+    /**
+     * Gets the total offset in seconds applicable at the specified epoch-second in these rules.
+     * <p>
+     * This is equivalent to {@code getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds()}
+     * but avoids creating any objects, which is useful when converting large numbers
+     * of epoch-second values.
+     *
+     * @param epochSecond  the epoch-second to find the offset for
+     * @return the total offset in seconds
+     */
+    public int getOffsetTotalSeconds(long epochSecond) {
+        return getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    /**
+     * Gets the total offsets in seconds applicable at a range of epoch-seconds in these rules.
+     * <p>
+     * This is the bulk equivalent of {@link #getOffsetTotalSeconds(long)}.
+     * The offset for {@code epochSeconds[i]} is stored in {@code offsets[i]}
+     * for each index from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     * <p>
+     * Implementations are optimized for input that is sorted or nearly sorted,
+     * where consecutive values typically share the same offset.
+     * Unsorted input is processed correctly, but more slowly.
+     * As no state is shared between calls, large arrays may be processed
+     * in parallel by splitting them into ranges.
+     *
+     * @param epochSeconds  the epoch-seconds to find the offsets for, not null
+     * @param fromIndex  the first index to process, inclusive
+     * @param toIndex  the last index to process, exclusive
+     * @param offsets  the array to store the total offsets in seconds, not null
+     * @throws IndexOutOfBoundsException if the range is invalid for either array
+     */
+    public void getOffsetTotalSeconds(long[] epochSeconds, int fromIndex, int toIndex, int[] offsets) {
+        checkRange(epochSeconds, fromIndex, toIndex, offsets);
+        for (int i = fromIndex; i < toIndex; i++) {
+            offsets[i] = getOffsetTotalSeconds(epochSeconds[i]);
+        }
+    }
+
+    /**
+     * Gets the total offsets in seconds applicable at a range of epoch-millis in these rules.
+     * <p>
+     * This is the bulk equivalent of {@link #getOffsetTotalSeconds(long)} for
+     * milliseconds from the epoch of 1970-01-01T00:00:00Z.
+     * The offset for {@code epochMillis[i]} is stored in {@code offsets[i]}
+     * for each index from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     * <p>
+     * Implementations are optimized for input that is sorted or nearly sorted,
+     * see {@link #getOffsetTotalSeconds(long[], int, int, int[])}.
+     *
+     * @param epochMillis  the epoch-millis to find the offsets for, not null
+     * @param fromIndex  the first index to process, inclusive
+     * @param toIndex  the last index to process, exclusive
+     * @param offsets  the array to store the total offsets in seconds, not null
+     * @throws IndexOutOfBoundsException if the range is invalid for either array
+     */
+    public void getOffsetTotalSecondsOfEpochMilli(long[] epochMillis, int fromIndex, int toIndex, int[] offsets) {
+        checkRange(epochMillis, fromIndex, toIndex, offsets);
+        for (int i = fromIndex; i < toIndex; i++) {
+            offsets[i] = getOffsetTotalSeconds(Jdk8Methods.floorDiv(epochMillis[i], 1000));
+        }
+    }
+
+    /**
+     * Validates the range of a bulk operation.
+     *
+     * @param values  the input array, not null
+     * @param fromIndex  the first index to process, inclusive
+     * @param toIndex  the last index to process, exclusive
+     * @param offsets  the output array, not null
+     * @throws IndexOutOfBoundsException if the range is invalid for either array
+     */
+    static void checkRange(long[] values, int fromIndex, int toIndex, int[] offsets) {
+        Jdk8Methods.requireNonNull(values, "values");
+        Jdk8Methods.requireNonNull(offsets, "offsets");
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > values.length || toIndex > offsets.length) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex);
+        }
+    }
+
     /**
      * Gets a suitable offset for the specified local date-time in these rules.
      * <p>
@@ -257,6 +423,19 @@ public abstract class ZoneRules {
      */
     public abstract ZoneOffset getStandardOffset(Instant instant);
 
+    /**
+     * Gets the total standard offset in seconds for the specified epoch-second in this zone.
+     * <p>
+     * This is equivalent to {@code getStandardOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds()}
+     * but avoids creating any objects.
+     *
+     * @param epochSecond  the epoch-second to find the standard offset for
+     * @return the total standard offset in seconds
+     */
+    public int getStandardOffsetTotalSeconds(long epochSecond) {
+        return getStandardOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
     /**
      * Gets the amount of daylight savings in use for the specified instant in this zone.
      * <p>
@@ -291,6 +470,19 @@ public abstract class ZoneRules {
     //        return (getStandardOffset(instant).equals(getOffset(instant)) == false);
     //    }
 
+    /**
+     * Checks if the specified epoch-second is in daylight savings.
+     * <p>
+     * This is equivalent to {@code isDaylightSavings(Instant.ofEpochSecond(epochSecond))}
+     * but avoids creating any objects.
+     *
+     * @param epochSecond  the epoch-second to check
+     * @return true if the standard offset is different from the actual offset
+     */
+    public boolean isDaylightSavings(long epochSecond) {
+        return getStandardOffsetTotalSeconds(epochSecond) != getOffsetTotalSeconds(epochSecond);
+    }
+
     /**
      * Checks if the offset date-time is valid for these rules.
      * <p>
@@ -348,6 +540,29 @@ public abstract class ZoneRules {
      */
     public abstract List<ZoneOffsetTransition> getTransitions();
 
+    /**
+     * Gets an iterator over the transitions within a range of instants.
+     * <p>
+     * The iterator returns the transitions in order, covering both those that are
+     * fully defined and those generated from the transition rules.
+     * It returns each transition with an instant at or after {@code startInclusive}
+     * and before {@code endExclusive}.
+     * <p>
+     * The default implementation calls {@link #nextTransition(Instant)} for each step.
+     * Implementations may override this to retain the state of the iteration between steps,
+     * as the standard rules do.
+     * The iterator is not thread-safe and does not support removal.
+     *
+     * @param startInclusive  the start of the range, inclusive, not null
+     * @param endExclusive  the end of the range, exclusive, not null
+     * @return the iterator over the transitions in the range, not null
+     */
+    public Iterator<ZoneOffsetTransition> transitionIterator(Instant startInclusive, Instant endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        return new NextTransitionIterator(this, startInclusive, endExclusive);
+    }
+
     /**
      * Gets the list of transition rules for years beyond those defined in the transition list.
      * <p>
@@ -395,6 +610,58 @@ public abstract class ZoneRules {
     @Override
     public abstract int hashCode();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over transitions that queries the next transition at each step.
+     */
+    private static final class NextTransitionIterator implements Iterator<ZoneOffsetTransition> {
+        /** The rules. */
+        private final ZoneRules rules;
+        /** The end of the range, exclusive. */
+        private final Instant end;
+        /** The next transition, null if none. */
+        private ZoneOffsetTransition next;
+
+        /**
+         * Constructor.
+         *
+         * @param rules  the rules, not null
+         * @param startInclusive  the start of the range, inclusive, not null
+         * @param endExclusive  the end of the range, exclusive, not null
+         */
+        NextTransitionIterator(ZoneRules rules, Instant startInclusive, Instant endExclusive) {
+            this.rules = rules;
+            this.end = endExclusive;
+            // the next transition is strictly after the instant, so step back to include the start
+            Instant before = (startInclusive.equals(Instant.MIN) ? startInclusive : startInclusive.minusNanos(1));
+            this.next = filter(rules.nextTransition(before));
+        }
+
+        private ZoneOffsetTransition filter(ZoneOffsetTransition trans) {
+            return (trans != null && trans.getInstant().isBefore(end) ? trans : null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public ZoneOffsetTransition next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            ZoneOffsetTransition trans = next;
+            next = filter(rules.nextTransition(trans.getInstant()));
+            return trans;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fixed time-zone.
@@ -425,6 +692,23 @@ public abstract class ZoneRules {
             return offset;
         }
 
+        @Override
+        public int getOffsetTotalSeconds(long epochSecond) {
+            return offset.getTotalSeconds();
+        }
+
+        @Override
+        public void getOffsetTotalSeconds(long[] epochSeconds, int fromIndex, int toIndex, int[] offsets) {
+            checkRange(epochSeconds, fromIndex, toIndex, offsets);
+            Arrays.fill(offsets, fromIndex, toIndex, offset.getTotalSeconds());
+        }
+
+        @Override
+        public void getOffsetTotalSecondsOfEpochMilli(long[] epochMillis, int fromIndex, int toIndex, int[] offsets) {
+            checkRange(epochMillis, fromIndex, toIndex, offsets);
+            Arrays.fill(offsets, fromIndex, toIndex, offset.getTotalSeconds());
+        }
+
         @Override
         public ZoneOffset getOffset(LocalDateTime localDateTime) {
             return offset;
@@ -432,7 +716,7 @@ public abstract class ZoneRules {
 
         @Override
         public List<ZoneOffset> getValidOffsets(LocalDateTime localDateTime) {
-            return Collections.singletonList(offset);
+            return StandardZoneRules.validOffsets(offset);
         }
 
         @Override
@@ -451,6 +735,11 @@ public abstract class ZoneRules {
             return offset;
         }
 
+        @Override
+        public int getStandardOffsetTotalSeconds(long epochSecond) {
+            return offset.getTotalSeconds();
+        }
+
         @Override
         public Duration getDaylightSavings(Instant instant) {
             return Duration.ZERO;
@@ -461,6 +750,11 @@ public abstract class ZoneRules {
             return false;
         }
 
+        @Override
+        public boolean isDaylightSavings(long epochSecond) {
+            return false;
+        }
+
         //-------------------------------------------------------------------------
         @Override
         public ZoneOffsetTransition nextTransition(Instant instant) {
@@ -477,6 +771,13 @@ public abstract class ZoneRules {
             return Collections.emptyList();
         }
 
+        @Override
+        public Iterator<ZoneOffsetTransition> transitionIterator(Instant startInclusive, Instant endExclusive) {
+            Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+            Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+            return Collections.<ZoneOffsetTransition>emptyList().iterator();
+        }
+
         @Override
         public List<ZoneOffsetTransitionRule> getTransitionRules() {
             return Collections.emptyList();
@@ -31,6 +31,7 @@
  */
 package org.threeten.bp.zone;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.NavigableMap;
 import java.util.ServiceConfigurationError;
@@ -80,6 +81,10 @@ public abstract class ZoneRulesProvider {
      * The lookup from zone region ID to provider.
      */
     private static final ConcurrentMap<String, ZoneRulesProvider> ZONES = new ConcurrentHashMap<String, ZoneRulesProvider>(512, 0.75f, 2);
+    /**
+     * The unmodifiable snapshot of zone region IDs, replaced on registration or refresh.
+     */
+    private static volatile Set<String> zoneIdsSnapshot = Collections.emptySet();
     static {
         ServiceLoader<ZoneRulesProvider> loader = ServiceLoader.load(ZoneRulesProvider.class, ZoneRulesProvider.class.getClassLoader());
         for (ZoneRulesProvider provider : loader) {
@@ -105,6 +110,26 @@ public abstract class ZoneRulesProvider {
         return new HashSet<String>(ZONES.keySet());
     }
 
+    /**
+     * Gets an unmodifiable snapshot of the set of available zone IDs.
+     * <p>
+     * The same set instance is returned until a provider is registered or a refresh
+     * updates the rules. Callers may therefore cache data derived from the zone IDs,
+     * such as a parsing structure, for as long as the returned set is the same instance.
+     *
+     * @return an unmodifiable snapshot of the set of zone IDs, not null
+     */
+    public static Set<String> getAvailableZoneIdsSnapshot() {
+        return zoneIdsSnapshot;
+    }
+
+    /**
+     * Replaces the snapshot of zone IDs.
+     */
+    private static synchronized void updateSnapshot() {
+        zoneIdsSnapshot = Collections.unmodifiableSet(new HashSet<String>(ZONES.keySet()));
+    }
+
     /**
      * Gets the rules for the zone ID.
      * <p>
@@ -209,14 +234,18 @@ public abstract class ZoneRulesProvider {
      * @throws ZoneRulesException if unable to complete the registration
      */
     private static void registerProvider0(ZoneRulesProvider provider) {
-        for (String zoneId : provider.provideZoneIds()) {
-            Jdk8Methods.requireNonNull(zoneId, "zoneId");
-            ZoneRulesProvider old = ZONES.putIfAbsent(zoneId, provider);
-            if (old != null) {
-                throw new ZoneRulesException(
-                    "Unable to register zone as one already registered with that ID: " + zoneId +
-                    ", currently loading from provider: " + provider);
+        try {
+            for (String zoneId : provider.provideZoneIds()) {
+                Jdk8Methods.requireNonNull(zoneId, "zoneId");
+                ZoneRulesProvider old = ZONES.putIfAbsent(zoneId, provider);
+                if (old != null) {
+                    throw new ZoneRulesException(
+                        "Unable to register zone as one already registered with that ID: " + zoneId +
+                        ", currently loading from provider: " + provider);
+                }
             }
+        } finally {
+            updateSnapshot();
         }
     }
 
@@ -240,6 +269,9 @@ public abstract class ZoneRulesProvider {
         for (ZoneRulesProvider provider : PROVIDERS) {
             changed |= provider.provideRefresh();
         }
+        if (changed) {
+            updateSnapshot();
+        }
         return changed;
     }
 
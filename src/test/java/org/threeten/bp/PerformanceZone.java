@@ -66,6 +66,8 @@ public class PerformanceZone {
             jsrInstantGetOffset();
             jsrRulesLocalGetOffset();
             jsrRulesInstantGetOffset();
+            jsrRulesEpochSecondGetOffset();
+            jsrRulesBulkGetOffset();
             jdkLocalGetOffset();
             jdkInstantGetOffset();
             System.out.println();
@@ -124,6 +126,39 @@ public class PerformanceZone {
         System.out.println("JSR-InR: Setup:  " + NF.format(end - start) + " ns" + list[0]);
     }
 
+    //-----------------------------------------------------------------------
+    private static void jsrRulesEpochSecondGetOffset() {
+        long[] epochSecs = sortedEpochSeconds();
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        int[] list = new int[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list[i] = tz.getOffset(Instant.ofEpochSecond(epochSecs[i])).getTotalSeconds();
+        }
+        long end = System.nanoTime();
+        System.out.println("JSR-EpR: Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void jsrRulesBulkGetOffset() {
+        long[] epochSecs = sortedEpochSeconds();
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        int[] list = new int[SIZE];
+        long start = System.nanoTime();
+        tz.getOffsetTotalSeconds(epochSecs, 0, SIZE, list);
+        long end = System.nanoTime();
+        System.out.println("JSR-BuR: Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
+    private static long[] sortedEpochSeconds() {
+        long base = LocalDateTime.of(YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long[] epochSecs = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochSecs[i] = base + i * 157L;
+        }
+        return epochSecs;
+    }
+
     //-----------------------------------------------------------------------
     private static void jdkLocalGetOffset() {
         java.util.TimeZone tz = java.util.TimeZone.getTimeZone("Europe/London");
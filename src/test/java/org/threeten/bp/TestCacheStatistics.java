@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test CacheStatistics.
+ */
+@Test
+public class TestCacheStatistics {
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        CacheStatistics test = CacheStatistics.of(3, 1, 2);
+        assertEquals(test.getHitCount(), 3);
+        assertEquals(test.getMissCount(), 1);
+        assertEquals(test.getEvictionCount(), 2);
+        assertEquals(test.getRequestCount(), 4);
+        assertEquals(test.getHitRate(), 0.75d, 0.0d);
+    }
+
+    public void test_hitRate_noRequests() {
+        assertEquals(CacheStatistics.of(0, 0, 0).getHitRate(), 1.0d, 0.0d);
+        assertEquals(CacheStatistics.of(0, 5, 0).getHitRate(), 0.0d, 0.0d);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_negativeHits() {
+        CacheStatistics.of(-1, 0, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_negativeMisses() {
+        CacheStatistics.of(0, -1, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_negativeEvictions() {
+        CacheStatistics.of(0, 0, -1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals_hashCode() {
+        CacheStatistics a = CacheStatistics.of(3, 1, 2);
+        CacheStatistics b = CacheStatistics.of(3, 1, 2);
+        assertTrue(a.equals(a));
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(CacheStatistics.of(4, 1, 2)));
+        assertFalse(a.equals(CacheStatistics.of(3, 2, 2)));
+        assertFalse(a.equals(CacheStatistics.of(3, 1, 3)));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    public void test_toString() {
+        assertEquals(CacheStatistics.of(3, 1, 2).toString(), "CacheStatistics[hits=3,misses=1,evictions=2]");
+    }
+
+}
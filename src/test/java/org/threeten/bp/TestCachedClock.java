@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test CachedClock.
+ */
+@Test
+public class TestCachedClock {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final Instant INSTANT = Instant.parse("2012-06-30T11:30:05.123Z");
+    private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+    /**
+     * Clock whose instant can be changed, or made to fail.
+     */
+    static class MutableClock extends Clock {
+        volatile Instant instant = INSTANT;
+        volatile boolean fail;
+        final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public ZoneId getZone() {
+            return PARIS;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+        @Override
+        public Instant instant() {
+            reads.incrementAndGet();
+            if (fail) {
+                throw new DateTimeException("Failed");
+            }
+            return instant;
+        }
+    }
+
+    private static void awaitInstant(Clock clock, Instant expected) throws InterruptedException {
+        for (int i = 0; i < 500 && clock.instant().equals(expected) == false; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_start() {
+        MutableClock base = new MutableClock();
+        CachedClock test = CachedClock.start(base, LONG_INTERVAL);
+        try {
+            assertEquals(test.isRunning(), true);
+            assertEquals(test.getZone(), PARIS);
+            assertEquals(test.getInterval(), LONG_INTERVAL);
+            assertEquals(test.instant(), INSTANT);
+            assertEquals(test.millis(), INSTANT.toEpochMilli());
+        } finally {
+            test.stop();
+        }
+    }
+
+    public void test_instant_cachedBetweenTicks() throws InterruptedException {
+        MutableClock base = new MutableClock();
+        CachedClock test = CachedClock.start(base, LONG_INTERVAL);
+        try {
+            assertEquals(base.reads.get(), 1);
+            base.instant = INSTANT.plusSeconds(1);
+            // give the ticker thread the chance to run, which must wait for the interval
+            Thread.sleep(50);
+            assertSame(test.instant(), test.instant());
+            assertEquals(test.instant(), INSTANT);
+            assertEquals(base.reads.get(), 1);
+        } finally {
+            test.stop();
+        }
+    }
+
+    public void test_instant_refreshed() throws InterruptedException {
+        MutableClock base = new MutableClock();
+        CachedClock test = CachedClock.start(base, Duration.ofMillis(1));
+        try {
+            Instant later = INSTANT.plusSeconds(1);
+            base.instant = later;
+            awaitInstant(test, later);
+            assertEquals(test.instant(), later);
+            assertEquals(test.millis(), later.toEpochMilli());
+        } finally {
+            test.stop();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_zonedDateTime() {
+        CachedClock test = CachedClock.start(new MutableClock(), LONG_INTERVAL);
+        try {
+            ZonedDateTime expected = ZonedDateTime.ofInstant(INSTANT, PARIS);
+            assertEquals(test.zonedDateTime(), expected);
+            assertSame(test.zonedDateTime(), test.zonedDateTime());
+            assertEquals(test.localDateTime(), expected.toLocalDateTime());
+            assertSame(ZonedDateTime.now(test), test.zonedDateTime());
+            assertEquals(LocalDateTime.now(test), expected.toLocalDateTime());
+            assertEquals(OffsetDateTime.now(test), expected.toOffsetDateTime());
+        } finally {
+            test.stop();
+        }
+    }
+
+    public void test_withZone() {
+        CachedClock test = CachedClock.start(new MutableClock(), LONG_INTERVAL);
+        try {
+            CachedClock moscow = test.withZone(MOSCOW);
+            assertSame(test.withZone(PARIS), test);
+            assertEquals(moscow.getZone(), MOSCOW);
+            assertSame(moscow.instant(), test.instant());
+            assertEquals(moscow.zonedDateTime(), ZonedDateTime.ofInstant(INSTANT, MOSCOW));
+            moscow.stop();
+            assertEquals(test.isRunning(), false);
+        } finally {
+            test.stop();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_stop_fallsBack() {
+        MutableClock base = new MutableClock();
+        CachedClock test = CachedClock.start(base, LONG_INTERVAL);
+        test.stop();
+        assertEquals(test.isRunning(), false);
+        Instant later = INSTANT.plusSeconds(1);
+        base.instant = later;
+        assertEquals(test.instant(), later);
+        assertEquals(test.millis(), later.toEpochMilli());
+        assertEquals(test.zonedDateTime(), ZonedDateTime.ofInstant(later, PARIS));
+        test.stop();
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_tickerFailure_fallsBack() throws InterruptedException {
+        MutableClock base = new MutableClock();
+        CachedClock test = CachedClock.start(base, Duration.ofMillis(1));
+        try {
+            base.fail = true;
+            for (int i = 0; i < 500 && test.isRunning(); i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(test.isRunning(), false);
+            test.instant();
+        } finally {
+            test.stop();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_start_zeroInterval() {
+        CachedClock.start(new MutableClock(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_start_negativeInterval() {
+        CachedClock.start(new MutableClock(), Duration.ofMillis(-1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_start_nullClock() {
+        CachedClock.start(null, LONG_INTERVAL);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_start_nullInterval() {
+        CachedClock.start(new MutableClock(), null);
+    }
+
+    public void test_toString() {
+        CachedClock test = CachedClock.start(Clock.system(PARIS), LONG_INTERVAL);
+        test.stop();
+        assertEquals(test.toString(), "CachedClock[SystemClock[Europe/Paris],PT1H,Europe/Paris]");
+    }
+
+}
@@ -33,6 +33,7 @@ package org.threeten.bp;
 
 import static org.testng.Assert.assertEquals;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -74,6 +75,30 @@ public class TestClock {
         }
     }
 
+    /**
+     * Clock that can be moved, reusing the same instance.
+     */
+    static class MovableClock extends Clock {
+        Instant instant;
+        final ZoneId zone;
+        MovableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId timeZone) {
+            return new MovableClock(instant, timeZone);
+        }
+    }
+
     private static final Instant INSTANT = Instant.ofEpochSecond(1873687, 357000000);
     private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
     private static final Clock MOCK_INSTANT = new MockInstantClock(INSTANT.toEpochMilli(), ZONE);
@@ -95,4 +120,45 @@ public class TestClock {
         assertEquals(changed.getZone(), london);
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "walk")
+    Object[][] data_walk() {
+        return new Object[][] {
+            // across midnight and the spring gap
+            {ZONE, Instant.parse("2012-03-24T21:59:58Z"), 611},
+            // across the autumn overlap
+            {ZONE, Instant.parse("2012-10-27T23:58:58.5Z"), 613},
+            {ZoneId.of("America/St_Johns"), Instant.parse("2012-11-04T02:29:59Z"), 307},
+            {ZoneOffset.ofHours(-5), Instant.parse("2012-06-30T04:58:59Z"), 89},
+            {ZoneOffset.UTC, Instant.parse("1969-12-31T23:59:59.999Z"), 1},
+        };
+    }
+
+    @Test(dataProvider = "walk")
+    public void test_now_cachedDay(ZoneId zone, Instant start, int step) {
+        MovableClock clock = new MovableClock(start, zone);
+        for (int i = 0; i < 2000; i++) {
+            Instant instant = start.plusSeconds(i * (long) step);
+            clock.instant = instant;
+            ZonedDateTime expected = ZonedDateTime.ofInstant(instant, zone);
+            assertEquals(ZonedDateTime.now(clock), expected);
+            assertEquals(OffsetDateTime.now(clock), expected.toOffsetDateTime());
+            assertEquals(OffsetTime.now(clock), expected.toOffsetDateTime().toOffsetTime());
+            assertEquals(LocalDateTime.now(clock), expected.toLocalDateTime());
+            assertEquals(LocalDate.now(clock), expected.toLocalDate());
+            assertEquals(LocalTime.now(clock), expected.toLocalTime());
+        }
+    }
+
+    @Test
+    public void test_now_cachedDay_backwards() {
+        MovableClock clock = new MovableClock(Instant.parse("2012-10-28T01:30:00Z"), ZONE);
+        assertEquals(LocalDateTime.now(clock), LocalDateTime.of(2012, 10, 28, 2, 30));
+        clock.instant = Instant.parse("2012-10-28T00:30:00Z");
+        assertEquals(LocalDateTime.now(clock), LocalDateTime.of(2012, 10, 28, 2, 30));
+        assertEquals(ZonedDateTime.now(clock).getOffset(), ZoneOffset.ofHours(2));
+        clock.instant = Instant.parse("2012-10-27T21:59:59Z");
+        assertEquals(LocalDateTime.now(clock), LocalDateTime.of(2012, 10, 27, 23, 59, 59));
+    }
+
 }
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test precise system clock.
+ */
+@Test
+public class TestClock_Precise extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final long WALL = 1340000000000L;
+
+    /**
+     * Source with a controlled timer and wall clock.
+     */
+    static class MockSource extends Clock.PreciseSource {
+        long nanoTime;
+        long wallMillis;
+
+        MockSource() {
+            super(0, WALL);
+            wallMillis = WALL;
+        }
+        @Override
+        long nanoTime() {
+            return nanoTime;
+        }
+        @Override
+        long currentTimeMillis() {
+            return wallMillis;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        assertSerializable(Clock.systemPrecise(PARIS));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        assertEquals(precise.getZone(), ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = precise.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_millis() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long instant = precise.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_instant_subMillisecond() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            if (precise.instant().getNano() % 1000000 != 0) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_source_elapsed() {
+        MockSource source = new MockSource();
+        assertEquals(source.instant(), Instant.ofEpochMilli(WALL));
+        source.nanoTime = 123456;
+        assertEquals(source.instant(), Instant.ofEpochMilli(WALL).plusNanos(123456));
+        assertEquals(source.millis(), WALL);
+        source.nanoTime = 2500000;
+        assertEquals(source.millis(), WALL + 2);
+    }
+
+    public void test_source_behind_stepsForward() {
+        MockSource source = new MockSource();
+        source.nanoTime = Clock.PreciseSource.RESYNC_NANOS;
+        source.wallMillis = WALL + 1005;
+        assertEquals(source.instant(), Instant.ofEpochMilli(WALL + 1005));
+        source.nanoTime += 10;
+        assertEquals(source.instant(), Instant.ofEpochMilli(WALL + 1005).plusNanos(10));
+    }
+
+    public void test_source_withinPrecision_unchanged() {
+        MockSource source = new MockSource();
+        source.nanoTime = Clock.PreciseSource.RESYNC_NANOS + 500000;
+        source.wallMillis = WALL + 1000;
+        assertEquals(source.instant(), Instant.ofEpochMilli(WALL + 1000).plusNanos(500000));
+    }
+
+    public void test_source_ahead_slowsDown() {
+        MockSource source = new MockSource();
+        // timer runs 11ms fast over one second
+        source.nanoTime = Clock.PreciseSource.RESYNC_NANOS + 11000000;
+        source.wallMillis = WALL + 1000;
+        Instant resync = source.instant();
+        assertEquals(resync, Instant.ofEpochMilli(WALL + 1011));
+        // the debt beyond the millisecond precision is repaid at one sixteenth of the elapsed time
+        source.nanoTime += 16000000;
+        assertEquals(source.instant(), resync.plusNanos(15000000));
+        source.nanoTime += 320000000;
+        assertEquals(source.instant(), resync.plusNanos(336000000 - 10000001));
+    }
+
+    public void test_source_wallSetBackwards_neverBackwards() {
+        MockSource source = new MockSource();
+        source.nanoTime = 500;
+        Instant before = source.instant();
+        source.nanoTime = Clock.PreciseSource.RESYNC_NANOS;
+        source.wallMillis = WALL - 3600000;
+        Instant previous = before;
+        for (int i = 0; i < 100; i++) {
+            source.nanoTime += 100000;
+            Instant instant = source.instant();
+            assertTrue(instant.compareTo(previous) > 0);
+            previous = instant;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_monotonic_concurrent() throws Exception {
+        final Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        final AtomicReference<Instant> published = new AtomicReference<Instant>(precise.instant());
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                    Instant previous = Instant.MIN;
+                    for (int i = 0; i < 200000 && failure.get() == null; i++) {
+                        // any instant published by another thread happened-before this call
+                        Instant seen = published.get();
+                        Instant instant = precise.instant();
+                        if (instant.isBefore(previous) || instant.isBefore(seen)) {
+                            failure.set(instant + " after " + previous + " and " + seen);
+                        }
+                        previous = instant;
+                        published.set(instant);
+                    }
+                }
+            };
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(failure.get(), null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_systemPrecise_ZoneId() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertEquals(test.getZone(), PARIS);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_systemPrecise_nullZoneId() {
+        Clock.systemPrecise(null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        Clock test = Clock.systemPrecise(PARIS);
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertEquals(changed, Clock.systemPrecise(MOSCOW));
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.systemPrecise(PARIS);
+        Clock changed = test.withZone(PARIS);
+        assertSame(test, changed);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.systemPrecise(PARIS).withZone(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        Clock a = Clock.systemPrecise(PARIS);
+        Clock b = Clock.systemPrecise(PARIS);
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(b.equals(a), true);
+
+        assertEquals(a.equals(Clock.systemPrecise(MOSCOW)), false);
+        assertEquals(a.equals(Clock.system(PARIS)), false);
+        assertEquals(Clock.system(PARIS).equals(a), false);
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals("other type"), false);
+    }
+
+    public void test_hashCode() {
+        Clock a = Clock.systemPrecise(PARIS);
+        Clock b = Clock.systemPrecise(PARIS);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.hashCode() == Clock.system(PARIS).hashCode(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertEquals(test.toString(), "PreciseClock[Europe/Paris]");
+    }
+
+}
@@ -36,6 +36,7 @@ import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 import java.io.IOException;
+import java.util.TimeZone;
 
 import org.testng.annotations.Test;
 
@@ -97,6 +98,28 @@ public class TestClock_System extends AbstractTest {
         assertEquals(test, Clock.system(ZoneId.systemDefault()));
     }
 
+    public void test_systemUTC_sameInstance() {
+        assertSame(Clock.systemUTC(), Clock.systemUTC());
+    }
+
+    public void test_systemDefaultZone_sameInstance() {
+        assertSame(Clock.systemDefaultZone(), Clock.systemDefaultZone());
+    }
+
+    public void test_systemDefaultZone_defaultChanged() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            Clock paris = Clock.systemDefaultZone();
+            assertEquals(paris.getZone(), PARIS);
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Moscow"));
+            assertEquals(Clock.systemDefaultZone().getZone(), MOSCOW);
+        } finally {
+            TimeZone.setDefault(original);
+        }
+        assertEquals(Clock.systemDefaultZone().getZone(), ZoneId.systemDefault());
+    }
+
     public void test_system_ZoneId() {
         Clock test = Clock.system(PARIS);
         assertEquals(test.getZone(), PARIS);
@@ -341,6 +341,16 @@ public class TestInstant extends AbstractDateTimeTest {
         Instant.parse(null);
     }
 
+    @Test(dataProvider="Parse")
+    public void factory_tryParse(String text, long expectedEpochSeconds, int expectedNanoOfSecond) {
+        assertEquals(Instant.tryParse(text), Instant.ofEpochSecond(expectedEpochSeconds, expectedNanoOfSecond));
+    }
+
+    @Test(dataProvider="ParseFailures")
+    public void factory_tryParseFailures(String text) {
+        assertEquals(Instant.tryParse(text), null);
+    }
+
     //-----------------------------------------------------------------------
     // get(TemporalField)
     //-----------------------------------------------------------------------
@@ -569,6 +569,36 @@ public class TestLocalDate extends AbstractDateTimeTest {
         LocalDate.parse("ANY", null);
     }
 
+    //-----------------------------------------------------------------------
+    // tryParse()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="sampleToString")
+    public void factory_tryParse_validText(int y, int m, int d, String parsable) {
+        assertEquals(LocalDate.tryParse(parsable), LocalDate.of(y, m, d));
+    }
+
+    @Test(dataProvider="sampleBadParse")
+    public void factory_tryParse_invalidText(String unparsable) {
+        assertEquals(LocalDate.tryParse(unparsable), null);
+    }
+
+    @Test
+    public void factory_tryParse_invalidValue() {
+        assertEquals(LocalDate.tryParse("2008-06-31"), null);
+    }
+
+    @Test
+    public void factory_tryParse_formatter() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("u M d");
+        assertEquals(LocalDate.tryParse("2010 12 3", f), LocalDate.of(2010, 12, 3));
+        assertEquals(LocalDate.tryParse("2010 12 X", f), null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void factory_tryParse_nullText() {
+        LocalDate.tryParse((String) null);
+    }
+
     //-----------------------------------------------------------------------
     // get(TemporalField)
     //-----------------------------------------------------------------------
@@ -2026,4 +2056,96 @@ public class TestLocalDate extends AbstractDateTimeTest {
         LocalDate.of(2010, 12, 3).format(null);
     }
 
+    //-----------------------------------------------------------------------
+    // CanonicalDates
+    //-----------------------------------------------------------------------
+    @DataProvider(name="canonicalWindows")
+    Object[][] data_canonicalWindows() {
+        return new Object[][] {
+            {LocalDate.of(2012, 6, 15), 800},
+            {LocalDate.of(2011, 12, 31), 62},
+            {LocalDate.of(2012, 2, 1), 29},
+            {LocalDate.of(1969, 12, 1), 3000},
+            {LocalDate.of(-1, 2, 28), 400},
+            {LocalDate.of(Year.MAX_VALUE, 12, 1), 31},
+            {LocalDate.MIN, 40},
+        };
+    }
+
+    @Test(dataProvider="canonicalWindows")
+    public void test_canonicalDates_window(LocalDate first, int length) {
+        LocalDate.CanonicalDates test = new LocalDate.CanonicalDates(first.toEpochDay(), length);
+        assertEquals(test.size(), length);
+        assertEquals(test.get(first.toEpochDay() - 1), null);
+        assertEquals(test.get(first.toEpochDay() + length), null);
+        LocalDate last = first.plusDays(length - 1);
+        for (LocalDate date = first.withDayOfMonth(1); date.isAfter(last.withDayOfMonth(last.lengthOfMonth())) == false; ) {
+            boolean inWindow = date.isBefore(first) == false && date.isAfter(last) == false;
+            LocalDate byEpochDay = test.get(date.toEpochDay());
+            LocalDate byFields = test.get(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            if (inWindow) {
+                assertEquals(byEpochDay, date);
+                assertSame(byFields, byEpochDay);
+            } else {
+                assertEquals(byEpochDay, null);
+                assertEquals(byFields, null);
+            }
+            if (date.getDayOfMonth() == date.lengthOfMonth()) {
+                for (int day = date.getDayOfMonth() + 1; day <= 31; day++) {
+                    assertEquals(test.get(date.getYear(), date.getMonthValue(), day), null);
+                }
+            }
+            if (date.equals(LocalDate.MAX)) {
+                break;
+            }
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    public void test_canonicalDates_monthsBeforeWindowStart() {
+        LocalDate first = LocalDate.of(2005, 10, 1);
+        LocalDate.CanonicalDates test = new LocalDate.CanonicalDates(first.toEpochDay(), 800);
+        for (int month = 1; month < 10; month++) {
+            for (int day = 1; day <= 31; day++) {
+                assertEquals(test.get(2005, month, day), null);
+            }
+        }
+        assertEquals(test.get(2005, 10, 1), first);
+        assertEquals(test.get(2005, 10, 20), LocalDate.of(2005, 10, 20));
+    }
+
+    @Test
+    public void test_canonicalDates_outsideYears() {
+        LocalDate.CanonicalDates test = new LocalDate.CanonicalDates(LocalDate.of(2012, 1, 1).toEpochDay(), 366);
+        assertEquals(test.get(2012, 1, 1), LocalDate.of(2012, 1, 1));
+        assertEquals(test.get(2011, 12, 31), null);
+        assertEquals(test.get(2013, 1, 1), null);
+        assertEquals(test.get(Year.MIN_VALUE, 1, 1), null);
+        assertEquals(test.get(Year.MAX_VALUE, 1, 1), null);
+        // twelve times the year difference wraps an int
+        assertEquals(test.get(2012 + 357913942, 1, 1), null);
+    }
+
+    @Test
+    public void test_canonicalDates_empty() {
+        LocalDate.CanonicalDates test = new LocalDate.CanonicalDates(0, 0);
+        assertEquals(test.size(), 0);
+        assertEquals(test.get(0), null);
+        assertEquals(test.get(1970, 1, 1), null);
+    }
+
+    @Test
+    public void test_canonicalDates_shared() {
+        LocalDate.CanonicalDates shared = LocalDate.CanonicalDates.INSTANCE;
+        if (shared.size() > 0) {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            assertSame(LocalDate.ofEpochDay(today.toEpochDay()), shared.get(today.toEpochDay()));
+            assertSame(LocalDate.of(today.getYear(), today.getMonthValue(), today.getDayOfMonth()), shared.get(today.toEpochDay()));
+            assertSame(today.plusDays(1).minusDays(1), shared.get(today.toEpochDay()));
+        } else {
+            assertEquals(Integer.getInteger(LocalDate.CanonicalDates.PROPERTY, 0) <= 0, true);
+        }
+    }
+
 }
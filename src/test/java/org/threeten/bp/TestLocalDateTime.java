@@ -880,6 +880,28 @@ public class TestLocalDateTime extends AbstractDateTimeTest {
         LocalDateTime.parse("ANY", null);
     }
 
+    //-----------------------------------------------------------------------
+    // tryParse()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="sampleToString")
+    public void factory_tryParse(int y, int month, int d, int h, int m, int s, int n, String text) {
+        assertEquals(LocalDateTime.tryParse(text), LocalDateTime.of(y, month, d, h, m, s, n));
+    }
+
+    @Test
+    public void factory_tryParse_invalid() {
+        assertEquals(LocalDateTime.tryParse("2008-06-32T11:15"), null);
+        assertEquals(LocalDateTime.tryParse("2008-06-31T11:15"), null);
+        assertEquals(LocalDateTime.tryParse("2008-06-30T11:15X"), null);
+    }
+
+    @Test
+    public void factory_tryParse_formatter() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("u M d H m s");
+        assertEquals(LocalDateTime.tryParse("2010 12 3 11 30 45", f), LocalDateTime.of(2010, 12, 3, 11, 30, 45));
+        assertEquals(LocalDateTime.tryParse("2010 12 3 11 30", f), null);
+    }
+
     //-----------------------------------------------------------------------
     // get(DateTimeField)
     //-----------------------------------------------------------------------
@@ -576,6 +576,15 @@ public class TestLocalTime extends AbstractDateTimeTest {
         LocalTime.parse("ANY", null);
     }
 
+    //-----------------------------------------------------------------------
+    // tryParse()
+    //-----------------------------------------------------------------------
+    @Test
+    public void factory_tryParse() {
+        assertEquals(LocalTime.tryParse("11:30:45"), LocalTime.of(11, 30, 45));
+        assertEquals(LocalTime.tryParse("11:60"), null);
+    }
+
     //-----------------------------------------------------------------------
     // get(TemporalField)
     //-----------------------------------------------------------------------
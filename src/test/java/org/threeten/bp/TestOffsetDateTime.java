@@ -455,6 +455,15 @@ public class TestOffsetDateTime extends AbstractDateTimeTest {
         OffsetDateTime.parse("ANY", null);
     }
 
+    //-----------------------------------------------------------------------
+    // tryParse()
+    //-----------------------------------------------------------------------
+    @Test
+    public void factory_tryParse() {
+        assertEquals(OffsetDateTime.tryParse("2010-12-03T11:30+01:00"), OffsetDateTime.of(2010, 12, 3, 11, 30, 0, 0, ZoneOffset.ofHours(1)));
+        assertEquals(OffsetDateTime.tryParse("2010-12-03T11:30"), null);
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=NullPointerException.class)
     public void constructor_nullTime() throws Throwable  {
@@ -431,6 +431,15 @@ public class TestOffsetTime extends AbstractDateTimeTest {
         OffsetTime.parse("ANY", null);
     }
 
+    //-----------------------------------------------------------------------
+    // tryParse()
+    //-----------------------------------------------------------------------
+    @Test
+    public void factory_tryParse() {
+        assertEquals(OffsetTime.tryParse("11:30+01:00"), OffsetTime.of(11, 30, 0, 0, ZoneOffset.ofHours(1)));
+        assertEquals(OffsetTime.tryParse("11:30"), null);
+    }
+
     //-----------------------------------------------------------------------
     // constructor
     //-----------------------------------------------------------------------
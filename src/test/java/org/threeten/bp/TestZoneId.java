@@ -39,12 +39,16 @@ import static org.testng.Assert.assertTrue;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
+import java.util.TreeMap;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -53,6 +57,7 @@ import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.zone.ZoneOffsetTransition;
 import org.threeten.bp.zone.ZoneRules;
 import org.threeten.bp.zone.ZoneRulesException;
+import org.threeten.bp.zone.ZoneRulesProvider;
 
 /**
  * Test ZoneId.
@@ -385,6 +390,54 @@ public class TestZoneId extends AbstractTest {
         assertEquals(test.getRules().isFixedOffset(), false);
     }
 
+    public void test_of_string_London_cached() {
+        ZoneId test = ZoneId.of("Europe/London");
+        assertTrue(ZoneId.of("Europe/London") == test);
+        assertTrue(ZoneId.of("Europe/London").getRules() == test.getRules());
+    }
+
+    public void test_of_string_cached_refreshed() {
+        RefreshingProvider provider = new RefreshingProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        ZoneId test = ZoneId.of("Test/Refreshing");
+        assertEquals(test.getRules(), ZoneOffset.ofHours(1).getRules());
+        assertTrue(ZoneId.of("Test/Refreshing") == test);
+
+        provider.rules = ZoneOffset.ofHours(2).getRules();
+        provider.refreshed = true;
+        assertEquals(ZoneRulesProvider.refresh(), true);
+        assertEquals(ZoneId.of("Test/Refreshing").getRules(), ZoneOffset.ofHours(2).getRules());
+        assertTrue(ZoneId.of("Test/Refreshing") == ZoneId.of("Test/Refreshing"));
+    }
+
+    /**
+     * Provider whose rules change on refresh, while allowing them to be cached.
+     */
+    static class RefreshingProvider extends ZoneRulesProvider {
+        volatile ZoneRules rules = ZoneOffset.ofHours(1).getRules();
+        volatile boolean refreshed;
+        @Override
+        protected Set<String> provideZoneIds() {
+            return Collections.singleton("Test/Refreshing");
+        }
+        @Override
+        protected ZoneRules provideRules(String regionId, boolean forCaching) {
+            return rules;
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("1", rules);
+            return result;
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean result = refreshed;
+            refreshed = false;
+            return result;
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=NullPointerException.class)
     public void test_of_string_null() {
@@ -717,6 +717,15 @@ public class TestZonedDateTime extends AbstractDateTimeTest {
         ZonedDateTime.parse("ANY", null);
     }
 
+    //-----------------------------------------------------------------------
+    // tryParse()
+    //-----------------------------------------------------------------------
+    @Test
+    public void factory_tryParse() {
+        assertEquals(ZonedDateTime.tryParse("2010-12-03T11:30+01:00[Europe/Paris]"), ZonedDateTime.of(2010, 12, 3, 11, 30, 0, 0, ZoneId.of("Europe/Paris")));
+        assertEquals(ZonedDateTime.tryParse("2010-12-03T11:30+01:00[Nowhere/Unknown]"), null);
+    }
+
     //-----------------------------------------------------------------------
     // basics
     //-----------------------------------------------------------------------
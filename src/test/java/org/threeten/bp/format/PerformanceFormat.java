@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.nio.ByteBuffer;
+import java.text.NumberFormat;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneId;
+
+/**
+ * Test Performance of formatting and parsing.
+ */
+public class PerformanceFormat {
+
+    /** Number format. */
+    private static final NumberFormat NF = NumberFormat.getIntegerInstance();
+    static {
+        NF.setGroupingUsed(true);
+    }
+    /** Size. */
+    private static final int SIZE = 1000000;
+    /** The formatter. */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Main.
+     * @param args  the arguments
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        LocalDateTime[] dateTimes = setup();
+        for (int i = 0; i < 5; i++) {
+            formatString(dateTimes);
+            formatBytes(dateTimes);
+            parseString(dateTimes);
+            parseBytes(dateTimes);
+            for (ResolverStyle style : ResolverStyle.values()) {
+                parseResolve(dateTimes, style);
+            }
+            formatMonotonic(false);
+            formatMonotonic(true);
+            System.out.println();
+        }
+    }
+
+    private static LocalDateTime[] setup() {
+        LocalDateTime[] dateTimes = new LocalDateTime[1000];
+        LocalDateTime base = LocalDateTime.of(2012, 6, 30, 11, 30, 5, 123000000);
+        for (int i = 0; i < dateTimes.length; i++) {
+            dateTimes[i] = base.plusSeconds(i * 7919L);
+        }
+        return dateTimes;
+    }
+
+    //-----------------------------------------------------------------------
+    private static void formatString(LocalDateTime[] dateTimes) {
+        int total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += FORMATTER.format(dateTimes[i % dateTimes.length]).length();
+        }
+        long end = System.nanoTime();
+        System.out.println("Format:  String:     " + NF.format((end - start) / SIZE) + " ns " + total);
+    }
+
+    private static void formatBytes(LocalDateTime[] dateTimes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        int total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            buffer.clear();
+            total += FORMATTER.formatTo(dateTimes[i % dateTimes.length], buffer);
+        }
+        long end = System.nanoTime();
+        System.out.println("Format:  ByteBuffer: " + NF.format((end - start) / SIZE) + " ns " + total);
+    }
+
+    private static void formatMonotonic(boolean caching) {
+        // log timestamps, one millisecond apart
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSS").withZone(ZoneId.of("Europe/Paris"));
+        CachingDateTimeFormatter cachingFormatter = CachingDateTimeFormatter.of(formatter);
+        long base = Instant.parse("2012-06-30T11:30:05Z").toEpochMilli();
+        Instant[] instants = new Instant[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            instants[i] = Instant.ofEpochMilli(base + i);
+        }
+        int total = 0;
+        long start = System.nanoTime();
+        if (caching) {
+            for (int i = 0; i < SIZE; i++) {
+                total += cachingFormatter.format(instants[i]).length();
+            }
+        } else {
+            for (int i = 0; i < SIZE; i++) {
+                total += formatter.format(instants[i]).length();
+            }
+        }
+        long end = System.nanoTime();
+        System.out.println("Format:  Monotonic " + (caching ? "caching: " : "plain:   ") + NF.format((end - start) / SIZE) + " ns " + total);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void parseString(LocalDateTime[] dateTimes) throws Exception {
+        // includes decoding, as when reading from a network buffer
+        byte[][] bytes = toBytes(dateTimes);
+        int total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            byte[] b = bytes[i % bytes.length];
+            total += FORMATTER.parse(new String(b, 0, b.length, "US-ASCII"), LocalDateTime.FROM).getSecond();
+        }
+        long end = System.nanoTime();
+        System.out.println("Parse:   String:     " + NF.format((end - start) / SIZE) + " ns " + total);
+    }
+
+    private static void parseBytes(LocalDateTime[] dateTimes) throws Exception {
+        byte[][] bytes = toBytes(dateTimes);
+        int total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            byte[] b = bytes[i % bytes.length];
+            total += FORMATTER.parse(b, 0, b.length, LocalDateTime.FROM).getSecond();
+        }
+        long end = System.nanoTime();
+        System.out.println("Parse:   bytes:      " + NF.format((end - start) / SIZE) + " ns " + total);
+    }
+
+    private static void parseResolve(LocalDateTime[] dateTimes, ResolverStyle style) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm:ss").withResolverStyle(style);
+        String[] texts = new String[dateTimes.length];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = formatter.format(dateTimes[i]);
+        }
+        int total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += formatter.parse(texts[i % texts.length], LocalDateTime.FROM).getSecond();
+        }
+        long end = System.nanoTime();
+        String name = (style + ":    ").substring(0, 8);
+        System.out.println("Parse:   " + name + "    " + NF.format((end - start) / SIZE) + " ns " + total);
+    }
+
+    private static byte[][] toBytes(LocalDateTime[] dateTimes) throws Exception {
+        byte[][] bytes = new byte[dateTimes.length][];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = FORMATTER.format(dateTimes[i]).getBytes("US-ASCII");
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.temporal.TemporalAccessor;
+
+/**
+ * Test CachingDateTimeFormatter.
+ */
+@Test
+public class TestCachingDateTimeFormatter {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final ZoneOffset OFFSET_PONE = ZoneOffset.ofHours(1);
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "formatters")
+    Object[][] data_formatters() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME},
+            {DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSS")},
+            {DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss")},
+            {DateTimeFormatter.ofPattern("dd/MMM/uuuu:HH:mm:s", Locale.ENGLISH)},
+            {DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")},
+            {new DateTimeFormatterBuilder().appendPattern("HH:mm:ss").appendFraction(NANO_OF_SECOND, 2, 6, true).toFormatter()},
+            {DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSS").withDecimalStyle(DecimalStyle.STANDARD.withZeroDigit('A'))},
+        };
+    }
+
+    @Test(dataProvider = "formatters")
+    public void test_format_monotonicLocalDateTime(DateTimeFormatter formatter) {
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(formatter);
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 23, 58, 58, 999000000);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(test.format(ldt), formatter.format(ldt));
+            ldt = ldt.plusNanos(37000000L + i);
+        }
+    }
+
+    @Test(dataProvider = "formatters")
+    public void test_format_monotonicOffsetDateTime(DateTimeFormatter formatter) {
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(formatter);
+        OffsetDateTime odt = OffsetDateTime.of(1969, 12, 31, 23, 59, 30, 0, OFFSET_PONE);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(test.format(odt), formatter.format(odt));
+            odt = odt.plusNanos(50000000L);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_format_instantAcrossGap() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSS xxx").withZone(PARIS);
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(formatter);
+        Instant instant = Instant.parse("2012-03-25T00:59:58Z");
+        for (int i = 0; i < 50; i++) {
+            assertEquals(test.format(instant), formatter.format(instant));
+            instant = instant.plusMillis(100);
+        }
+        assertEquals(test.format(Instant.parse("2012-03-25T01:00:00.5Z")), "2012-03-25 03:00:00.500 +02:00");
+    }
+
+    public void test_format_zonedDateTimeAcrossOverlap() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss xxx");
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(formatter);
+        ZonedDateTime zdt = ZonedDateTime.of(LocalDateTime.of(2012, 10, 28, 2, 59, 58), PARIS).withEarlierOffsetAtOverlap();
+        assertEquals(test.format(zdt), "2012-10-28 02:59:58 +02:00");
+        assertEquals(test.format(zdt.withLaterOffsetAtOverlap()), "2012-10-28 02:59:58 +01:00");
+        assertEquals(test.format(zdt), "2012-10-28 02:59:58 +02:00");
+        assertEquals(test.format(zdt.withZoneSameLocal(ZoneOffset.ofHours(2))), "2012-10-28 02:59:58 +02:00");
+    }
+
+    public void test_format_zoneInPrefix() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("VV HH:mm:ss");
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(formatter);
+        ZonedDateTime zdt = ZonedDateTime.of(LocalDateTime.of(2012, 1, 1, 12, 0), ZoneId.of("Europe/Rome"));
+        assertEquals(test.format(zdt), "Europe/Rome 12:00:00");
+        assertEquals(test.format(zdt.withZoneSameLocal(PARIS)), "Europe/Paris 12:00:00");
+    }
+
+    public void test_format_typeChange() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm[ xxx]:ss");
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(formatter);
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 11, 30, 5);
+        assertEquals(test.format(ldt), "2012-06-30 11:30:05");
+        assertEquals(test.format(ldt.atOffset(OFFSET_PONE)), "2012-06-30 11:30 +01:00:05");
+        assertEquals(test.format(ldt), "2012-06-30 11:30:05");
+    }
+
+    public void test_format_otherType() {
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(DateTimeFormatter.ISO_LOCAL_DATE);
+        assertEquals(test.format(LocalDate.of(2012, 6, 30)), "2012-06-30");
+        assertEquals(test.format(LocalDateTime.of(2012, 6, 30, 11, 30)), "2012-06-30");
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_format_unsupportedField() {
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss xxx"));
+        test.format(LocalDateTime.of(2012, 6, 30, 11, 30));
+    }
+
+    public void test_formatTo() {
+        CachingDateTimeFormatter test = CachingDateTimeFormatter.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        StringBuffer buf = new StringBuffer("Date: ");
+        test.formatTo(LocalDateTime.of(2012, 6, 30, 11, 30, 5, 123000000), buf);
+        assertEquals(buf.toString(), "Date: 2012-06-30T11:30:05.123");
+    }
+
+    public void test_getFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        assertSame(CachingDateTimeFormatter.of(formatter).getFormatter(), formatter);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "unstable")
+    Object[][] data_unstable() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_INSTANT},
+            {DateTimeFormatter.ofPattern("ss.SSS")},
+            {DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)},
+            {DateTimeFormatter.ofPattern("A")},
+        };
+    }
+
+    @Test(dataProvider = "unstable", expectedExceptions = IllegalArgumentException.class)
+    public void test_of_notPrefixStable(DateTimeFormatter formatter) {
+        CachingDateTimeFormatter.of(formatter);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_null() {
+        CachingDateTimeFormatter.of(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_format_null() {
+        CachingDateTimeFormatter.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME).format((TemporalAccessor) null);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.chrono.ThaiBuddhistChronology;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Test CompiledParser.
+ */
+@Test
+public class TestCompiledParser {
+
+    private static CompiledParser compile(DateTimeFormatter formatter) {
+        return CompiledParser.compile(formatter.toPrinterParser(false), formatter.getDecimalStyle(),
+                formatter.getResolverFields(), formatter.getChronology(), formatter.getZone());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_compile_supported() {
+        assertNotNull(compile(DateTimeFormatter.ISO_LOCAL_DATE));
+        assertNotNull(compile(DateTimeFormatter.ISO_LOCAL_TIME));
+        assertNotNull(compile(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        assertNotNull(compile(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        assertNotNull(compile(DateTimeFormatter.ISO_INSTANT));
+        assertNotNull(compile(DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm")));
+    }
+
+    public void test_compile_unsupported() {
+        assertNull(compile(DateTimeFormatter.ISO_DATE_TIME));
+        assertNull(compile(DateTimeFormatter.ISO_ORDINAL_DATE));
+        assertNull(compile(DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneId.of("Europe/Paris"))));
+        assertNull(compile(DateTimeFormatter.ISO_LOCAL_DATE.withChronology(ThaiBuddhistChronology.INSTANCE)));
+        assertNull(compile(DateTimeFormatter.ISO_LOCAL_DATE.withResolverFields(YEAR, DAY_OF_MONTH)));
+        assertNull(compile(DateTimeFormatter.ISO_LOCAL_DATE.withDecimalStyle(DecimalStyle.STANDARD.withZeroDigit('A'))));
+        assertNull(compile(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        assertNull(compile(DateTimeFormatter.ofPattern("dd MMM uuuu", Locale.ENGLISH)));
+        assertNull(compile(new DateTimeFormatterBuilder().parseLenient().append(DateTimeFormatter.ISO_LOCAL_DATE).toFormatter()));
+    }
+
+    public void test_compile_offsetWithoutDateOrTime() {
+        assertNull(DateTimeFormatter.ISO_OFFSET_TIME.getCompiledParser());
+        assertNull(DateTimeFormatter.ISO_OFFSET_DATE.getCompiledParser());
+        assertNotNull(DateTimeFormatter.ISO_OFFSET_DATE_TIME.getCompiledParser());
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "sample")
+    Object[][] data_sample() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-30", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "0000-01-01", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "11:30", LocalTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "11:30:59", LocalTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "11:30:59.1", LocalTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "11:30:59.", LocalTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30t11:30:05", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30:05.123456789", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30:05.000012", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30:05.000012", LocalTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30+01:00", OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30:05-08:30:15", OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30:05.5Z", OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30:05.5z", OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30:05.5+02:00", Instant.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30:05.5+02:00", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T11:30:05Z", Instant.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "1969-12-31T23:59:59.999999999Z", Instant.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30t11:30:05.12z", Instant.FROM},
+        };
+    }
+
+    @Test(dataProvider = "sample")
+    public void test_parse_matchesGeneric(DateTimeFormatter formatter, String text, TemporalQuery<?> query) {
+        Object expected = formatter.parse(text).query(query);
+        assertEquals(compile(formatter).parse(text, query), expected);
+        assertEquals(formatter.parse(text, query), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "fallback")
+    Object[][] data_fallback() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "+12345-06-30", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "-0001-06-30", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-30", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-02-30", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-3", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-06-30X", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T24:00", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T23:59:60", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30", OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30+19:00", OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T23:59:60Z", Instant.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T24:00:00Z", Instant.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "+12012-06-30T11:30:00Z", Instant.FROM},
+            {DateTimeFormatter.ISO_INSTANT, "2012-06-30T11:30:00Z", LocalDateTime.FROM},
+        };
+    }
+
+    @Test(dataProvider = "fallback")
+    public void test_parse_fallback(DateTimeFormatter formatter, String text, TemporalQuery<?> query) {
+        assertNull(compile(formatter).parse(text, query));
+    }
+
+    public void test_parse_fallbackResult() {
+        assertEquals(DateTimeFormatter.ISO_INSTANT.parse("+12012-06-30T11:30:00Z", Instant.FROM),
+                Instant.parse("+12012-06-30T11:30:00Z"));
+        assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.parse("+12345-06-30", LocalDate.FROM), LocalDate.of(12345, 6, 30));
+        assertEquals(DateTimeFormatter.ofPattern("uuuu-MM-dd").parse("2012-02-30", LocalDate.FROM), LocalDate.of(2012, 2, 29));
+        assertEquals(LocalDateTime.parse("2012-06-30T11:30:05"), LocalDateTime.of(2012, 6, 30, 11, 30, 5));
+    }
+
+    public void test_parse_fallbackError() {
+        try {
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse("2012-06-30T11:3X", LocalDateTime.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 14);
+        }
+    }
+
+}
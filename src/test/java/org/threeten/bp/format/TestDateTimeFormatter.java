@@ -34,9 +34,12 @@ package org.threeten.bp.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
@@ -46,7 +49,9 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.Year;
 import org.threeten.bp.YearMonth;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZonedDateTime;
@@ -147,6 +152,74 @@ public class TestDateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_print_CalendricalBytes() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        byte[] bytes = "--------".getBytes("US-ASCII");
+        assertEquals(test.formatTo(LocalDate.of(2008, 6, 30), bytes, 1), 6);
+        assertEquals(new String(bytes, "US-ASCII"), "-ONE30--");
+    }
+
+    @Test
+    public void test_print_CalendricalBytes_tooSmall() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        byte[] bytes = "-----".getBytes("US-ASCII");
+        try {
+            test.formatTo(LocalDate.of(2008, 6, 30), bytes, 1);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            assertEquals(new String(bytes, "US-ASCII"), "-----");
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_print_CalendricalBytes_notAscii() throws Exception {
+        DateTimeFormatter test = DateTimeFormatter.ofPattern("MMMM", Locale.FRENCH);
+        test.formatTo(LocalDate.of(2008, 2, 1), new byte[20], 0);
+    }
+
+    @Test
+    public void test_print_CalendricalBytes_reusedAfterError() throws Exception {
+        DateTimeFormatter test = DateTimeFormatter.ofPattern("MMMM uuuu", Locale.FRENCH);
+        byte[] bytes = new byte[20];
+        try {
+            test.formatTo(LocalDate.of(2008, 2, 1), bytes, 0);
+            fail();
+        } catch (DateTimeException ex) {
+            // expected
+        }
+        assertEquals(test.formatTo(LocalDate.of(2008, 3, 1), bytes, 0), 9);
+        assertEquals(new String(bytes, 0, 9, "US-ASCII"), "mars 2008");
+        assertEquals(test.formatTo(LocalDate.of(2008, 5, 1), bytes, 0), 8);
+        assertEquals(new String(bytes, 0, 8, "US-ASCII"), "mai 2008");
+    }
+
+    @Test
+    public void test_print_CalendricalByteBuffer() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        buffer.put((byte) '-');
+        assertEquals(test.formatTo(LocalDate.of(2008, 6, 30), buffer), 6);
+        assertEquals(buffer.position(), 6);
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertEquals(new String(bytes, "US-ASCII"), "-ONE30");
+    }
+
+    @Test
+    public void test_print_CalendricalByteBuffer_tooSmall() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        try {
+            test.formatTo(LocalDate.of(2008, 6, 30), buffer);
+            fail();
+        } catch (BufferOverflowException ex) {
+            assertEquals(buffer.position(), 0);
+        }
+    }
+
     //-----------------------------------------------------------------------
     // parse(Class)
     //-----------------------------------------------------------------------
@@ -212,6 +285,138 @@ public class TestDateTimeFormatter {
         test.parse("30", (TemporalQuery<?>) null);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_tryParse_Class_String() throws Exception {
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 07 27", LocalDate.FROM), LocalDate.of(2012, 7, 27));
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 07 XX", LocalDate.FROM), null);
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 07 27SomethingElse", LocalDate.FROM), null);
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 13 01", LocalDate.FROM), null);
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 07 27", LocalTime.FROM), null);
+    }
+
+    @Test
+    public void test_tryParse_Class_StringParsePosition() throws Exception {
+        ParsePosition pos = new ParsePosition(3);
+        assertEquals(DATE_FORMATTER.tryParse("XXXONE2012 07 27", pos, LocalDate.FROM), LocalDate.of(2012, 7, 27));
+        assertEquals(pos.getIndex(), 16);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test
+    public void test_tryParse_Class_StringParsePosition_parseError() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 07 XX", pos, LocalDate.FROM), null);
+        assertEquals(pos.getIndex(), 0);
+        assertEquals(pos.getErrorIndex(), 11);
+    }
+
+    @Test
+    public void test_tryParse_Class_StringParsePosition_parseIncomplete() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(DATE_FORMATTER.tryParse("ONE2012 07 27SomethingElse", pos, LocalDate.FROM), null);
+        assertEquals(pos.getIndex(), 0);
+        assertEquals(pos.getErrorIndex(), 13);
+    }
+
+    @Test
+    public void test_tryParse_Class_StringParsePosition_resolveError() throws Exception {
+        ParsePosition pos = new ParsePosition(2);
+        assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.tryParse("XX2012-02-30", pos, LocalDate.FROM), null);
+        assertEquals(pos.getIndex(), 2);
+        assertEquals(pos.getErrorIndex(), 2);
+    }
+
+    @Test
+    public void test_tryParse_Class_StringParsePosition_compiled() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.tryParse("2012-02-29", pos, LocalDate.FROM), LocalDate.of(2012, 2, 29));
+        assertEquals(pos.getIndex(), 10);
+        pos = new ParsePosition(0);
+        assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.tryParse("2012-02-2X", pos, LocalDate.FROM), null);
+        assertEquals(pos.getErrorIndex(), 8);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tryParse_Class_String_nullText() throws Exception {
+        DATE_FORMATTER.tryParse((String) null, LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tryParse_Class_String_nullPosition() throws Exception {
+        DATE_FORMATTER.tryParse("ONE2012 07 27", null, LocalDate.FROM);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse_Class_bytes() throws Exception {
+        byte[] bytes = "--ONE2012 07 27--".getBytes("US-ASCII");
+        LocalDate result = DATE_FORMATTER.parse(bytes, 2, 13, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+    }
+
+    @Test
+    public void test_parse_Class_bytes_iso() throws Exception {
+        byte[] bytes = "2012-07-27T11:30:05.123".getBytes("US-ASCII");
+        LocalDateTime result = DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(bytes, 0, bytes.length, LocalDateTime.FROM);
+        assertEquals(result, LocalDateTime.of(2012, 7, 27, 11, 30, 5, 123000000));
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class)
+    public void test_parse_Class_bytes_parseError() throws Exception {
+        byte[] bytes = "--ONE2012 07 XX--".getBytes("US-ASCII");
+        try {
+            DATE_FORMATTER.parse(bytes, 2, 13, LocalDate.FROM);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "ONE2012 07 XX");
+            assertEquals(ex.getErrorIndex(), 11);
+            throw ex;
+        }
+    }
+
+    @Test
+    public void test_parse_Class_bytes_notAscii() throws Exception {
+        DateTimeFormatter test = DateTimeFormatter.ofPattern("'\u00e9'uuuu", Locale.ENGLISH);
+        byte[] bytes = {(byte) 0xE9, '2', '0', '1', '2'};
+        try {
+            test.parse(bytes, 0, bytes.length, Year.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+        }
+        assertEquals(test.parse("\u00e92012", Year.FROM), Year.of(2012));
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_parse_Class_bytes_invalidRange() throws Exception {
+        DATE_FORMATTER.parse(new byte[10], 2, 9, LocalDate.FROM);
+    }
+
+    @Test
+    public void test_parse_Class_ByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(20);
+        buffer.put("--ONE2012 07 27".getBytes("US-ASCII"));
+        buffer.flip();
+        buffer.position(2);
+        LocalDate result = DATE_FORMATTER.parse(buffer, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(buffer.position(), 15);
+    }
+
+    @Test
+    public void test_parse_Class_ByteBuffer_parseError() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("--ONE2012 07 XX".getBytes("US-ASCII"));
+        buffer.position(2);
+        try {
+            DATE_FORMATTER.parse(buffer, LocalDate.FROM);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "ONE2012 07 XX");
+            assertEquals(ex.getErrorIndex(), 11);
+            assertEquals(buffer.position(), 2);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_parseBest_firstOption() throws Exception {
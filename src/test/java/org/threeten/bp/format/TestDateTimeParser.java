@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.MILLI_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.temporal.TemporalQueries;
+
+/**
+ * Test DateTimeParser.
+ */
+@Test
+public class TestDateTimeParser {
+
+    //-----------------------------------------------------------------------
+    public void test_parse_compiled_localDateTime() {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE_TIME.newParser();
+        assertSame(test.getFormatter(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        test.parse("2012-06-30T11:30:05.123");
+        assertEquals(test.getLong(YEAR), 2012);
+        assertEquals(test.getLong(MONTH_OF_YEAR), 6);
+        assertEquals(test.getLong(DAY_OF_MONTH), 30);
+        assertEquals(test.getLong(HOUR_OF_DAY), 11);
+        assertEquals(test.getLong(SECOND_OF_MINUTE), 5);
+        assertEquals(test.getLong(NANO_OF_SECOND), 123000000);
+        assertEquals(test.getLong(EPOCH_DAY), LocalDate.of(2012, 6, 30).toEpochDay());
+        assertEquals(test.get(DAY_OF_WEEK), 6);
+        assertEquals(test.isSupported(MILLI_OF_SECOND), true);
+        assertEquals(test.isSupported(OFFSET_SECONDS), false);
+        assertEquals(test.isSupported(INSTANT_SECONDS), false);
+        assertEquals(test.query(LocalDateTime.FROM), LocalDateTime.of(2012, 6, 30, 11, 30, 5, 123000000));
+        assertEquals(test.query(LocalDate.FROM), LocalDate.of(2012, 6, 30));
+
+        test.parse("2013-01-02T03:04");
+        assertEquals(test.getLong(YEAR), 2013);
+        assertEquals(test.getLong(SECOND_OF_MINUTE), 0);
+        assertEquals(test.getLong(NANO_OF_SECOND), 0);
+        assertEquals(test.query(LocalDateTime.FROM), LocalDateTime.of(2013, 1, 2, 3, 4));
+    }
+
+    public void test_parse_compiled_offsetDateTime() {
+        DateTimeParser test = DateTimeFormatter.ISO_OFFSET_DATE_TIME.newParser();
+        OffsetDateTime expected = OffsetDateTime.of(2012, 6, 30, 11, 30, 5, 0, ZoneOffset.ofHours(-5));
+        assertEquals(test.parse("2012-06-30T11:30:05-05:00", OffsetDateTime.FROM), expected);
+        assertEquals(test.getLong(OFFSET_SECONDS), -5 * 3600);
+        assertEquals(test.getLong(INSTANT_SECONDS), expected.toEpochSecond());
+        assertEquals(test.isSupported(INSTANT_SECONDS), true);
+        assertEquals(test.query(Instant.FROM), expected.toInstant());
+        assertEquals(test.query(TemporalQueries.offset()), ZoneOffset.ofHours(-5));
+    }
+
+    public void test_parse_compiled_instant() {
+        DateTimeParser test = DateTimeFormatter.ISO_INSTANT.newParser();
+        test.parse("1969-12-31T23:59:58.5Z");
+        assertEquals(test.getLong(INSTANT_SECONDS), -2);
+        assertEquals(test.getLong(NANO_OF_SECOND), 500000000);
+        assertEquals(test.getLong(MILLI_OF_SECOND), 500);
+        assertEquals(test.isSupported(YEAR), false);
+        assertEquals(test.query(Instant.FROM), Instant.ofEpochSecond(-2, 500000000));
+    }
+
+    public void test_parse_compiled_fallback() {
+        DateTimeParser test = DateTimeFormatter.ISO_INSTANT.newParser();
+        test.parse("2012-06-30T24:00:00Z");
+        assertEquals(test.query(Instant.FROM), Instant.parse("2012-07-01T00:00:00Z"));
+        test.parse("2012-07-01T00:00:01Z");
+        assertEquals(test.getLong(INSTANT_SECONDS), Instant.parse("2012-07-01T00:00:01Z").getEpochSecond());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_generic() {
+        DateTimeParser test = DateTimeFormatter.ofPattern("d MMM uuuu", Locale.ENGLISH).newParser();
+        test.parse("30 Jun 2012");
+        assertEquals(test.getLong(DAY_OF_MONTH), 30);
+        assertEquals(test.query(LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        assertEquals(test.parse("1 Jan 2013", LocalDate.FROM), LocalDate.of(2013, 1, 1));
+        assertEquals(test.getLong(YEAR), 2013);
+    }
+
+    public void test_parse_generic_optionalReused() {
+        DateTimeParser test = DateTimeFormatter.ISO_DATE_TIME.newParser();
+        ZonedDateTime zdt = ZonedDateTime.of(2012, 6, 30, 11, 30, 5, 0, ZoneId.of("Europe/Paris"));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(test.parse("2012-06-30T11:30:05+02:00[Europe/Paris]", ZonedDateTime.FROM), zdt);
+            test.parse("2012-06-30T11:30");
+            assertEquals(test.isSupported(OFFSET_SECONDS), false);
+            assertEquals(test.query(TemporalQueries.zoneId()), null);
+            assertEquals(test.query(LocalDateTime.FROM), LocalDateTime.of(2012, 6, 30, 11, 30));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_error() {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        test.parse("2012-06-30");
+        try {
+            test.parse("2012-06-3X");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 8);
+        }
+        assertFalse(test.isSupported(YEAR));
+        try {
+            test.parse("2012-06-30X");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 10);
+        }
+        try {
+            test.parse("2012-02-30");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertTrue(ex.getCause() instanceof DateTimeException);
+        }
+        test.parse("2012-02-29");
+        assertEquals(test.query(LocalDate.FROM), LocalDate.of(2012, 2, 29));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_parse_query_unavailable() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parse("2012-06-30", LocalDateTime.FROM);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_getLong_nothingParsed() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().getLong(YEAR);
+    }
+
+    public void test_reset() {
+        DateTimeParser test = DateTimeFormatter.ISO_LOCAL_DATE.newParser();
+        test.parse("2012-06-30");
+        assertTrue(test.isSupported(YEAR));
+        test.reset();
+        assertFalse(test.isSupported(YEAR));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        DateTimeFormatter.ISO_LOCAL_DATE.newParser().parse((CharSequence) null);
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.JulianFields;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Test FieldValueMap.
+ */
+@Test
+public class TestFieldValueMap {
+
+    public void test_empty() {
+        FieldValueMap test = new FieldValueMap();
+        assertEquals(test.size(), 0);
+        assertTrue(test.isEmpty());
+        assertFalse(test.containsKey(YEAR));
+        assertNull(test.get(YEAR));
+        assertNull(test.get(IsoFields.QUARTER_OF_YEAR));
+        assertNull(test.remove(YEAR));
+        assertEquals(test.nextChronoField(0), -1);
+        assertEquals(test.toString(), "{}");
+    }
+
+    public void test_putLong_getLong() {
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(YEAR, 2012);
+        test.putLong(JulianFields.MODIFIED_JULIAN_DAY, 40000);
+        assertEquals(test.size(), 2);
+        assertEquals(test.getLong(YEAR), 2012);
+        assertEquals(test.getLong(JulianFields.MODIFIED_JULIAN_DAY), 40000);
+        assertEquals(test.get(YEAR), (Long) 2012L);
+        assertTrue(test.containsKey(YEAR));
+        assertTrue(test.containsKey(JulianFields.MODIFIED_JULIAN_DAY));
+        assertEquals(test.otherFields().size(), 1);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getLong_notPresent() {
+        new FieldValueMap().getLong(YEAR);
+    }
+
+    public void test_put_returnsOld() {
+        FieldValueMap test = new FieldValueMap();
+        assertNull(test.put(YEAR, 2012L));
+        assertEquals(test.put(YEAR, 2013L), (Long) 2012L);
+        assertNull(test.put(IsoFields.QUARTER_OF_YEAR, 2L));
+        assertEquals(test.put(IsoFields.QUARTER_OF_YEAR, 3L), (Long) 2L);
+        assertEquals(test.size(), 2);
+    }
+
+    public void test_remove() {
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(YEAR, 2012);
+        test.putLong(MONTH_OF_YEAR, 6);
+        assertEquals(test.removeLong(YEAR), 2012);
+        assertEquals(test.remove(MONTH_OF_YEAR), (Long) 6L);
+        test.removeField(DAY_OF_MONTH);
+        assertTrue(test.isEmpty());
+    }
+
+    public void test_iteration_ordinalOrderThenOthers() {
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(NANO_OF_SECOND, 5);
+        test.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        test.putLong(YEAR, 2012);
+        test.putLong(DAY_OF_MONTH, 3);
+        Iterator<Map.Entry<TemporalField, Long>> it = test.entrySet().iterator();
+        assertEquals(it.next().getKey(), NANO_OF_SECOND);
+        assertEquals(it.next().getKey(), DAY_OF_MONTH);
+        assertEquals(it.next().getKey(), YEAR);
+        assertEquals(it.next().getKey(), IsoFields.QUARTER_OF_YEAR);
+        assertFalse(it.hasNext());
+    }
+
+    public void test_iteration_remove() {
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(YEAR, 2012);
+        test.putLong(DAY_OF_MONTH, 3);
+        test.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        test.keySet().retainAll(new HashSet<TemporalField>(Arrays.<TemporalField>asList(YEAR)));
+        assertEquals(test.size(), 1);
+        assertEquals(test.getLong(YEAR), 2012);
+    }
+
+    public void test_entry_setValue() {
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(YEAR, 2012);
+        Map.Entry<TemporalField, Long> entry = test.entrySet().iterator().next();
+        assertEquals(entry.setValue(2013L), (Long) 2012L);
+        assertEquals(test.getLong(YEAR), 2013);
+    }
+
+    public void test_putAll_equals() {
+        FieldValueMap base = new FieldValueMap();
+        base.putLong(YEAR, 2012);
+        base.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(MONTH_OF_YEAR, 6);
+        test.putAll(base);
+        Map<TemporalField, Long> expected = new HashMap<TemporalField, Long>();
+        expected.put(YEAR, 2012L);
+        expected.put(MONTH_OF_YEAR, 6L);
+        expected.put(IsoFields.QUARTER_OF_YEAR, 2L);
+        assertEquals(test, expected);
+        assertEquals(expected, test);
+        assertEquals(test.hashCode(), expected.hashCode());
+        FieldValueMap copy = new FieldValueMap();
+        copy.putAll(expected);
+        assertEquals(copy, test);
+    }
+
+    public void test_clear() {
+        FieldValueMap test = new FieldValueMap();
+        test.putLong(YEAR, 2012);
+        test.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        test.clear();
+        assertTrue(test.isEmpty());
+        assertEquals(test.size(), 0);
+    }
+
+}
@@ -36,6 +36,8 @@ import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
 
+import java.util.Locale;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
@@ -250,6 +252,45 @@ public class TestNumberPrinter extends AbstractTestPrinterParser {
         }
     }
 
+    @Test(dataProvider="Pad")
+    public void test_pad_NORMAL_zeroDigit(int minPad, int maxPad, long value, String result) throws Exception {
+        DecimalStyle symbols = DecimalStyle.STANDARD.withZeroDigit('\u0660');
+        DateTimePrintContext context = new DateTimePrintContext(new MockFieldValue(DAY_OF_MONTH, value), Locale.ENGLISH, symbols);
+        NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, minPad, maxPad, SignStyle.NORMAL);
+        buf.append("EXISTING");
+        try {
+            pp.print(context, buf);
+            if (result == null) {
+                fail("Expected exception");
+            }
+            result = symbols.convertNumberToI18N(result);
+            assertEquals(buf.toString(), "EXISTING" + (value < 0 ? "-" + result : result));
+        } catch (DateTimeException ex) {
+            if (result != null) {
+                throw ex;
+            }
+            assertEquals(ex.getMessage().contains(DAY_OF_MONTH.toString()), true);
+        }
+    }
+
+    public void test_print_longExtremes() throws Exception {
+        NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, 1, 19, SignStyle.NORMAL);
+        printContext.setDateTime(new MockFieldValue(DAY_OF_MONTH, Long.MAX_VALUE));
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), "9223372036854775807");
+        buf.setLength(0);
+        printContext.setDateTime(new MockFieldValue(DAY_OF_MONTH, Long.MIN_VALUE));
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), "-9223372036854775808");
+    }
+
+    public void test_print_optionalMissing() throws Exception {
+        NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, 1, 2, SignStyle.NEVER);
+        printEmptyContext.startOptional();
+        assertEquals(pp.print(printEmptyContext, buf), false);
+        assertEquals(buf.toString(), "");
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString1() throws Exception {
         NumberPrinterParser pp = new NumberPrinterParser(HOUR_OF_DAY, 1, 19, SignStyle.NORMAL);
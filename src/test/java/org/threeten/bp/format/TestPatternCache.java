@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.CacheStatistics;
+import org.threeten.bp.LocalDate;
+
+/**
+ * Test PatternCache.
+ */
+@Test
+public class TestPatternCache {
+
+    public void test_get_hit() {
+        PatternCache test = new PatternCache(8);
+        DateTimeFormatter first = test.get("uuuu-MM-dd", Locale.ENGLISH);
+        assertEquals(test.getMissCount(), 1);
+        assertEquals(test.getHitCount(), 0);
+        assertSame(test.get("uuuu-MM-dd", Locale.ENGLISH), first);
+        assertEquals(test.getMissCount(), 1);
+        assertEquals(test.getHitCount(), 1);
+        assertEquals(test.size(), 1);
+        assertEquals(first.format(LocalDate.of(2012, 6, 30)), "2012-06-30");
+    }
+
+    public void test_get_keyedByLocale() {
+        PatternCache test = new PatternCache(8);
+        DateTimeFormatter english = test.get("d MMM uuuu", Locale.ENGLISH);
+        DateTimeFormatter french = test.get("d MMM uuuu", Locale.FRENCH);
+        assertNotSame(english, french);
+        assertEquals(english.getLocale(), Locale.ENGLISH);
+        assertEquals(french.getLocale(), Locale.FRENCH);
+        assertEquals(test.getMissCount(), 2);
+        assertEquals(test.size(), 2);
+    }
+
+    public void test_get_invalidPatternNotCached() {
+        PatternCache test = new PatternCache(8);
+        for (int i = 0; i < 2; i++) {
+            try {
+                test.get("uuuu-MM-dd{", Locale.ENGLISH);
+                fail();
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        }
+        assertEquals(test.getMissCount(), 2);
+        assertEquals(test.size(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_evict_bounded() {
+        PatternCache test = new PatternCache(8);
+        for (int i = 0; i < 100; i++) {
+            test.get("'" + i + "'uuuu", Locale.ENGLISH);
+            assertTrue(test.size() <= 8);
+        }
+        assertEquals(test.getMissCount(), 100);
+        assertEquals(test.getEvictionCount(), 100 - test.size());
+    }
+
+    public void test_evict_usedSurvive() {
+        PatternCache test = new PatternCache(8);
+        DateTimeFormatter hot = test.get("uuuu-MM-dd", Locale.ENGLISH);
+        for (int i = 0; i < 100; i++) {
+            assertSame(test.get("uuuu-MM-dd", Locale.ENGLISH), hot);
+            test.get("'" + i + "'uuuu", Locale.ENGLISH);
+        }
+        assertEquals(test.getMissCount(), 101);
+        assertEquals(test.getHitCount(), 100);
+    }
+
+    public void test_clear() {
+        PatternCache test = new PatternCache(8);
+        DateTimeFormatter first = test.get("uuuu-MM-dd", Locale.ENGLISH);
+        test.clear();
+        assertEquals(test.size(), 0);
+        assertNotSame(test.get("uuuu-MM-dd", Locale.ENGLISH), first);
+        assertEquals(test.getMissCount(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_constructor_invalidSize() {
+        new PatternCache(0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_ofPattern_cached() {
+        PatternCache cache = DateTimeFormatter.getPatternCache();
+        DateTimeFormatter first = DateTimeFormatter.ofPattern("uuuu'TestPatternCache'", Locale.ENGLISH);
+        long hits = cache.getHitCount();
+        assertSame(DateTimeFormatter.ofPattern("uuuu'TestPatternCache'", Locale.ENGLISH), first);
+        assertTrue(cache.getHitCount() > hits);
+    }
+
+    public void test_ofPattern_statistics() {
+        DateTimeFormatter.ofPattern("uuuu'TestPatternCache.statistics'", Locale.ENGLISH);
+        CacheStatistics before = DateTimeFormatter.getPatternCacheStatistics();
+        DateTimeFormatter.ofPattern("uuuu'TestPatternCache.statistics'", Locale.ENGLISH);
+        CacheStatistics after = DateTimeFormatter.getPatternCacheStatistics();
+        assertTrue(after.getHitCount() > before.getHitCount());
+        assertTrue(after.getMissCount() >= before.getMissCount());
+        assertTrue(after.getEvictionCount() >= before.getEvictionCount());
+    }
+
+    public void test_statistics() {
+        PatternCache test = new PatternCache(8);
+        test.get("uuuu-MM-dd", Locale.ENGLISH);
+        test.get("uuuu-MM-dd", Locale.ENGLISH);
+        for (int i = 0; i < 20; i++) {
+            test.get("'" + i + "'uuuu", Locale.ENGLISH);
+        }
+        assertEquals(test.getStatistics(), CacheStatistics.of(1, 21, test.getEvictionCount()));
+        assertTrue(test.getStatistics().getEvictionCount() > 0);
+    }
+
+    public void test_ofPattern_defaultLocale() {
+        Locale old = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.FRENCH);
+            assertEquals(DateTimeFormatter.ofPattern("uuuu").getLocale(), Locale.FRENCH);
+            Locale.setDefault(Locale.ENGLISH);
+            assertEquals(DateTimeFormatter.ofPattern("uuuu").getLocale(), Locale.ENGLISH);
+        } finally {
+            Locale.setDefault(old);
+        }
+    }
+
+}
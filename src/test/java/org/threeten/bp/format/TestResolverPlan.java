@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.chrono.ThaiBuddhistChronology;
+import org.threeten.bp.format.DateTimeParseContext.Parsed;
+
+/**
+ * Test ResolverPlan.
+ */
+@Test
+public class TestResolverPlan {
+
+    //-----------------------------------------------------------------------
+    public void test_derive_supported() {
+        assertNotNull(DateTimeFormatter.ISO_LOCAL_DATE_TIME.getResolverPlan());
+        assertNotNull(DateTimeFormatter.ISO_ZONED_DATE_TIME.getResolverPlan());
+        assertNotNull(DateTimeFormatter.RFC_1123_DATE_TIME.getResolverPlan());
+        assertNotNull(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss.SSS", Locale.ENGLISH).getResolverPlan());
+        assertNotNull(DateTimeFormatter.ofPattern("EEE d MMM uuuu HH:mm xxx", Locale.FRENCH).getResolverPlan());
+    }
+
+    public void test_derive_unsupported() {
+        assertNull(DateTimeFormatter.ISO_INSTANT.getResolverPlan());
+        assertNull(DateTimeFormatter.ISO_ORDINAL_DATE.getResolverPlan());
+        assertNull(DateTimeFormatter.ISO_WEEK_DATE.getResolverPlan());
+        assertNull(DateTimeFormatter.ofPattern("uuuu-MM-dd hh:mm a", Locale.ENGLISH).getResolverPlan());
+        assertNull(DateTimeFormatter.ISO_LOCAL_DATE.withChronology(ThaiBuddhistChronology.INSTANCE).getResolverPlan());
+        assertNull(DateTimeFormatter.ISO_LOCAL_DATE.withResolverFields(YEAR, DAY_OF_MONTH).getResolverPlan());
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "sample")
+    Object[][] data_sample() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30:05.123"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-06-30T11:30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-02-30T11:30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-02-29T24:00"},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-13-01T11:30"},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-04-31"},
+            {DateTimeFormatter.ISO_LOCAL_TIME, "23:59:59.999999999"},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, "2012-06-30T11:30:05+01:00"},
+            {DateTimeFormatter.ISO_OFFSET_DATE, "2012-06-30+01:00"},
+            {DateTimeFormatter.ISO_OFFSET_TIME, "11:30-05:00"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-10-28T02:30:00+01:00[Europe/Paris]"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-10-28T02:30:00+02:00[Europe/Paris]"},
+            {DateTimeFormatter.ISO_ZONED_DATE_TIME, "2012-03-25T02:30:00+01:00[Europe/Paris]"},
+            {DateTimeFormatter.RFC_1123_DATE_TIME, "Sat, 30 Jun 2012 11:30:05 GMT"},
+            {DateTimeFormatter.RFC_1123_DATE_TIME, "Fri, 30 Jun 2012 11:30:05 GMT"},
+            {DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm", Locale.ENGLISH), "30/06/2012 11:30"},
+            {DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm", Locale.ENGLISH), "30/06/0000 11:30"},
+            {DateTimeFormatter.ofPattern("dd/MM/uuuu HH", Locale.ENGLISH), "30/06/2012 11"},
+            {DateTimeFormatter.ofPattern("uuuu-MM", Locale.ENGLISH), "2012-06"},
+            {DateTimeFormatter.ofPattern("EEE", Locale.ENGLISH), "Sat"},
+            {DateTimeFormatter.ofPattern("HH:mm[:ss]'Z'", Locale.ENGLISH), "11:30Z"},
+            {new DateTimeFormatterBuilder().appendPattern("HH:mm").appendValue(NANO_OF_SECOND).toFormatter(), "11:3012"},
+            {new DateTimeFormatterBuilder().appendPattern("uuuu-MM").parseDefaulting(DAY_OF_MONTH, 1).toFormatter(), "2012-06"},
+        };
+    }
+
+    @Test(dataProvider = "sample")
+    public void test_resolve_sameAsGeneral(DateTimeFormatter formatter, String text) {
+        for (ResolverStyle style : ResolverStyle.values()) {
+            DateTimeFormatter f = formatter.withResolverStyle(style);
+            ResolverPlan plan = f.getResolverPlan();
+            assertNotNull(plan);
+            Parsed parsed = (Parsed) f.parseUnresolved(text, new ParsePosition(0));
+            assertNotNull(parsed, text);
+            DateTimeBuilder expected = parsed.toBuilder();
+            String expectedError = null;
+            try {
+                expected.resolve(style, null);
+            } catch (DateTimeException ex) {
+                expectedError = ex.getMessage();
+            }
+            DateTimeBuilder test = parsed.toBuilder();
+            boolean resolved = plan.resolve(test);
+            if (expectedError != null) {
+                assertFalse(resolved, expectedError);
+            }
+            if (resolved) {
+                assertEquals(test.toString(), expected.toString(), text + " " + style);
+                assertEquals(test.excessDays, expected.excessDays);
+                assertEquals(test.leapSecond, expected.leapSecond);
+            } else {
+                assertEquals(parsed.toBuilder().toString(), test.toString());
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_usesPlan() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm:ss xxx", Locale.ENGLISH);
+        assertEquals(f.parse("30/06/2012 11:30:05 +01:00", OffsetDateTime.FROM),
+                OffsetDateTime.parse("2012-06-30T11:30:05+01:00"));
+        assertEquals(f.parse("30/06/2012 11:30:05 +01:00", LocalDateTime.FROM),
+                LocalDateTime.of(2012, 6, 30, 11, 30, 5));
+        assertEquals(ZonedDateTime.from(f.parse("30/06/2012 11:30:05 +01:00")).toInstant(),
+                OffsetDateTime.parse("2012-06-30T11:30:05+01:00").toInstant());
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_parse_strictInvalid() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("dd/MM/uuuu", Locale.ENGLISH).withResolverStyle(ResolverStyle.STRICT);
+        f.parse("30/02/2012");
+    }
+
+    public void test_parse_smartClamped() {
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("dd/MM/uuuu", Locale.ENGLISH);
+        assertEquals(f.parse("30/02/2012", LocalDate.FROM), LocalDate.of(2012, 2, 29));
+        assertTrue(f.getResolverPlan() != null);
+    }
+
+}
@@ -34,13 +34,20 @@ package org.threeten.bp.format;
 import static org.testng.Assert.assertEquals;
 import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.ERA;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map.Entry;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.format.SimpleDateTimeTextProvider.ParseIndex;
 import org.threeten.bp.temporal.TemporalField;
 
 /**
@@ -157,4 +164,61 @@ public class TestSimpleDateTimeTextProvider {
         assertEquals(tp.getText(field, value.longValue(), style, locale), expected);
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "Index")
+    Object[][] data_index() {
+        TemporalField[] fields = {MONTH_OF_YEAR, DAY_OF_WEEK, AMPM_OF_DAY, ERA};
+        Locale[] locales = {enUS, ptBR, frFR, Locale.GERMAN, Locale.JAPANESE, new Locale("ru")};
+        TextStyle[] styles = {null, TextStyle.FULL, TextStyle.SHORT, TextStyle.NARROW};
+        List<Object[]> list = new ArrayList<Object[]>();
+        for (TemporalField field : fields) {
+            for (Locale locale : locales) {
+                for (TextStyle style : styles) {
+                    list.add(new Object[] {field, style, locale});
+                }
+            }
+        }
+        return list.toArray(new Object[list.size()][]);
+    }
+
+    @Test(dataProvider = "Index")
+    public void test_getParseIndex_matchesIterator(TemporalField field, TextStyle style, Locale locale) {
+        DateTimeTextProvider tp = DateTimeTextProvider.getInstance();
+        ParseIndex index = tp.getParseIndex(field, style, locale);
+        Iterator<Entry<String, Long>> it = tp.getTextIterator(field, style, locale);
+        assertEquals(index != null, it != null);
+        if (index == null) {
+            return;
+        }
+        List<String> inputs = new ArrayList<String>();
+        inputs.add("");
+        inputs.add("X");
+        while (it.hasNext()) {
+            String text = it.next().getKey();
+            inputs.add(text);
+            inputs.add(text + "X");
+            inputs.add(text.toUpperCase(locale));
+            inputs.add(text.toLowerCase(locale));
+            if (text.length() > 1) {
+                inputs.add(text.substring(0, text.length() - 1));
+            }
+        }
+        for (boolean caseSensitive : new boolean[] {true, false}) {
+            DateTimeParseContext context = new DateTimeParseContext(locale, DecimalStyle.STANDARD, IsoChronology.INSTANCE);
+            context.setCaseSensitive(caseSensitive);
+            for (String input : inputs) {
+                String parseText = "-" + input;
+                Entry<String, Long> expected = null;
+                for (it = tp.getTextIterator(field, style, locale); it.hasNext(); ) {
+                    Entry<String, Long> entry = it.next();
+                    if (context.subSequenceEquals(entry.getKey(), 0, parseText, 1, entry.getKey().length())) {
+                        expected = entry;
+                        break;
+                    }
+                }
+                assertEquals(index.find(context, parseText, 1), expected, input);
+            }
+        }
+    }
+
 }
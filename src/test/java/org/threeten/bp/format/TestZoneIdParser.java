@@ -32,8 +32,10 @@
 package org.threeten.bp.format;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Locale;
 import java.util.Set;
 
 import org.testng.annotations.DataProvider;
@@ -128,6 +130,42 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(expected);
     }
 
+    @Test(dataProvider="zones")
+    public void test_parse_exactMatch_upperCase(String parse, ZoneId expected) throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        parseContext.setCaseSensitive(false);
+        int result = pp.parse(parseContext, parse.toUpperCase(Locale.ENGLISH), 0);
+        assertEquals(result, parse.length());
+        assertEquals(parseContext.toParsed().zone.getId().equalsIgnoreCase(parse), true);
+    }
+
+    public void test_parse_longestMatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        int result = pp.parse(parseContext, "Etc/GMT-2OTHER", 0);
+        assertEquals(result, 9);
+        assertParsed(ZoneId.of("Etc/GMT-2"));
+    }
+
+    public void test_parse_longestMatch_shorterId() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        int result = pp.parse(parseContext, "Etc/GMT-OTHER", 0);
+        assertEquals(result, 7);
+        assertParsed(ZoneId.of("Etc/GMT"));
+    }
+
+    public void test_parse_caseSensitiveMismatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        int result = pp.parse(parseContext, "europe/london", 0);
+        assertEquals(result, -1);
+        assertParsed(null);
+    }
+
+    public void test_availableZoneIdsSnapshot() {
+        Set<String> snapshot = ZoneRulesProvider.getAvailableZoneIdsSnapshot();
+        assertSame(ZoneRulesProvider.getAvailableZoneIdsSnapshot(), snapshot);
+        assertEquals(snapshot, ZoneRulesProvider.getAvailableZoneIds());
+    }
+
     @Test
     public void test_parse_lowerCase() throws Exception {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.text.NumberFormat;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Test Performance of the first call to obtain rules from a provider.
+ */
+public class PerformanceZoneRulesProvider {
+
+    /** The zones to test. */
+    private static final String[] ZONES = {"Europe/London", "Europe/Paris", "America/New_York", "Asia/Tokyo", "Australia/Sydney"};
+    /** Size. */
+    private static final NumberFormat NF = NumberFormat.getIntegerInstance();
+    static {
+        NF.setGroupingUsed(true);
+    }
+    /** Size. */
+    private static final int SIZE = 2000;
+
+    /**
+     * Main.
+     * @param args  the arguments
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        byte[] tzdb = readTzdb();
+        SortedMap<String, ZoneRules> zones = new TreeMap<String, ZoneRules>();
+        for (String zoneId : ZONES) {
+            zones.put(zoneId, ZoneRulesProvider.getRules(zoneId, false));
+        }
+        Class<?> generated = TestTzdbZoneRulesCompiler.compileProvider(
+                "org.threeten.bp.generated.PerformanceProvider", "2999a", zones).getClass();
+
+        for (int i = 0; i < 6; i++) {
+            tzdbFirstCall(tzdb);
+            generatedFirstCall(generated);
+            System.out.println();
+        }
+    }
+
+    private static byte[] readTzdb() throws Exception {
+        InputStream in = ZoneRulesProvider.class.getClassLoader().getResourceAsStream("org/threeten/bp/TZDB.dat");
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            for (int len = in.read(buf); len >= 0; len = in.read(buf)) {
+                baos.write(buf, 0, len);
+            }
+            return baos.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static void tzdbFirstCall(byte[] tzdb) {
+        ZoneRules[] list = new ZoneRules[SIZE];
+        long load = 0;
+        long first = 0;
+        for (int i = 0; i < SIZE; i++) {
+            long start = System.nanoTime();
+            TzdbZoneRulesProvider provider = new TzdbZoneRulesProvider(new ByteArrayInputStream(tzdb));
+            long mid = System.nanoTime();
+            list[i] = provider.provideRules(ZONES[i % ZONES.length], true);
+            long end = System.nanoTime();
+            load += mid - start;
+            first += end - mid;
+        }
+        System.out.println("TZDB-Dat: Load:   " + NF.format(load / SIZE) + " ns, first call: " + NF.format(first / SIZE) + " ns " + list[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void generatedFirstCall(Class<?> generated) throws Exception {
+        ZoneRules[] list = new ZoneRules[SIZE];
+        long load = 0;
+        long first = 0;
+        for (int i = 0; i < SIZE; i++) {
+            long start = System.nanoTime();
+            ZoneRulesProvider provider = (ZoneRulesProvider) generated.newInstance();
+            long mid = System.nanoTime();
+            list[i] = provider.provideRules(ZONES[i % ZONES.length], true);
+            long end = System.nanoTime();
+            load += mid - start;
+            first += end - mid;
+        }
+        System.out.println("TZDB-Gen: Load:   " + NF.format(load / SIZE) + " ns, first call: " + NF.format(first / SIZE) + " ns " + list[0]);
+    }
+
+}
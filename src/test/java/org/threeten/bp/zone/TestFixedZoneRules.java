@@ -116,6 +116,30 @@ public class TestFixedZoneRules {
         assertEquals(test.getOffset((Instant) null), expectedOffset);
     }
 
+    @Test(dataProvider="rules")
+    public void test_getOffsetTotalSeconds_long(ZoneRules test, ZoneOffset expectedOffset) {
+        assertEquals(test.getOffsetTotalSeconds(INSTANT.getEpochSecond()), expectedOffset.getTotalSeconds());
+        assertEquals(test.getStandardOffsetTotalSeconds(INSTANT.getEpochSecond()), expectedOffset.getTotalSeconds());
+        assertEquals(test.isDaylightSavings(INSTANT.getEpochSecond()), false);
+    }
+
+    @Test(dataProvider="rules")
+    public void test_getOffsetTotalSeconds_bulk(ZoneRules test, ZoneOffset expectedOffset) {
+        long[] epochSecs = {0, INSTANT.getEpochSecond(), -1};
+        int[] offsets = new int[3];
+        test.getOffsetTotalSeconds(epochSecs, 1, 3, offsets);
+        assertEquals(offsets[0], 0);
+        assertEquals(offsets[1], expectedOffset.getTotalSeconds());
+        assertEquals(offsets[2], expectedOffset.getTotalSeconds());
+        test.getOffsetTotalSecondsOfEpochMilli(epochSecs, 0, 1, offsets);
+        assertEquals(offsets[0], expectedOffset.getTotalSeconds());
+    }
+
+    @Test(dataProvider="rules")
+    public void test_transitionIterator(ZoneRules test, ZoneOffset expectedOffset) {
+        assertEquals(test.transitionIterator(Instant.MIN, Instant.MAX).hasNext(), false);
+    }
+
     @Test(dataProvider="rules")
     public void test_getOffset_LocalDateTime(ZoneRules test, ZoneOffset expectedOffset) {
         assertEquals(test.getOffset(LDT), expectedOffset);
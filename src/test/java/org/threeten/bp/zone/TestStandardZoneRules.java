@@ -45,6 +45,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.testng.annotations.Test;
+import org.threeten.bp.CacheStatistics;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
@@ -94,6 +95,69 @@ public class TestStandardZoneRules {
         assertEquals(result, test);
     }
     
+    //-----------------------------------------------------------------------
+    // ofTransitions()
+    //-----------------------------------------------------------------------
+    public void test_ofTransitions_loaded() {
+        assertOfTransitions(europeLondon());
+        assertOfTransitions(europeParis());
+        assertOfTransitions(americaNewYork());
+        assertOfTransitions(etcGmt());
+    }
+
+    private void assertOfTransitions(ZoneRules rules) {
+        StandardZoneRules test = (StandardZoneRules) rules;
+        ZoneRules result = ZoneRules.ofTransitions(
+                test.getStandardTransitionArray(), totalSeconds(test.getStandardOffsetArray()),
+                test.getSavingsTransitionArray(), totalSeconds(test.getWallOffsetArray()),
+                test.getLastRulesArray());
+        assertEquals(result, test);
+        assertEquals(result.getTransitions(), test.getTransitions());
+        assertEquals(result.getTransitionRules(), test.getTransitionRules());
+    }
+
+    private int[] totalSeconds(ZoneOffset[] offsets) {
+        int[] result = new int[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            result[i] = offsets[i].getTotalSeconds();
+        }
+        return result;
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofTransitions_badOffsetLength() {
+        ZoneRules.ofTransitions(new long[] {0L}, new int[] {0}, new long[0], new int[] {0}, new ZoneOffsetTransitionRule[0]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofTransitions_standardTransitionsUnsorted() {
+        ZoneRules.ofTransitions(new long[] {100L, 50L}, new int[] {0, 3600, 0},
+                new long[0], new int[] {0}, new ZoneOffsetTransitionRule[0]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofTransitions_savingsTransitionsDuplicate() {
+        ZoneRules.ofTransitions(new long[0], new int[] {0},
+                new long[] {100L, 100L}, new int[] {0, 3600, 0}, new ZoneOffsetTransitionRule[0]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofTransitions_standardOffsetOutOfRange() {
+        ZoneRules.ofTransitions(new long[0], new int[] {18 * 3600 + 1},
+                new long[0], new int[] {0}, new ZoneOffsetTransitionRule[0]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_ofTransitions_wallOffsetOutOfRange() {
+        ZoneRules.ofTransitions(new long[0], new int[] {0},
+                new long[] {100L}, new int[] {0, -18 * 3600 - 1}, new ZoneOffsetTransitionRule[0]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofTransitions_nullRule() {
+        ZoneRules.ofTransitions(new long[0], new int[] {0}, new long[0], new int[] {0}, new ZoneOffsetTransitionRule[1]);
+    }
+
     //-----------------------------------------------------------------------
     // Etc/GMT
     //-----------------------------------------------------------------------
@@ -903,6 +967,226 @@ public class TestStandardZoneRules {
         assertEquals(test.nextTransition(last.getInstant()), null);
     }
 
+    //-----------------------------------------------------------------------
+    // getOffset(Instant) lookup table
+    //-----------------------------------------------------------------------
+    public void test_getOffset_lookupMatchesTransitions() {
+        String[] zones = {"Europe/London", "America/New_York", "Australia/Sydney", "Africa/Casablanca", "Asia/Kathmandu"};
+        Instant end = createInstant(2101, 1, 1, ZoneOffset.UTC);
+        for (String zone : zones) {
+            ZoneRules test = ZoneId.of(zone).getRules();
+            Instant instant = createInstant(1969, 12, 1, ZoneOffset.UTC);
+            ZoneOffsetTransition trans = test.nextTransition(instant);
+            while (trans != null && trans.getInstant().isBefore(end)) {
+                assertEquals(test.getOffset(trans.getInstant().minusSeconds(1)), trans.getOffsetBefore());
+                assertEquals(test.getOffset(trans.getInstant()), trans.getOffsetAfter());
+                trans = test.nextTransition(trans.getInstant());
+            }
+        }
+    }
+
+    public void test_getOffset_lookupBoundaries() {
+        ZoneRules test = europeLondon();
+        assertEquals(test.getOffset(createInstant(1969, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC)), OFFSET_PONE);
+        assertEquals(test.getOffset(createInstant(1970, 1, 1, ZoneOffset.UTC)), OFFSET_PONE);
+        assertEquals(test.getOffset(createInstant(2100, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC)), OFFSET_ZERO);
+        assertEquals(test.getOffset(createInstant(2101, 1, 1, ZoneOffset.UTC)), OFFSET_ZERO);
+        assertEquals(test.getOffset(createInstant(2101, 7, 1, ZoneOffset.UTC)), OFFSET_PONE);
+    }
+
+    public void test_getOffsetTotalSeconds_long() {
+        String[] zones = {"Europe/London", "America/New_York", "Asia/Kathmandu"};
+        for (String zone : zones) {
+            ZoneRules test = ZoneId.of(zone).getRules();
+            for (long epochSec = -5000000000L; epochSec < 5000000000L; epochSec += 86400L * 7 + 3601) {
+                Instant instant = Instant.ofEpochSecond(epochSec);
+                assertEquals(test.getOffsetTotalSeconds(epochSec), test.getOffset(instant).getTotalSeconds());
+                assertEquals(test.getStandardOffsetTotalSeconds(epochSec), test.getStandardOffset(instant).getTotalSeconds());
+                assertEquals(test.isDaylightSavings(epochSec), test.isDaylightSavings(instant));
+            }
+        }
+    }
+
+    public void test_getOffsetTotalSeconds_bulk() {
+        ZoneRules test = americaNewYork();
+        long[] epochSecs = new long[4000];
+        for (int i = 0; i < epochSecs.length; i++) {
+            epochSecs[i] = -4000000000L + i * 2600000L + (i % 3) * 7200L;
+        }
+        epochSecs[epochSecs.length / 2] = 0;  // out of order
+        int[] offsets = new int[epochSecs.length];
+        test.getOffsetTotalSeconds(epochSecs, 1, epochSecs.length, offsets);
+        assertEquals(offsets[0], 0);
+        for (int i = 1; i < epochSecs.length; i++) {
+            assertEquals(offsets[i], test.getOffsetTotalSeconds(epochSecs[i]));
+        }
+    }
+
+    public void test_getOffsetTotalSecondsOfEpochMilli_bulk() {
+        ZoneRules test = europeLondon();
+        long[] epochMillis = new long[2000];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = 4000000000000L - i * 3100000001L;
+        }
+        int[] offsets = new int[epochMillis.length];
+        test.getOffsetTotalSecondsOfEpochMilli(epochMillis, 0, epochMillis.length, offsets);
+        for (int i = 0; i < epochMillis.length; i++) {
+            assertEquals(offsets[i], test.getOffset(Instant.ofEpochMilli(epochMillis[i])).getTotalSeconds());
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_getOffsetTotalSeconds_bulk_badRange() {
+        europeLondon().getOffsetTotalSeconds(new long[4], 0, 4, new int[3]);
+    }
+
+    //-----------------------------------------------------------------------
+    // transitionIterator()
+    //-----------------------------------------------------------------------
+    public void test_transitionIterator_matchesNextTransition() {
+        String[] zones = {"Europe/London", "America/New_York", "Asia/Kathmandu", "Etc/GMT", "Africa/Casablanca"};
+        Instant start = createInstant(1800, 1, 1, ZoneOffset.UTC);
+        Instant end = createInstant(2200, 1, 1, ZoneOffset.UTC);
+        for (String zone : zones) {
+            ZoneRules test = ZoneId.of(zone).getRules();
+            Iterator<ZoneOffsetTransition> it = test.transitionIterator(start, end);
+            ZoneOffsetTransition expected = test.nextTransition(start);
+            while (expected != null && expected.getInstant().isBefore(end)) {
+                assertTrue(it.hasNext());
+                assertEquals(it.next(), expected);
+                expected = test.nextTransition(expected.getInstant());
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    public void test_transitionIterator_bounds() {
+        ZoneRules test = europeLondon();
+        ZoneOffsetTransition first = test.nextTransition(createInstant(2030, 1, 1, ZoneOffset.UTC));
+        ZoneOffsetTransition second = test.nextTransition(first.getInstant());
+        Iterator<ZoneOffsetTransition> it = test.transitionIterator(first.getInstant(), second.getInstant());
+        assertEquals(it.next(), first);
+        assertFalse(it.hasNext());
+        it = test.transitionIterator(first.getInstant().plusNanos(1), second.getInstant().plusNanos(1));
+        assertEquals(it.next(), second);
+        assertFalse(it.hasNext());
+        it = test.transitionIterator(second.getInstant(), first.getInstant());
+        assertFalse(it.hasNext());
+    }
+
+    public void test_transitionIterator_historicToRules() {
+        ZoneRules test = americaNewYork();
+        List<ZoneOffsetTransition> historic = test.getTransitions();
+        ZoneOffsetTransition last = historic.get(historic.size() - 1);
+        Iterator<ZoneOffsetTransition> it = test.transitionIterator(last.getInstant(), Instant.MAX);
+        assertEquals(it.next(), last);
+        ZoneOffsetTransition next = it.next();
+        assertEquals(next, test.nextTransition(last.getInstant()));
+        assertEquals(it.next(), test.nextTransition(next.getInstant()));
+    }
+
+    public void test_transitionIterator_default() {
+        ZoneRules rules = americaNewYork();
+        ZoneRules test = new DelegatingRules(rules);
+        Instant start = createInstant(1800, 1, 1, ZoneOffset.UTC);
+        Instant end = createInstant(2200, 1, 1, ZoneOffset.UTC);
+        Iterator<ZoneOffsetTransition> expected = rules.transitionIterator(start, end);
+        Iterator<ZoneOffsetTransition> it = test.transitionIterator(start, end);
+        while (expected.hasNext()) {
+            assertTrue(it.hasNext());
+            assertEquals(it.next(), expected.next());
+        }
+        assertFalse(it.hasNext());
+
+        ZoneOffsetTransition first = rules.nextTransition(createInstant(2030, 1, 1, ZoneOffset.UTC));
+        ZoneOffsetTransition second = rules.nextTransition(first.getInstant());
+        it = test.transitionIterator(first.getInstant(), second.getInstant());
+        assertEquals(it.next(), first);
+        assertFalse(it.hasNext());
+        it = test.transitionIterator(first.getInstant().plusNanos(1), second.getInstant().plusNanos(1));
+        assertEquals(it.next(), second);
+        assertFalse(it.hasNext());
+        assertTrue(test.transitionIterator(Instant.MIN, Instant.MAX).hasNext());
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_transitionIterator_remove() {
+        Iterator<ZoneOffsetTransition> it = europeLondon().transitionIterator(Instant.EPOCH, Instant.MAX);
+        it.next();
+        it.remove();
+    }
+
+    //-----------------------------------------------------------------------
+    // last rules cache
+    //-----------------------------------------------------------------------
+    public void test_lastRulesCache_fillsAndMisses() {
+        StandardZoneRules test = (StandardZoneRules) ZoneId.of("America/Havana").getRules();
+        LocalDateTime dt = LocalDateTime.of(2050, 6, 1, 12, 0);
+        ZoneOffset offset = test.getOffset(dt);
+        long fills = test.getLastRulesCacheFills();
+        long misses = test.getLastRulesCacheMisses();
+        assertTrue(fills > 0);
+        assertEquals(test.getOffset(dt), offset);
+        assertEquals(test.getLastRulesCacheFills(), fills);
+        assertEquals(test.getLastRulesCacheMisses(), misses);
+
+        LocalDateTime far = LocalDateTime.of(9000, 6, 1, 12, 0);
+        assertEquals(test.getOffset(far), offset);
+        assertEquals(test.getOffset(far), offset);
+        assertTrue(test.getLastRulesCacheMisses() >= misses + 2);
+        assertEquals(test.getLastRulesCacheFills(), fills);
+    }
+
+    public void test_lastRulesCache_statistics() {
+        ZoneRules test = ZoneId.of("America/Havana").getRules();
+        LocalDateTime dt = LocalDateTime.of(2060, 6, 1, 12, 0);
+        test.getOffset(dt);
+        CacheStatistics before = ZoneRules.getTransitionCacheStatistics();
+        test.getOffset(dt);
+        CacheStatistics after = ZoneRules.getTransitionCacheStatistics();
+        assertTrue(after.getHitCount() > before.getHitCount());
+        assertTrue(after.getMissCount() >= before.getMissCount());
+        assertEquals(after.getEvictionCount(), 0);
+
+        test.getOffset(LocalDateTime.of(9000, 6, 1, 12, 0));
+        assertTrue(ZoneRules.getTransitionCacheStatistics().getMissCount() > after.getMissCount());
+    }
+
+    //-----------------------------------------------------------------------
+    // getOffsetInfo(LocalDateTime) shared results
+    //-----------------------------------------------------------------------
+    public void test_getTransition_historicShared() {
+        ZoneRules test = europeLondon();
+        LocalDateTime gap = LocalDateTime.of(1980, 3, 16, 2, 30);
+        ZoneOffsetTransition trans = test.getTransition(gap);
+        assertEquals(trans.isGap(), true);
+        assertTrue(test.getTransition(gap) == trans);
+        LocalDateTime overlap = LocalDateTime.of(1980, 10, 26, 2, 30);
+        trans = test.getTransition(overlap);
+        assertEquals(trans.isOverlap(), true);
+        assertTrue(test.getTransition(overlap) == trans);
+    }
+
+    public void test_getValidOffsets_shared() {
+        ZoneRules test = europeLondon();
+        List<ZoneOffset> offsets = test.getValidOffsets(createLDT(1980, 1, 1));
+        assertEquals(offsets.size(), 1);
+        assertTrue(test.getValidOffsets(createLDT(1981, 1, 1)) == offsets);
+        assertTrue(test.getValidOffsets(createLDT(2015, 1, 1)) == offsets);
+    }
+
+    public void test_isValidOffset() {
+        ZoneRules test = europeLondon();
+        assertEquals(test.isValidOffset(createLDT(1980, 1, 1), OFFSET_ZERO), true);
+        assertEquals(test.isValidOffset(createLDT(1980, 1, 1), OFFSET_PONE), false);
+        assertEquals(test.isValidOffset(createLDT(1980, 1, 1), null), false);
+        assertEquals(test.isValidOffset(LocalDateTime.of(1980, 3, 16, 2, 30), OFFSET_ZERO), false);
+        assertEquals(test.isValidOffset(LocalDateTime.of(1980, 3, 16, 2, 30), OFFSET_PONE), false);
+        assertEquals(test.isValidOffset(LocalDateTime.of(1980, 10, 26, 2, 30), OFFSET_ZERO), true);
+        assertEquals(test.isValidOffset(LocalDateTime.of(1980, 10, 26, 2, 30), OFFSET_PONE), true);
+        assertEquals(test.isValidOffset(LocalDateTime.of(1980, 10, 26, 2, 30), OFFSET_PTWO), false);
+    }
+
     //-------------------------------------------------------------------------
     @Test(expectedExceptions=UnsupportedOperationException.class)
     public void test_getTransitions_immutable() {
@@ -987,4 +1271,77 @@ public class TestStandardZoneRules {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Rules that delegate all but the transition iterator, to test the default.
+     */
+    private static final class DelegatingRules extends ZoneRules {
+        private final ZoneRules rules;
+
+        DelegatingRules(ZoneRules rules) {
+            this.rules = rules;
+        }
+
+        @Override
+        public boolean isFixedOffset() {
+            return rules.isFixedOffset();
+        }
+        @Override
+        public ZoneOffset getOffset(Instant instant) {
+            return rules.getOffset(instant);
+        }
+        @Override
+        public ZoneOffset getOffset(LocalDateTime localDateTime) {
+            return rules.getOffset(localDateTime);
+        }
+        @Override
+        public List<ZoneOffset> getValidOffsets(LocalDateTime localDateTime) {
+            return rules.getValidOffsets(localDateTime);
+        }
+        @Override
+        public ZoneOffsetTransition getTransition(LocalDateTime localDateTime) {
+            return rules.getTransition(localDateTime);
+        }
+        @Override
+        public ZoneOffset getStandardOffset(Instant instant) {
+            return rules.getStandardOffset(instant);
+        }
+        @Override
+        public Duration getDaylightSavings(Instant instant) {
+            return rules.getDaylightSavings(instant);
+        }
+        @Override
+        public boolean isDaylightSavings(Instant instant) {
+            return rules.isDaylightSavings(instant);
+        }
+        @Override
+        public boolean isValidOffset(LocalDateTime localDateTime, ZoneOffset offset) {
+            return rules.isValidOffset(localDateTime, offset);
+        }
+        @Override
+        public ZoneOffsetTransition nextTransition(Instant instant) {
+            return rules.nextTransition(instant);
+        }
+        @Override
+        public ZoneOffsetTransition previousTransition(Instant instant) {
+            return rules.previousTransition(instant);
+        }
+        @Override
+        public List<ZoneOffsetTransition> getTransitions() {
+            return rules.getTransitions();
+        }
+        @Override
+        public List<ZoneOffsetTransitionRule> getTransitionRules() {
+            return rules.getTransitionRules();
+        }
+        @Override
+        public boolean equals(Object otherRules) {
+            return this == otherRules;
+        }
+        @Override
+        public int hashCode() {
+            return rules.hashCode();
+        }
+    }
+
 }
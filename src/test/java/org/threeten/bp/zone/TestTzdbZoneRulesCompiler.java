@@ -32,19 +32,32 @@
 package org.threeten.bp.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.SortedMap;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.Year;
+import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.zone.TzdbZoneRulesCompiler.LeapSecondRule;
 import org.threeten.bp.zone.TzdbZoneRulesCompiler.TZDBMonthDayTime;
 import org.threeten.bp.zone.TzdbZoneRulesCompiler.TZDBRule;
@@ -457,4 +470,71 @@ public class TestTzdbZoneRulesCompiler {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // outputProviderSource()
+    //-----------------------------------------------------------------------
+    public void test_outputProviderSource() throws Exception {
+        SortedMap<String, ZoneRules> zones = new TreeMap<String, ZoneRules>();
+        for (String zoneId : new String[] {"Europe/London", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "Etc/GMT+5"}) {
+            zones.put(zoneId, ZoneRulesProvider.getRules(zoneId, false));
+        }
+        zones.put("Test/Fixed", ZoneRules.of(ZoneOffset.ofHoursMinutes(5, 45)));
+        ZoneRulesProvider test = compileProvider("org.threeten.bp.generated.TestProvider", "2999a", zones);
+        assertEquals(test.provideZoneIds(), zones.keySet());
+        for (String zoneId : zones.keySet()) {
+            ZoneRules rules = test.provideRules(zoneId, true);
+            assertEquals(rules, zones.get(zoneId));
+            assertTrue(test.provideRules(zoneId, true) == rules);
+            assertEquals(test.provideVersions(zoneId).get("2999a"), rules);
+        }
+        assertEquals(test.provideVersions("Europe/Paris").size(), 0);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_outputProviderSource_unknownId() throws Exception {
+        SortedMap<String, ZoneRules> zones = new TreeMap<String, ZoneRules>();
+        zones.put("Europe/London", ZoneRulesProvider.getRules("Europe/London", false));
+        compileProvider("TestDefaultPackageProvider", "2999a", zones).provideRules("Europe/Paris", true);
+    }
+
+    /**
+     * Generates, compiles and loads a provider, skipping the test if no compiler is available.
+     */
+    static ZoneRulesProvider compileProvider(String className, String version, SortedMap<String, ZoneRules> zones) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new SkipException("No Java compiler available");
+        }
+        File dir = File.createTempFile("TzdbProvider", "");
+        dir.delete();
+        dir.mkdir();
+        try {
+            File srcFile = new File(dir, className.replace('.', File.separatorChar) + ".java");
+            srcFile.getParentFile().mkdirs();
+            Writer writer = new OutputStreamWriter(new FileOutputStream(srcFile), "UTF-8");
+            try {
+                TzdbZoneRulesCompiler.outputProviderSource(writer, className, version, zones);
+            } finally {
+                writer.close();
+            }
+            String classPath = new File(ZoneRulesProvider.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+            int result = compiler.run(null, null, null, "-nowarn", "-cp", classPath, "-d", dir.getPath(), srcFile.getPath());
+            assertEquals(result, 0);
+            URLClassLoader loader = new URLClassLoader(new URL[] {dir.toURI().toURL()}, ZoneRulesProvider.class.getClassLoader());
+            return (ZoneRulesProvider) loader.loadClass(className).newInstance();
+        } finally {
+            delete(dir);
+        }
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test TzdbZoneRulesProvider.
+ */
+@Test
+public class TestTzdbZoneRulesProvider {
+
+    private File dataFile() throws Exception {
+        URL url = TzdbZoneRulesProvider.class.getClassLoader().getResource("org/threeten/bp/TZDB.dat");
+        return new File(url.toURI());
+    }
+
+    //-----------------------------------------------------------------------
+    // memory-mapped file
+    //-----------------------------------------------------------------------
+    public void test_mappedFile_rules() throws Exception {
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dataFile());
+        assertTrue(test.provideZoneIds().contains("Europe/London"));
+        for (String zoneId : test.provideZoneIds()) {
+            assertEquals(test.provideRules(zoneId, true), ZoneRulesProvider.getRules(zoneId, true));
+        }
+    }
+
+    public void test_mappedFile_rulesCached() throws Exception {
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(dataFile());
+        ZoneRules rules = test.provideRules("America/New_York", true);
+        assertTrue(test.provideRules("America/New_York", true) == rules);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_mappedFile_unknownId() throws Exception {
+        new TzdbZoneRulesProvider(dataFile()).provideRules("Europe/Lon", true);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_mappedFile_missing() {
+        new TzdbZoneRulesProvider(new File("NotAFile.dat"));
+    }
+
+    //-----------------------------------------------------------------------
+    // data formats
+    //-----------------------------------------------------------------------
+    // the rules are read from the data file, as other tests register providers concurrently
+    private SortedMap<String, ZoneRules> latestRules() throws Exception {
+        TzdbZoneRulesProvider source = new TzdbZoneRulesProvider(dataFile());
+        SortedMap<String, ZoneRules> latest = new TreeMap<String, ZoneRules>();
+        for (String zoneId : source.provideZoneIds()) {
+            latest.put(zoneId, source.provideRules(zoneId, false));
+        }
+        return latest;
+    }
+
+    private byte[] compile(int format) throws Exception {
+        SortedMap<String, ZoneRules> latest = latestRules();
+        SortedMap<String, ZoneRules> older = new TreeMap<String, ZoneRules>(latest);
+        older.remove("Europe/London");
+        older.put("Europe/Paris", latest.get("Europe/Berlin"));
+        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        allBuiltZones.put("1999a", older);
+        allBuiltZones.put("2999a", latest);
+        Set<ZoneRules> allRules = new HashSet<ZoneRules>(latest.values());
+        allRules.addAll(older.values());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        TzdbZoneRulesCompiler.outputTzdbDat(baos, allBuiltZones, new TreeSet<String>(latest.keySet()), allRules, format);
+        return baos.toByteArray();
+    }
+
+    private void assertFormat(TzdbZoneRulesProvider test) throws Exception {
+        SortedMap<String, ZoneRules> latest = latestRules();
+        assertEquals(test.provideZoneIds(), latest.keySet());
+        for (String zoneId : test.provideZoneIds()) {
+            assertEquals(test.provideRules(zoneId, true), latest.get(zoneId));
+        }
+        NavigableMap<String, ZoneRules> london = test.provideVersions("Europe/London");
+        assertEquals(london.keySet(), new TreeSet<String>(Arrays.asList("2999a")));
+        NavigableMap<String, ZoneRules> paris = test.provideVersions("Europe/Paris");
+        assertEquals(paris.size(), 2);
+        assertEquals(paris.get("1999a"), latest.get("Europe/Berlin"));
+        assertEquals(paris.get("2999a"), latest.get("Europe/Paris"));
+        assertNull(test.provideVersions("Europe/Lon").get("2999a"));
+    }
+
+    public void test_format1() throws Exception {
+        byte[] bytes = compile(1);
+        assertEquals(bytes[0], 1);
+        assertFormat(new TzdbZoneRulesProvider(new ByteArrayInputStream(bytes)));
+    }
+
+    public void test_format2() throws Exception {
+        byte[] bytes = compile(2);
+        assertEquals(bytes[0], 2);
+        assertFormat(new TzdbZoneRulesProvider(new ByteArrayInputStream(bytes)));
+    }
+
+    public void test_format2_mappedFile() throws Exception {
+        File file = File.createTempFile("TZDB", ".dat");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(compile(2));
+            } finally {
+                out.close();
+            }
+            assertFormat(new TzdbZoneRulesProvider(file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_format2_unknownId() throws Exception {
+        new TzdbZoneRulesProvider(new ByteArrayInputStream(compile(2))).provideRules("Europe/Lon", true);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_format_unknown() throws Exception {
+        byte[] bytes = compile(2);
+        bytes[0] = 3;
+        new TzdbZoneRulesProvider(new ByteArrayInputStream(bytes));
+    }
+
+}